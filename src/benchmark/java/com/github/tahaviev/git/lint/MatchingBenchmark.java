@@ -0,0 +1,115 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures matching throughput of {@link Mismatches} and
+ * {@link ParallelMismatches} over synthetic subjects.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class MatchingBenchmark {
+
+    /**
+     * Subjects count.
+     */
+    @Param({"1000", "100000"})
+    private int subjects;
+
+    /**
+     * Pattern complexity: {@code simple} or {@code complex}.
+     */
+    @Param({"simple", "complex"})
+    private String complexity;
+
+    /**
+     * Matcher threads.
+     */
+    @Param({"1", "4"})
+    private int threads;
+
+    /**
+     * Corpus.
+     */
+    private List<String> corpus;
+
+    /**
+     * Rules.
+     */
+    private Rules rules;
+
+    /**
+     * Prepares corpus and rules.
+     */
+    @Setup
+    public void setUp() {
+        this.corpus = new SyntheticSubjects(this.subjects).get();
+        if ("complex".equals(this.complexity)) {
+            this.rules = new Rules(SyntheticSubjects.COMPLEX);
+        } else {
+            this.rules = new Rules(SyntheticSubjects.SIMPLE);
+        }
+    }
+
+    /**
+     * Finds mismatches.
+     *
+     * @return mismatches
+     */
+    @Benchmark
+    public Collection<String> mismatches() {
+        final Collection<String> result;
+        if (this.threads > 1) {
+            result = new ParallelMismatches<>(
+                () -> this.corpus, this.rules, this.threads
+            )
+                .get();
+        } else {
+            result = new Mismatches<>(() -> this.corpus, this.rules).get();
+        }
+        return result;
+    }
+
+}
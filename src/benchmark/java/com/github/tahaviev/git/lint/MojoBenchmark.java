@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures end-to-end latency of {@link MessagesMojo} on a synthetic
+ * repository.
+ * <p>
+ * Each iteration lints a freshly imported repository once, so neither the
+ * shared result nor the watermark of a previous run is reused.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(1)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5)
+public class MojoBenchmark {
+
+    /**
+     * Commits count.
+     */
+    @Param({"1000", "10000"})
+    private int commits;
+
+    /**
+     * Commit messages reader.
+     */
+    @Param({"process", "objects"})
+    private String reader;
+
+    /**
+     * Repository directory.
+     */
+    private File directory;
+
+    /**
+     * Imports repository.
+     *
+     * @throws IOException if fails
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("benchmark").toFile();
+        new SyntheticRepository(
+            this.directory, new SyntheticSubjects(this.commits).get()
+        )
+            .run();
+    }
+
+    /**
+     * Deletes repository.
+     *
+     * @throws IOException if fails
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).forEach(
+                path -> path.toFile().delete()
+            );
+        }
+    }
+
+    /**
+     * Lints repository.
+     *
+     * @return failure message
+     * @throws MojoExecutionException if configuration is invalid
+     */
+    @Benchmark
+    public String lint() throws MojoExecutionException {
+        final MessagesMojo mojo = new MessagesMojo();
+        mojo.setDirectory(this.directory);
+        mojo.setIncremental(false);
+        mojo.setParent("master");
+        mojo.setPattern(SyntheticSubjects.SIMPLE);
+        mojo.setReader(this.reader);
+        mojo.setEngine("java");
+        mojo.setThreads(1);
+        String message = "";
+        try {
+            mojo.execute();
+        } catch (final MojoFailureException ex) {
+            message = ex.getMessage();
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures line reading throughput of {@link LinesFromProcess} and
+ * {@link LazyLinesFromProcess} from a fake succeeded process.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+public class ReadingBenchmark {
+
+    /**
+     * Lines count.
+     */
+    @Param({"1000", "100000"})
+    private int lines;
+
+    /**
+     * Process output.
+     */
+    private String output;
+
+    /**
+     * Prepares process output.
+     */
+    @Setup
+    public void setUp() {
+        this.output = String.join(
+            "\n", new SyntheticSubjects(this.lines).get()
+        );
+    }
+
+    /**
+     * Reads buffered lines.
+     *
+     * @return lines count
+     */
+    @Benchmark
+    public int buffered() {
+        return new LinesFromProcess(
+            new SucceedProcess(() -> new FakeSucceedProcess(this.output))
+        )
+            .get()
+            .size();
+    }
+
+    /**
+     * Reads lazy lines.
+     *
+     * @return characters count
+     */
+    @Benchmark
+    public int lazy() {
+        int count = 0;
+        for (
+            final CharSequence line : new LazyLinesFromProcess(
+                new SucceedProcess(() -> new FakeSucceedProcess(this.output))
+            )
+                .get()
+        ) {
+            count += line.length();
+        }
+        return count;
+    }
+
+}
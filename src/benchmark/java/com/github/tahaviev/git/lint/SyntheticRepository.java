@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents git repository on branch {@code branch} with provided commit
+ * subjects made on top of {@code master}, imported by {@code git fast-import}.
+ */
+@RequiredArgsConstructor
+public final class SyntheticRepository implements Runnable {
+
+    /**
+     * Timestamp of first commit.
+     */
+    private static final long EPOCH = 1_500_000_000L;
+
+    /**
+     * Repository directory.
+     */
+    private final File directory;
+
+    /**
+     * Commit subjects.
+     */
+    private final List<String> subjects;
+
+    @Override
+    @SneakyThrows
+    public void run() {
+        SyntheticRepository.execute(this.directory, "git", "init", "-q");
+        final Process process = new ProcessBuilder(
+            "git", "fast-import", "--quiet"
+        )
+            .directory(this.directory)
+            .inheritIO()
+            .redirectInput(ProcessBuilder.Redirect.PIPE)
+            .start();
+        try (
+            OutputStream stream = process.getOutputStream();
+            Writer writer = new OutputStreamWriter(
+                stream, StandardCharsets.UTF_8
+            )
+        ) {
+            SyntheticRepository.commit(
+                writer, "refs/heads/master", 0, "file"
+            );
+            for (int index = 0; index < this.subjects.size(); ++index) {
+                SyntheticRepository.commit(
+                    writer, "refs/heads/branch", index + 1,
+                    this.subjects.get(index)
+                );
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IOException("git fast-import failed");
+        }
+        SyntheticRepository.execute(
+            this.directory, "git", "symbolic-ref", "HEAD", "refs/heads/branch"
+        );
+    }
+
+    /**
+     * Writes commit to fast-import stream.
+     *
+     * @param writer fast-import stream
+     * @param ref branch
+     * @param index commit index
+     * @param subject commit subject
+     * @throws IOException if fails
+     */
+    private static void commit(final Writer writer, final String ref,
+        final int index, final String subject) throws IOException {
+        final byte[] message = subject.getBytes(StandardCharsets.UTF_8);
+        writer.write(
+            String.format(
+                "commit %s%ncommitter user <user@mail> %d +0000%ndata %d%n",
+                ref, SyntheticRepository.EPOCH + index, message.length
+            )
+        );
+        writer.write(String.format("%s%n", subject));
+        if (index == 1) {
+            writer.write(String.format("from refs/heads/master%n"));
+        }
+        writer.write(
+            String.format("M 644 inline file%ndata <<EOF%n%d%nEOF%n%n", index)
+        );
+    }
+
+    /**
+     * Executes command.
+     *
+     * @param directory working directory
+     * @param command command
+     * @throws IOException if fails
+     * @throws InterruptedException if interrupted
+     */
+    private static void execute(final File directory, final String... command)
+        throws IOException, InterruptedException {
+        if (
+            new ProcessBuilder(command)
+                .directory(directory)
+                .inheritIO()
+                .start()
+                .waitFor() != 0
+        ) {
+            throw new IOException(String.join(" ", command));
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents reproducible commit subjects, every tenth of them lacks a ticket
+ * number.
+ */
+@RequiredArgsConstructor
+public final class SyntheticSubjects implements Supplier<List<String>> {
+
+    /**
+     * Pattern matching every subject with ticket number.
+     */
+    public static final String SIMPLE = "#\\d+ .*";
+
+    /**
+     * Pattern with alternations, optional groups and repetitions matching
+     * every subject with ticket number.
+     */
+    public static final String COMPLEX = String.join(
+        "",
+        "#\\d+ (?:(?:feat|fix|docs|perf|refactor|test)",
+        "(?:\\([a-z]+\\))?!?: )?[A-Za-z]+(?: [a-z]+)*"
+    );
+
+    /**
+     * Seed of random generator.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Ratio of subjects without ticket number.
+     */
+    private static final int WRONG = 10;
+
+    /**
+     * Maximum words in subject.
+     */
+    private static final int WORDS = 12;
+
+    /**
+     * Conventional commit types.
+     */
+    private static final String[] TYPES = {
+        "", "feat: ", "fix(core): ", "docs: ", "perf(io)!: ", "test: ",
+    };
+
+    /**
+     * Vocabulary.
+     */
+    private static final String[] VOCABULARY = {
+        "add", "remove", "lint", "commit", "message", "pattern", "reader",
+        "object", "pack", "graph", "range", "parent", "branch", "cache",
+    };
+
+    /**
+     * Subjects count.
+     */
+    private final int count;
+
+    @Override
+    public List<String> get() {
+        final Random random = new Random(SyntheticSubjects.SEED);
+        final List<String> subjects = new ArrayList<>(this.count);
+        for (int index = 0; index < this.count; ++index) {
+            final StringBuilder subject = new StringBuilder();
+            if (index % SyntheticSubjects.WRONG != 0) {
+                subject.append('#').append(index).append(' ');
+            }
+            subject.append(
+                SyntheticSubjects.TYPES[
+                    random.nextInt(SyntheticSubjects.TYPES.length)
+                ]
+            );
+            subject.append("Update");
+            final int words = random.nextInt(SyntheticSubjects.WORDS);
+            for (int word = 0; word < words; ++word) {
+                subject.append(' ').append(
+                    SyntheticSubjects.VOCABULARY[
+                        random.nextInt(SyntheticSubjects.VOCABULARY.length)
+                    ]
+                );
+            }
+            subjects.add(subject.toString());
+        }
+        return subjects;
+    }
+
+}
@@ -0,0 +1,231 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Represents rules of text containing none of banned tokens.
+ * <p>
+ * Tokens are compiled once into Aho-Corasick automaton: trie of tokens with
+ * failure links, so text is scanned in a single pass in time linear to its
+ * length whatever the count of tokens. Tokens are found by the position of
+ * their ends, and of tokens ending at the same position the longest one.
+ */
+public final class BannedTokens implements Predicate<CharSequence> {
+
+    /**
+     * Banned tokens.
+     */
+    private final List<String> tokens;
+
+    /**
+     * Whether case is ignored.
+     */
+    private final boolean ignoring;
+
+    /**
+     * Sorted characters of transitions by state.
+     */
+    private final char[][] labels;
+
+    /**
+     * Target states of transitions by state.
+     */
+    private final int[][] targets;
+
+    /**
+     * State of the longest proper suffix in trie by state.
+     */
+    private final int[] failures;
+
+    /**
+     * Index of token found at state, negative if none, by state.
+     */
+    private final int[] outputs;
+
+    /**
+     * Ctor.
+     *
+     * @param banned banned tokens
+     * @param insensitive whether case is ignored
+     */
+    public BannedTokens(final Collection<String> banned,
+        final boolean insensitive) {
+        this.tokens = new ArrayList<>(banned);
+        this.ignoring = insensitive;
+        final List<SortedMap<Character, Integer>> trie = new ArrayList<>(1);
+        trie.add(new TreeMap<>());
+        final List<Integer> found = new ArrayList<>(1);
+        found.add(-1);
+        for (int token = 0; token < this.tokens.size(); ++token) {
+            this.grow(trie, found, token);
+        }
+        this.labels = new char[trie.size()][];
+        this.targets = new int[trie.size()][];
+        this.outputs = new int[trie.size()];
+        for (int state = 0; state < trie.size(); ++state) {
+            this.labels[state] = new char[trie.get(state).size()];
+            this.targets[state] = new int[trie.get(state).size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> edge
+                : trie.get(state).entrySet()) {
+                this.labels[state][index] = edge.getKey();
+                this.targets[state][index] = edge.getValue();
+                index += 1;
+            }
+            this.outputs[state] = found.get(state);
+        }
+        this.failures = new int[trie.size()];
+        this.link();
+    }
+
+    @Override
+    public boolean test(final CharSequence text) {
+        return !this.find(text).isPresent();
+    }
+
+    /**
+     * The first banned token found in text.
+     *
+     * @param text text
+     * @return banned token as configured, empty if none
+     */
+    public Optional<String> find(final CharSequence text) {
+        Optional<String> result = Optional.empty();
+        int state = 0;
+        for (int index = 0; index < text.length() && !result.isPresent();
+            ++index) {
+            final char character = this.folded(text.charAt(index));
+            int next = this.next(state, character);
+            while (next < 0 && state != 0) {
+                state = this.failures[state];
+                next = this.next(state, character);
+            }
+            state = Math.max(next, 0);
+            if (this.outputs[state] >= 0) {
+                result = Optional.of(this.tokens.get(this.outputs[state]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds token to trie.
+     *
+     * @param trie transitions by state
+     * @param found index of token ending at state by state
+     * @param token token index
+     */
+    private void grow(final List<SortedMap<Character, Integer>> trie,
+        final List<Integer> found, final int token) {
+        int state = 0;
+        for (final char character : this.tokens.get(token).toCharArray()) {
+            final Integer next = trie.get(state).get(this.folded(character));
+            if (next == null) {
+                trie.get(state).put(this.folded(character), trie.size());
+                state = trie.size();
+                trie.add(new TreeMap<>());
+                found.add(-1);
+            } else {
+                state = next;
+            }
+        }
+        if (found.get(state) < 0) {
+            found.set(state, token);
+        }
+    }
+
+    /**
+     * Links states to their failure states in breadth-first order, so tokens
+     * ending at suffixes of states are found at states without tokens of
+     * their own.
+     */
+    private void link() {
+        final Queue<Integer> queue = new ArrayDeque<>(this.failures.length);
+        for (final int child : this.targets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.remove();
+            for (int index = 0; index < this.labels[state].length; ++index) {
+                final int child = this.targets[state][index];
+                int failure = this.failures[state];
+                int next = this.next(failure, this.labels[state][index]);
+                while (next < 0 && failure != 0) {
+                    failure = this.failures[failure];
+                    next = this.next(failure, this.labels[state][index]);
+                }
+                this.failures[child] = Math.max(next, 0);
+                if (this.outputs[child] < 0) {
+                    this.outputs[child] = this.outputs[this.failures[child]];
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Transition of state.
+     *
+     * @param state state
+     * @param character character
+     * @return target state, negative if there is no transition
+     */
+    private int next(final int state, final char character) {
+        final int index = Arrays.binarySearch(this.labels[state], character);
+        int result = -1;
+        if (index >= 0) {
+            result = this.targets[state][index];
+        }
+        return result;
+    }
+
+    /**
+     * Character with case folded if case is ignored.
+     *
+     * @param character character
+     * @return character
+     */
+    private char folded(final char character) {
+        char result = character;
+        if (this.ignoring) {
+            result = Character.toLowerCase(Character.toUpperCase(character));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents signatures of batch of commits verified by one git process.
+ * <p>
+ * Signatures are status and key, as git formats them with {@code %G? %GK}.
+ */
+@RequiredArgsConstructor
+public final class BatchSignatures
+    implements Function<List<String>, Map<String, String>> {
+
+    /**
+     * Git repository directory.
+     */
+    private final File directory;
+
+    @Override
+    public Map<String, String> apply(final List<String> commits) {
+        final List<String> arguments = new ArrayList<>(
+            Arrays.asList(
+                "log", "-z", "--no-walk=unsorted", "--format=%H%x00%G?%x20%GK"
+            )
+        );
+        arguments.addAll(commits);
+        final Map<String, String> result = new HashMap<>(commits.size());
+        new CommitRecords(
+            new SucceedProcess(new GitProcess(this.directory, arguments))
+        )
+            .get()
+            .forEach(
+                record -> result.put(record.id(), record.text().toString())
+            );
+        return result;
+    }
+
+}
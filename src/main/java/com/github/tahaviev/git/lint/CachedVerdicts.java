@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Represents rules whose verdicts are kept in table, so commits linted
+ * once with the same rules are not matched again.
+ * <p>
+ * Mismatches can be left out of the table, since a mismatch of rules with
+ * match time budget may be the budget running out on a busy machine rather
+ * than a verdict of the message.
+ */
+public final class CachedVerdicts implements Predicate<CommitMessage> {
+
+    /**
+     * Verdicts table.
+     */
+    private final VerdictTable table;
+
+    /**
+     * Rules digest.
+     */
+    private final UUID digest;
+
+    /**
+     * Rules.
+     */
+    private final Predicate<? super CommitMessage> rules;
+
+    /**
+     * Whether mismatches are kept in table.
+     */
+    private final boolean mismatches;
+
+    /**
+     * Ctor.
+     *
+     * @param verdicts verdicts table
+     * @param code rules digest
+     * @param predicate rules
+     */
+    public CachedVerdicts(final VerdictTable verdicts, final UUID code,
+        final Predicate<? super CommitMessage> predicate) {
+        this(verdicts, code, predicate, true);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param verdicts verdicts table
+     * @param code rules digest
+     * @param predicate rules
+     * @param failures whether mismatches are kept in table
+     */
+    public CachedVerdicts(final VerdictTable verdicts, final UUID code,
+        final Predicate<? super CommitMessage> predicate,
+        final boolean failures) {
+        this.table = verdicts;
+        this.digest = code;
+        this.rules = predicate;
+        this.mismatches = failures;
+    }
+
+    @Override
+    public boolean test(final CommitMessage message) {
+        final byte[] id = new IdBytes(message.id()).get();
+        return this.table.verdict(id, this.digest).orElseGet(
+            () -> {
+                final boolean result = this.rules.test(message);
+                if (result || this.mismatches) {
+                    this.table.put(id, this.digest, result);
+                }
+                return result;
+            }
+        );
+    }
+
+}
@@ -0,0 +1,174 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+
+/**
+ * Represents set of characters as sorted disjoint inclusive ranges.
+ */
+public final class CharRanges {
+
+    /**
+     * Difference between ASCII lower and upper case letters.
+     */
+    private static final int CASE = 'a' - 'A';
+
+    /**
+     * Range bounds: lower and upper bound of each range.
+     */
+    private final char[] bounds;
+
+    /**
+     * Ctor.
+     *
+     * @param pairs lower and upper bound of each range, in any order
+     */
+    public CharRanges(final char... pairs) {
+        this.bounds = CharRanges.normalized(pairs);
+    }
+
+    /**
+     * Whether set contains character.
+     *
+     * @param character character
+     * @return whether character is in set
+     */
+    public boolean contains(final char character) {
+        boolean result = false;
+        for (int index = 0; index < this.bounds.length && !result; index += 2) {
+            result = character >= this.bounds[index]
+                && character <= this.bounds[index + 1];
+        }
+        return result;
+    }
+
+    /**
+     * Union with another set.
+     *
+     * @param other other set
+     * @return characters of both sets
+     */
+    public CharRanges union(final CharRanges other) {
+        final char[] pairs = Arrays.copyOf(
+            this.bounds, this.bounds.length + other.bounds.length
+        );
+        System.arraycopy(
+            other.bounds, 0, pairs, this.bounds.length, other.bounds.length
+        );
+        return new CharRanges(pairs);
+    }
+
+    /**
+     * Complement of set.
+     *
+     * @return characters not in set
+     */
+    public CharRanges complement() {
+        final StringBuilder pairs = new StringBuilder();
+        int next = Character.MIN_VALUE;
+        for (int index = 0; index < this.bounds.length; index += 2) {
+            if (this.bounds[index] > next) {
+                pairs.append((char) next)
+                    .append((char) (this.bounds[index] - 1));
+            }
+            next = this.bounds[index + 1] + 1;
+        }
+        if (next <= Character.MAX_VALUE) {
+            pairs.append((char) next).append(Character.MAX_VALUE);
+        }
+        return new CharRanges(pairs.toString().toCharArray());
+    }
+
+    /**
+     * Set with the other case of ASCII letters, the way
+     * {@link java.util.regex.Pattern#CASE_INSENSITIVE} matches them.
+     *
+     * @return set containing both cases of its ASCII letters
+     */
+    public CharRanges insensitive() {
+        final StringBuilder pairs = new StringBuilder(new String(this.bounds));
+        for (int index = 0; index < this.bounds.length; index += 2) {
+            CharRanges.shifted(
+                pairs, this.bounds[index], this.bounds[index + 1], 'a', 'z',
+                -CharRanges.CASE
+            );
+            CharRanges.shifted(
+                pairs, this.bounds[index], this.bounds[index + 1], 'A', 'Z',
+                CharRanges.CASE
+            );
+        }
+        return new CharRanges(pairs.toString().toCharArray());
+    }
+
+    /**
+     * Appends shifted intersection of ranges.
+     *
+     * @param pairs range bounds to append to
+     * @param lower lower bound of range
+     * @param upper upper bound of range
+     * @param first lower bound of letters
+     * @param last upper bound of letters
+     * @param shift shift to the other case
+     */
+    private static void shifted(final StringBuilder pairs, final char lower,
+        final char upper, final char first, final char last,
+        final int shift) {
+        final char from = (char) Math.max(lower, first);
+        final char until = (char) Math.min(upper, last);
+        if (from <= until) {
+            pairs.append((char) (from + shift)).append((char) (until + shift));
+        }
+    }
+
+    /**
+     * Sorts and merges ranges.
+     *
+     * @param pairs lower and upper bound of each range
+     * @return sorted disjoint range bounds
+     */
+    private static char[] normalized(final char[] pairs) {
+        final Integer[] order = new Integer[pairs.length / 2];
+        for (int index = 0; index < order.length; ++index) {
+            order[index] = index * 2;
+        }
+        Arrays.sort(order, (left, right) -> pairs[left] - pairs[right]);
+        final StringBuilder result = new StringBuilder();
+        for (final int index : order) {
+            final int last = result.length() - 1;
+            if (last > 0 && pairs[index] <= result.charAt(last) + 1) {
+                result.setCharAt(
+                    last,
+                    (char) Math.max(result.charAt(last), pairs[index + 1])
+                );
+            } else {
+                result.append(pairs[index]).append(pairs[index + 1]);
+            }
+        }
+        return result.toString().toCharArray();
+    }
+
+}
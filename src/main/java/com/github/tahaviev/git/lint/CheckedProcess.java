@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents process which fails on non zero exit code.
+ * <p>
+ * Error output is drained concurrently by the provided future, so the process
+ * never blocks on a full pipe. The exit code is checked when the process is
+ * awaited and when its output is read to the end.
+ */
+@RequiredArgsConstructor
+public final class CheckedProcess extends Process {
+
+    /**
+     * Origin process.
+     */
+    private final Process origin;
+
+    /**
+     * Drained error output.
+     */
+    private final Future<String> errors;
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this.origin.getOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new FilterInputStream(this.origin.getInputStream()) {
+
+            @Override
+            public int read() throws IOException {
+                return this.checked(super.read());
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset,
+                final int length) throws IOException {
+                return this.checked(super.read(bytes, offset, length));
+            }
+
+            /**
+             * Awaits process when end of stream is reached.
+             *
+             * @param result read result
+             * @return read result
+             */
+            private int checked(final int result) {
+                if (result < 0) {
+                    CheckedProcess.this.waitFor();
+                }
+                return result;
+            }
+        };
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return new ByteArrayInputStream(
+            this.drained().getBytes(Charset.defaultCharset())
+        );
+    }
+
+    @Override
+    @SneakyThrows
+    public int waitFor() {
+        final int code = this.origin.waitFor();
+        final String message = this.drained();
+        if (code != 0) {
+            throw new IOException(message);
+        }
+        return code;
+    }
+
+    @Override
+    public int exitValue() {
+        return this.origin.exitValue();
+    }
+
+    @Override
+    public void destroy() {
+        this.origin.destroy();
+    }
+
+    /**
+     * Error output.
+     *
+     * @return error output
+     */
+    @SneakyThrows
+    private String drained() {
+        try {
+            return this.errors.get();
+        } catch (final ExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+
+}
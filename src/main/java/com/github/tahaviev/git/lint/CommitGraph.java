@@ -0,0 +1,360 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents memory-mapped commit-graph, possibly split into a chain of
+ * layers.
+ * <p>
+ * Commits are addressed by their graph position, which is global across the
+ * chain: positions of a layer follow positions of all its base layers.
+ */
+public final class CommitGraph {
+
+    /**
+     * Graph signature.
+     */
+    private static final int SIGNATURE = 0x43475048;
+
+    /**
+     * Supported graph version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Supported hash version, SHA-1.
+     */
+    private static final int HASH = 1;
+
+    /**
+     * Header length.
+     */
+    private static final int HEADER = 8;
+
+    /**
+     * Offset of chunks count in header.
+     */
+    private static final int CHUNKS = 6;
+
+    /**
+     * Offset of base layers count in header.
+     */
+    private static final int BASES = 7;
+
+    /**
+     * Chunk table entry length.
+     */
+    private static final int CHUNK = 12;
+
+    /**
+     * Fan-out chunk id.
+     */
+    private static final int OIDF = 0x4f494446;
+
+    /**
+     * Object ids chunk id.
+     */
+    private static final int OIDL = 0x4f49444c;
+
+    /**
+     * Commit data chunk id.
+     */
+    private static final int CDAT = 0x43444154;
+
+    /**
+     * Extra edges chunk id.
+     */
+    private static final int EDGE = 0x45444745;
+
+    /**
+     * Object id length.
+     */
+    private static final int ID = 20;
+
+    /**
+     * Commit data entry length.
+     */
+    private static final int DATA = ID + 16;
+
+    /**
+     * Missing parent marker.
+     */
+    private static final int NONE = 0x70000000;
+
+    /**
+     * Extra edges flag.
+     */
+    private static final int EXTRA = 0x80000000;
+
+    /**
+     * Bits of commit time kept next to generation.
+     */
+    private static final int TIME_BITS = 2;
+
+    /**
+     * Mask of commit time bits kept next to generation.
+     */
+    private static final long TIME_MASK = 3L;
+
+    /**
+     * Mask of unsigned integer.
+     */
+    private static final long UNSIGNED = 0xffffffffL;
+
+    /**
+     * Layers, base first.
+     */
+    private final List<Layer> layers;
+
+    /**
+     * Ctor.
+     *
+     * @param files graph files, base first
+     */
+    @SneakyThrows
+    public CommitGraph(final List<MappedFile> files) {
+        final List<Layer> parsed = new ArrayList<>(files.size());
+        int base = 0;
+        for (final MappedFile file : files) {
+            final Layer layer = CommitGraph.layer(file, parsed.size(), base);
+            parsed.add(layer);
+            base += layer.ids.count();
+        }
+        this.layers = Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Position of commit.
+     *
+     * @param id commit id
+     * @return position or -1 if graph doesn't contain commit
+     */
+    public int position(final byte[] id) {
+        int result = -1;
+        for (int index = this.layers.size() - 1; index >= 0; --index) {
+            final Layer layer = this.layers.get(index);
+            final int position = layer.ids.position(id);
+            if (position >= 0) {
+                result = layer.base + position;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Commit id.
+     *
+     * @param position commit position
+     * @return hexadecimal commit id
+     */
+    public String id(final int position) {
+        final Layer layer = this.layer(position);
+        return layer.ids.id(position - layer.base);
+    }
+
+    /**
+     * Commit generation, which is greater than generations of its parents.
+     *
+     * @param position commit position
+     * @return generation
+     */
+    public int generation(final int position) {
+        return (int) (
+            this.date(position) >>> Integer.SIZE + CommitGraph.TIME_BITS
+        );
+    }
+
+    /**
+     * Commit time.
+     *
+     * @param position commit position
+     * @return committer timestamp in seconds
+     */
+    public long time(final int position) {
+        final long date = this.date(position);
+        return date & CommitGraph.UNSIGNED
+            | (date >>> Integer.SIZE & CommitGraph.TIME_MASK) << Integer.SIZE;
+    }
+
+    /**
+     * Commit parents.
+     *
+     * @param position commit position
+     * @return parent positions
+     */
+    public List<Integer> parents(final int position) {
+        final Layer layer = this.layer(position);
+        final long entry = layer.entry(position);
+        final List<Integer> result = new ArrayList<>(2);
+        final int first = layer.file.getInt(entry + CommitGraph.ID);
+        if (first != CommitGraph.NONE) {
+            result.add(first);
+        }
+        final int second = layer.file.getInt(
+            entry + CommitGraph.ID + Integer.BYTES
+        );
+        if ((second & CommitGraph.EXTRA) == 0) {
+            if (second != CommitGraph.NONE) {
+                result.add(second);
+            }
+        } else {
+            long edge = layer.edges
+                + (long) (second & ~CommitGraph.EXTRA) * Integer.BYTES;
+            int parent;
+            do {
+                parent = layer.file.getInt(edge);
+                result.add(parent & ~CommitGraph.EXTRA);
+                edge += Integer.BYTES;
+            } while ((parent & CommitGraph.EXTRA) == 0);
+        }
+        return result;
+    }
+
+    /**
+     * Generation and time of commit.
+     *
+     * @param position commit position
+     * @return generation and time as stored in commit data
+     */
+    private long date(final int position) {
+        final Layer layer = this.layer(position);
+        return layer.file.getLong(
+            layer.entry(position) + CommitGraph.ID + Integer.BYTES * 2
+        );
+    }
+
+    /**
+     * Layer containing position.
+     *
+     * @param position commit position
+     * @return layer
+     */
+    private Layer layer(final int position) {
+        int index = this.layers.size() - 1;
+        while (this.layers.get(index).base > position) {
+            index -= 1;
+        }
+        return this.layers.get(index);
+    }
+
+    /**
+     * Parses layer.
+     *
+     * @param file graph file
+     * @param index layer index in chain
+     * @param base first position of layer
+     * @return layer
+     * @throws IOException if graph is not supported
+     */
+    private static Layer layer(final MappedFile file, final int index,
+        final int base) throws IOException {
+        if (file.size() < CommitGraph.HEADER
+            || file.getInt(0) != CommitGraph.SIGNATURE
+            || file.get(Integer.BYTES) != CommitGraph.VERSION
+            || file.get(Integer.BYTES + 1) != CommitGraph.HASH
+            || file.get(CommitGraph.BASES) != index) {
+            throw new IOException("unsupported commit graph");
+        }
+        final Map<Integer, Long> chunks = new HashMap<>();
+        for (int chunk = 0; chunk < file.get(CommitGraph.CHUNKS); ++chunk) {
+            final long entry = CommitGraph.HEADER
+                + (long) chunk * CommitGraph.CHUNK;
+            chunks.put(file.getInt(entry), file.getLong(entry + Integer.BYTES));
+        }
+        if (!chunks.keySet().containsAll(
+            Arrays.asList(CommitGraph.OIDF, CommitGraph.OIDL, CommitGraph.CDAT)
+        )) {
+            throw new IOException("incomplete commit graph");
+        }
+        return new Layer(
+            file,
+            new ObjectIds(
+                file,
+                chunks.get(CommitGraph.OIDF),
+                chunks.get(CommitGraph.OIDL)
+            ),
+            chunks.get(CommitGraph.CDAT),
+            chunks.getOrDefault(CommitGraph.EDGE, -1L),
+            base
+        );
+    }
+
+    /**
+     * Single graph file.
+     */
+    @RequiredArgsConstructor
+    private static final class Layer {
+
+        /**
+         * Graph file.
+         */
+        private final MappedFile file;
+
+        /**
+         * Commit ids.
+         */
+        private final ObjectIds ids;
+
+        /**
+         * Commit data offset.
+         */
+        private final long data;
+
+        /**
+         * Extra edges offset.
+         */
+        private final long edges;
+
+        /**
+         * First position of layer.
+         */
+        private final int base;
+
+        /**
+         * Commit data entry offset.
+         *
+         * @param position commit position
+         * @return entry offset
+         */
+        private long entry(final int position) {
+            return this.data
+                + (long) (position - this.base) * CommitGraph.DATA;
+        }
+
+    }
+
+}
@@ -0,0 +1,276 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Represents full commit message split into subject, body and trailers.
+ * <p>
+ * Parts are views over the message text: subject is the first paragraph,
+ * trailers are the last paragraph of {@code Token: value} lines and body is
+ * everything in between. Absent parts are empty. Paths changed by commit and
+ * its signature are known only if they were read with message.
+ */
+public final class CommitMessage {
+
+    /**
+     * Trailer line with its continuation lines.
+     */
+    private static final String TRAILER =
+        "[\\w-]+:[^\\n]*(?:\\n[ \\t][^\\n]*)*";
+
+    /**
+     * Trailers paragraph.
+     */
+    private static final Pattern TRAILERS = Pattern.compile(
+        String.format("%1$s(?:\\n%1$s)*", CommitMessage.TRAILER)
+    );
+
+    /**
+     * Commit id.
+     */
+    private final String id;
+
+    /**
+     * Message text.
+     */
+    private final CharSequence text;
+
+    /**
+     * Paragraphs as start and end positions.
+     */
+    private final List<int[]> paragraphs;
+
+    /**
+     * Paths changed by commit.
+     */
+    private final List<String> changed;
+
+    /**
+     * Signature status and key.
+     */
+    private final CharSequence signed;
+
+    /**
+     * Ctor.
+     *
+     * @param commit commit id
+     * @param message message text
+     */
+    public CommitMessage(final String commit, final CharSequence message) {
+        this(commit, message, Collections.emptyList());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param commit commit id
+     * @param message message text
+     * @param paths paths changed by commit
+     */
+    public CommitMessage(final String commit, final CharSequence message,
+        final List<String> paths) {
+        this(commit, message, paths, "");
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param commit commit id
+     * @param message message text
+     * @param paths paths changed by commit
+     * @param signature signature status and key, as git formats them with
+     *  {@code %G? %GK}
+     */
+    public CommitMessage(final String commit, final CharSequence message,
+        final List<String> paths, final CharSequence signature) {
+        this.id = commit;
+        this.text = message;
+        this.paragraphs = CommitMessage.paragraphs(message);
+        this.changed = paths;
+        this.signed = signature;
+    }
+
+    /**
+     * Commit id.
+     *
+     * @return commit id
+     */
+    public String id() {
+        return this.id;
+    }
+
+    /**
+     * Message text.
+     *
+     * @return message text
+     */
+    public CharSequence text() {
+        return this.text;
+    }
+
+    /**
+     * Paths changed by commit.
+     *
+     * @return paths from repository root, empty if they were not read
+     */
+    public List<String> paths() {
+        return Collections.unmodifiableList(this.changed);
+    }
+
+    /**
+     * Signature of commit: status, such as {@code G} for good one or
+     * {@code N} for none, and signing key.
+     *
+     * @return signature, empty if it was not read
+     */
+    public CharSequence signature() {
+        return this.signed;
+    }
+
+    /**
+     * Subject: lines of the first paragraph read as joined by spaces.
+     *
+     * @return subject
+     */
+    public CharSequence subject() {
+        CharSequence result = this.view(0, 0);
+        if (!this.paragraphs.isEmpty()) {
+            final int[] first = this.paragraphs.get(0);
+            result = new FoldedLines(this.view(first[0], first[1]));
+        }
+        return result;
+    }
+
+    /**
+     * Body: paragraphs between subject and trailers.
+     *
+     * @return body
+     */
+    public CharSequence body() {
+        int last = this.paragraphs.size() - 1;
+        if (this.trailing()) {
+            last -= 1;
+        }
+        CharSequence result = this.view(0, 0);
+        if (last > 0) {
+            result = this.view(
+                this.paragraphs.get(1)[0], this.paragraphs.get(last)[1]
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Trailers: last paragraph if it consists of {@code Token: value} lines.
+     *
+     * @return trailers
+     */
+    public CharSequence trailers() {
+        CharSequence result = this.view(0, 0);
+        if (this.trailing()) {
+            final int[] last = this.paragraphs.get(this.paragraphs.size() - 1);
+            result = this.view(last[0], last[1]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", this.id, this.subject());
+    }
+
+    /**
+     * Whether message has trailers.
+     *
+     * @return whether last paragraph besides subject consists of trailers
+     */
+    private boolean trailing() {
+        boolean result = false;
+        if (this.paragraphs.size() > 1) {
+            final int[] last = this.paragraphs.get(this.paragraphs.size() - 1);
+            result = CommitMessage.TRAILERS
+                .matcher(this.text)
+                .region(last[0], last[1])
+                .matches();
+        }
+        return result;
+    }
+
+    /**
+     * View over message text.
+     *
+     * @param start start position
+     * @param end end position
+     * @return characters between positions
+     */
+    private CharSequence view(final int start, final int end) {
+        return CharBuffer.wrap(this.text, start, end);
+    }
+
+    /**
+     * Paragraphs of text: runs of lines that are not blank.
+     *
+     * @param text message text
+     * @return start and end positions of paragraphs, end excludes the last
+     *  line feed
+     */
+    private static List<int[]> paragraphs(final CharSequence text) {
+        final List<int[]> result = new ArrayList<>(2);
+        int start = -1;
+        int end = 0;
+        int line = 0;
+        while (line < text.length()) {
+            int next = line;
+            boolean blank = true;
+            while (next < text.length() && text.charAt(next) != '\n') {
+                blank &= Character.isWhitespace(text.charAt(next));
+                next += 1;
+            }
+            if (!blank && start < 0) {
+                start = line;
+            }
+            if (!blank) {
+                end = next;
+            }
+            if (blank && start >= 0) {
+                result.add(new int[]{start, end});
+                start = -1;
+            }
+            line = next + 1;
+        }
+        if (start >= 0) {
+            result.add(new int[]{start, end});
+        }
+        return result;
+    }
+
+}
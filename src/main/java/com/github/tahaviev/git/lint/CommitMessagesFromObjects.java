@@ -0,0 +1,73 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents commit messages read from git objects directly, without forking
+ * git.
+ * <p>
+ * Commits are listed up front, while their messages are read lazily during
+ * iteration.
+ *
+ * @param <T> message type
+ */
+@RequiredArgsConstructor
+public final class CommitMessagesFromObjects<T>
+    implements Supplier<Iterable<T>> {
+
+    /**
+     * Object database.
+     */
+    private final GitObjects objects;
+
+    /**
+     * Commit ids.
+     */
+    private final Supplier<? extends List<String>> commits;
+
+    /**
+     * Message of commit with id.
+     */
+    private final BiFunction<String, GitCommit, T> messages;
+
+    @Override
+    public Iterable<T> get() {
+        final List<String> ids = this.commits.get();
+        return () -> ids.stream()
+            .map(
+                id -> this.messages.apply(
+                    id, new GitCommit(this.objects.get(id).content())
+                )
+            )
+            .iterator();
+    }
+
+}
@@ -26,9 +26,13 @@
 package com.github.tahaviev.git.lint;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 
 /**
  * Represents commit messages process.
@@ -42,24 +46,77 @@ public final class CommitMessagesProcess implements Supplier<Process> {
     private final File directory;
 
     /**
-     * Parent branch where commit messages start.
+     * Revision where commit messages start.
      */
-    private final String parent;
+    private final String head;
+
+    /**
+     * Revisions whose history is excluded.
+     */
+    private final Collection<String> excluded;
+
+    /**
+     * Output format options.
+     */
+    private final List<String> format;
+
+    /**
+     * Standard output destination.
+     */
+    private final ProcessBuilder.Redirect output;
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     * @param parent parent branch where commit messages start
+     */
+    public CommitMessagesProcess(final File repository, final String parent) {
+        this(repository, "HEAD", Collections.singletonList(parent));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     * @param start revision where commit messages start
+     * @param exclusions revisions whose history is excluded
+     */
+    public CommitMessagesProcess(final File repository, final String start,
+        final Collection<String> exclusions) {
+        this(
+            repository, start, exclusions,
+            Collections.singletonList("--format=%s")
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     * @param start revision where commit messages start
+     * @param exclusions revisions whose history is excluded
+     * @param options output format options
+     */
+    public CommitMessagesProcess(final File repository, final String start,
+        final Collection<String> exclusions, final List<String> options) {
+        this(
+            repository, start, exclusions, options,
+            ProcessBuilder.Redirect.PIPE
+        );
+    }
 
     @Override
-    @SneakyThrows
     public Process get() {
-        return Runtime.getRuntime().exec(
-            new String[]{
-                "git",
-                "log",
-                "--format=%s",
-                "--no-merges",
-                String.format("%s..HEAD", this.parent)
-            },
-            null,
-            this.directory
+        final List<String> arguments = new ArrayList<>(
+            Collections.singletonList("log")
         );
+        arguments.addAll(this.format);
+        arguments.addAll(Arrays.asList("--no-merges", this.head));
+        for (final String revision : this.excluded) {
+            arguments.add(String.format("^%s", revision));
+        }
+        return new GitProcess(this.directory, arguments, this.output).get();
     }
 
 }
@@ -0,0 +1,81 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents ids of non merge commits reachable from included commits and not
+ * reachable from excluded ones, newest first.
+ * <p>
+ * The range is walked over commit-graph when repository has an up to date one
+ * and over commit objects otherwise.
+ */
+@RequiredArgsConstructor
+public final class CommitRange implements Supplier<List<String>> {
+
+    /**
+     * Object database.
+     */
+    private final GitObjects objects;
+
+    /**
+     * Commit-graph if repository has one.
+     */
+    private final Optional<CommitGraph> graph;
+
+    /**
+     * Included commit ids.
+     */
+    private final Collection<String> included;
+
+    /**
+     * Excluded commit ids.
+     */
+    private final Collection<String> excluded;
+
+    @Override
+    public List<String> get() {
+        return this.graph
+            .flatMap(
+                commits -> new GraphWalk(commits, this.included, this.excluded)
+                    .get()
+            )
+            .orElseGet(
+                () -> new CommitWalk(
+                    id -> new GitCommit(this.objects.get(id).content()),
+                    this.included,
+                    this.excluded
+                )
+                    .get()
+            );
+    }
+
+}
@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents full commit messages from {@code git log -z} process in
+ * {@code %H%x00%B} format, or with changed paths from
+ * {@code git log -z --name-only} process in {@code %x00%H%x00%B} format,
+ * with signatures if they are in the format too, read lazily.
+ */
+public final class CommitRecords
+    implements Supplier<Iterable<CommitMessage>> {
+
+    /**
+     * Process provider.
+     */
+    private final Supplier<Process> processes;
+
+    /**
+     * Whether records have changed paths.
+     */
+    private final boolean changes;
+
+    /**
+     * Whether records have signatures.
+     */
+    private final boolean signed;
+
+    /**
+     * Ctor.
+     *
+     * @param source process provider
+     */
+    public CommitRecords(final Supplier<Process> source) {
+        this(source, false, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source process provider
+     * @param paths whether records have changed paths
+     * @param signatures whether records have signatures
+     */
+    public CommitRecords(final Supplier<Process> source,
+        final boolean paths, final boolean signatures) {
+        this.processes = source;
+        this.changes = paths;
+        this.signed = signatures;
+    }
+
+    @Override
+    public Iterable<CommitMessage> get() {
+        return () -> new RecordsIterator(
+            this.processes.get().getInputStream(), this.changes, this.signed
+        );
+    }
+
+}
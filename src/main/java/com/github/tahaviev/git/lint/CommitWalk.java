@@ -0,0 +1,283 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents ids of non merge commits reachable from included commits and not
+ * reachable from excluded ones.
+ * <p>
+ * Commits are walked newest first, the way {@code git log} does, and are
+ * returned in the same order.
+ */
+@RequiredArgsConstructor
+public final class CommitWalk implements Supplier<List<String>> {
+
+    /**
+     * Commits walked after everything left looks uninteresting, to tolerate
+     * clock skew.
+     */
+    private static final int SLOP = 5;
+
+    /**
+     * Commit loader.
+     */
+    private final Function<String, GitCommit> commits;
+
+    /**
+     * Included commit ids.
+     */
+    private final Collection<String> included;
+
+    /**
+     * Excluded commit ids.
+     */
+    private final Collection<String> excluded;
+
+    @Override
+    public List<String> get() {
+        final Walk walk = new Walk(this.commits);
+        for (final String id : this.excluded) {
+            walk.exclude(walk.node(id));
+            walk.start(id);
+        }
+        for (final String id : this.included) {
+            walk.start(id);
+        }
+        final List<Node> result = new ArrayList<>(0);
+        long date = Long.MAX_VALUE;
+        int slop = CommitWalk.SLOP;
+        while (slop > 0 && !walk.queue.isEmpty()) {
+            final Node commit = walk.poll();
+            for (final String id : commit.parents) {
+                final Node parent = walk.node(id);
+                if (commit.uninteresting) {
+                    walk.exclude(parent);
+                }
+                if (!parent.seen) {
+                    walk.enqueue(parent);
+                }
+            }
+            if (commit.uninteresting) {
+                slop = walk.slop(date, slop);
+            } else {
+                date = commit.time;
+                result.add(commit);
+            }
+        }
+        return result.stream()
+            .filter(node -> !node.uninteresting && node.parents.size() < 2)
+            .map(node -> node.id)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Walk state.
+     */
+    @RequiredArgsConstructor
+    private static final class Walk {
+
+        /**
+         * Commit loader.
+         */
+        private final Function<String, GitCommit> commits;
+
+        /**
+         * Loaded commits.
+         */
+        private final Map<String, Node> nodes = new HashMap<>();
+
+        /**
+         * Commits to visit, newest first.
+         */
+        private final Queue<Node> queue = new PriorityQueue<>(
+            Comparator.<Node>comparingLong(node -> -node.time)
+                .thenComparingLong(node -> node.order)
+        );
+
+        /**
+         * Interesting commits in queue.
+         */
+        private int interesting;
+
+        /**
+         * Loads commit.
+         *
+         * @param id commit id
+         * @return commit
+         */
+        private Node node(final String id) {
+            return this.nodes.computeIfAbsent(
+                id,
+                key -> {
+                    final GitCommit commit = this.commits.apply(key);
+                    return new Node(
+                        key, commit.time(), commit.parents(), this.nodes.size()
+                    );
+                }
+            );
+        }
+
+        /**
+         * Adds commit to queue unless it was already queued.
+         *
+         * @param id commit id
+         */
+        private void start(final String id) {
+            final Node node = this.node(id);
+            if (!node.seen) {
+                this.enqueue(node);
+            }
+        }
+
+        /**
+         * Adds commit to queue.
+         *
+         * @param node commit
+         */
+        private void enqueue(final Node node) {
+            node.seen = true;
+            node.queued = true;
+            if (!node.uninteresting) {
+                this.interesting += 1;
+            }
+            this.queue.add(node);
+        }
+
+        /**
+         * Takes newest commit from queue.
+         *
+         * @return commit
+         */
+        private Node poll() {
+            final Node node = this.queue.remove();
+            node.queued = false;
+            if (!node.uninteresting) {
+                this.interesting -= 1;
+            }
+            return node;
+        }
+
+        /**
+         * Marks commit and its loaded ancestors uninteresting.
+         *
+         * @param node commit
+         */
+        private void exclude(final Node node) {
+            final Deque<Node> pending = new ArrayDeque<>(1);
+            pending.push(node);
+            while (!pending.isEmpty()) {
+                final Node current = pending.pop();
+                if (!current.uninteresting) {
+                    current.uninteresting = true;
+                    if (current.queued) {
+                        this.interesting -= 1;
+                    }
+                    current.parents.stream()
+                        .map(this.nodes::get)
+                        .filter(Objects::nonNull)
+                        .forEach(pending::push);
+                }
+            }
+        }
+
+        /**
+         * Remaining slop after uninteresting commit.
+         *
+         * @param date date of last interesting commit
+         * @param slop current slop
+         * @return new slop
+         */
+        private int slop(final long date, final int slop) {
+            int result = slop - 1;
+            if (this.interesting > 0
+                || !this.queue.isEmpty() && date <= this.queue.peek().time) {
+                result = CommitWalk.SLOP;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Loaded commit.
+     */
+    @RequiredArgsConstructor
+    private static final class Node {
+
+        /**
+         * Commit id.
+         */
+        private final String id;
+
+        /**
+         * Commit time.
+         */
+        private final long time;
+
+        /**
+         * Parent ids.
+         */
+        private final List<String> parents;
+
+        /**
+         * Load order.
+         */
+        private final int order;
+
+        /**
+         * Whether commit was ever queued.
+         */
+        private boolean seen;
+
+        /**
+         * Whether commit is in queue.
+         */
+        private boolean queued;
+
+        /**
+         * Whether commit is reachable from excluded commits.
+         */
+        private boolean uninteresting;
+
+    }
+
+}
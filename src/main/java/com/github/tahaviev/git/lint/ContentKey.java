@@ -0,0 +1,138 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents key of character content made of parts, hashed and compared by
+ * characters.
+ * <p>
+ * A key of views, such as {@link java.nio.CharBuffer} of commit messages,
+ * is looked up without copying them, and only its copy is kept.
+ */
+public final class ContentKey {
+
+    /**
+     * Multiplier of hash.
+     */
+    private static final int PRIME = 31;
+
+    /**
+     * Content parts.
+     */
+    private final List<? extends CharSequence> parts;
+
+    /**
+     * Hash of parts.
+     */
+    private final int hash;
+
+    /**
+     * Ctor.
+     *
+     * @param content content parts
+     */
+    public ContentKey(final CharSequence... content) {
+        this(Arrays.asList(content));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param content content parts
+     */
+    public ContentKey(final List<? extends CharSequence> content) {
+        this.parts = content;
+        int code = 1;
+        for (final CharSequence part : content) {
+            code = ContentKey.PRIME * code + part.length();
+            for (int index = 0; index < part.length(); ++index) {
+                code = ContentKey.PRIME * code + part.charAt(index);
+            }
+        }
+        this.hash = code;
+    }
+
+    /**
+     * Key of copied parts, independent of views it was made of.
+     *
+     * @return key
+     */
+    public ContentKey copy() {
+        final List<String> copied = new ArrayList<>(this.parts.size());
+        for (final CharSequence part : this.parts) {
+            copied.add(part.toString());
+        }
+        return new ContentKey(copied);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof ContentKey
+            && this.same((ContentKey) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * Whether key has the same parts.
+     *
+     * @param other key
+     * @return whether parts have the same characters
+     */
+    private boolean same(final ContentKey other) {
+        boolean result = this.parts.size() == other.parts.size();
+        for (int index = 0; result && index < this.parts.size(); ++index) {
+            result = ContentKey.same(
+                this.parts.get(index), other.parts.get(index)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Whether characters are the same.
+     *
+     * @param first characters
+     * @param second characters
+     * @return whether characters are the same
+     */
+    private static boolean same(final CharSequence first,
+        final CharSequence second) {
+        boolean result = first.length() == second.length();
+        for (int index = 0; result && index < first.length(); ++index) {
+            result = first.charAt(index) == second.charAt(index);
+        }
+        return result;
+    }
+
+}
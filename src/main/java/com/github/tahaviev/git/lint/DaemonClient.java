@@ -0,0 +1,271 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+
+/**
+ * Represents lint run by {@link LintDaemon}, with its exit code.
+ * <p>
+ * Relative paths are resolved by the daemon against the working directory
+ * of the client. The port file is trusted only if it is readable and
+ * writable by its owner only, where file system supports it. When the
+ * daemon is not running or the port file is not trusted, the lint is run in
+ * place, so hooks work either way. When the daemon does not reply in time,
+ * the lint is run in place too, and when it fails to reply, the failure is
+ * reported instead of linting twice.
+ */
+public final class DaemonClient implements IntSupplier {
+
+    /**
+     * Exit code of failed reply.
+     */
+    private static final int FAILED = 1;
+
+    /**
+     * Default time to wait for reply of daemon.
+     */
+    private static final Duration PATIENCE = Duration.ofMinutes(1);
+
+    /**
+     * Permissions of port file written by daemon.
+     */
+    private static final Set<PosixFilePermission> PRIVATE =
+        PosixFilePermissions.fromString("rw-------");
+
+    /**
+     * Port file of daemon.
+     */
+    private final File file;
+
+    /**
+     * Lint arguments.
+     */
+    private final List<String> arguments;
+
+    /**
+     * Output for mismatches and usage.
+     */
+    private final PrintStream output;
+
+    /**
+     * Working directory relative paths are resolved against.
+     */
+    private final File directory;
+
+    /**
+     * Time to wait for reply of daemon.
+     */
+    private final Duration patience;
+
+    /**
+     * Ctor.
+     *
+     * @param port port file of daemon
+     * @param args lint arguments
+     * @param out output for mismatches and usage
+     */
+    public DaemonClient(final File port, final List<String> args,
+        final PrintStream out) {
+        this(port, args, out, new File("").getAbsoluteFile());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param port port file of daemon
+     * @param args lint arguments
+     * @param out output for mismatches and usage
+     * @param dir working directory relative paths are resolved against
+     */
+    public DaemonClient(final File port, final List<String> args,
+        final PrintStream out, final File dir) {
+        this(port, args, out, dir, DaemonClient.PATIENCE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param port port file of daemon
+     * @param args lint arguments
+     * @param out output for mismatches and usage
+     * @param dir working directory relative paths are resolved against
+     * @param wait time to wait for reply of daemon
+     */
+    public DaemonClient(final File port, final List<String> args,
+        final PrintStream out, final File dir, final Duration wait) {
+        this.file = port;
+        this.arguments = args;
+        this.output = out;
+        this.directory = dir;
+        this.patience = wait;
+    }
+
+    @Override
+    public int getAsInt() {
+        final Socket socket = new Socket();
+        final Optional<String> token = this.connect(socket);
+        final int result;
+        if (token.isPresent()) {
+            result = this.remote(socket, token.get());
+        } else {
+            result = this.local();
+        }
+        return result;
+    }
+
+    /**
+     * Connects to daemon of port file.
+     *
+     * @param socket socket to connect
+     * @return secret token of daemon, empty if daemon is not running or port
+     *  file is not trusted and socket is left unconnected
+     */
+    private Optional<String> connect(final Socket socket) {
+        Optional<String> result = Optional.empty();
+        try {
+            final Path path = this.file.toPath();
+            final boolean posix = path.getFileSystem()
+                .supportedFileAttributeViews()
+                .contains("posix");
+            if (Stream.of(path)
+                .filter(item -> posix)
+                .map(DaemonClient::permissions)
+                .allMatch(DaemonClient.PRIVATE::equals)) {
+                final List<String> lines = Files.readAllLines(
+                    path, StandardCharsets.UTF_8
+                );
+                socket.connect(
+                    new InetSocketAddress(
+                        InetAddress.getLoopbackAddress(),
+                        Integer.parseInt(lines.get(0))
+                    )
+                );
+                socket.setSoTimeout((int) this.patience.toMillis());
+                result = Optional.of(lines.get(1));
+            } else {
+                this.output.println(
+                    String.format(
+                        "Port file %s is not private, linting in place",
+                        this.file
+                    )
+                );
+            }
+        } catch (final IOException ex) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Runs lint by connected daemon, closing connection, or in place if the
+     * daemon does not reply in time.
+     *
+     * @param socket connection to daemon
+     * @param token secret token of daemon
+     * @return exit code
+     */
+    private int remote(final Socket socket, final String token) {
+        int result;
+        try (Socket connection = socket) {
+            final DataOutputStream request = new DataOutputStream(
+                connection.getOutputStream()
+            );
+            request.writeUTF(token);
+            request.writeUTF(this.directory.getAbsolutePath());
+            request.writeInt(this.arguments.size());
+            for (final String argument : this.arguments) {
+                request.writeUTF(argument);
+            }
+            request.flush();
+            final DataInputStream reply = new DataInputStream(
+                connection.getInputStream()
+            );
+            final byte[] text = new byte[reply.readInt()];
+            reply.readFully(text);
+            result = reply.readInt();
+            this.output.print(new String(text, StandardCharsets.UTF_8));
+        } catch (final SocketTimeoutException ex) {
+            this.output.println(
+                String.format(
+                    "Daemon did not reply in %s, linting in place",
+                    this.patience
+                )
+            );
+            result = this.local();
+        } catch (final IOException ex) {
+            this.output.println(String.format("Daemon failed: %s", ex));
+            result = DaemonClient.FAILED;
+        }
+        this.output.flush();
+        return result;
+    }
+
+    /**
+     * Runs lint in place.
+     *
+     * @return exit code
+     */
+    private int local() {
+        return new StandaloneLint(
+            this.arguments, this.output, EngineRules::new, this.directory
+        )
+            .getAsInt();
+    }
+
+    /**
+     * Permissions of file, not following links.
+     *
+     * @param path file path
+     * @return permissions
+     */
+    @SneakyThrows
+    private static Set<PosixFilePermission> permissions(final Path path) {
+        return Files.getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+    }
+
+}
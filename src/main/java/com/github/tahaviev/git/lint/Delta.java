@@ -0,0 +1,176 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.SneakyThrows;
+
+/**
+ * Represents git delta instructions.
+ */
+public final class Delta {
+
+    /**
+     * Copy instruction flag.
+     */
+    private static final int COPY = 0x80;
+
+    /**
+     * Varint continuation flag.
+     */
+    private static final int MORE = 0x80;
+
+    /**
+     * Varint value mask.
+     */
+    private static final int VALUE = 0x7f;
+
+    /**
+     * Varint value bits.
+     */
+    private static final int BITS = 7;
+
+    /**
+     * Bits in byte.
+     */
+    private static final int BYTE = 8;
+
+    /**
+     * Copy offset bytes.
+     */
+    private static final int OFFSET = 4;
+
+    /**
+     * Copy size bytes.
+     */
+    private static final int SIZE = 3;
+
+    /**
+     * Copy size used when encoded size is zero.
+     */
+    private static final int DEFAULT = 0x10000;
+
+    /**
+     * Unsigned byte mask.
+     */
+    private static final int MASK = 0xff;
+
+    /**
+     * Delta instructions.
+     */
+    private final byte[] instructions;
+
+    /**
+     * Ctor.
+     *
+     * @param delta delta instructions
+     */
+    public Delta(final byte[] delta) {
+        this.instructions = delta.clone();
+    }
+
+    /**
+     * Applies delta to base.
+     *
+     * @param base base content
+     * @return target content
+     */
+    @SneakyThrows
+    public byte[] apply(final byte[] base) {
+        final ByteBuffer buffer = ByteBuffer.wrap(this.instructions);
+        if (Delta.varint(buffer) != base.length) {
+            throw new IOException("delta base size mismatch");
+        }
+        final byte[] result = new byte[(int) Delta.varint(buffer)];
+        int written = 0;
+        while (buffer.hasRemaining()) {
+            final int command = buffer.get() & Delta.MASK;
+            if ((command & Delta.COPY) != 0) {
+                final int offset = (int) Delta.packed(
+                    command, 0, Delta.OFFSET, buffer
+                );
+                int size = (int) Delta.packed(
+                    command, Delta.OFFSET, Delta.SIZE, buffer
+                );
+                if (size == 0) {
+                    size = Delta.DEFAULT;
+                }
+                System.arraycopy(base, offset, result, written, size);
+                written += size;
+            } else if (command == 0) {
+                throw new IOException("unexpected delta opcode 0");
+            } else {
+                buffer.get(result, written, command);
+                written += command;
+            }
+        }
+        if (written != result.length) {
+            throw new IOException("delta result size mismatch");
+        }
+        return result;
+    }
+
+    /**
+     * Reads variable length size.
+     *
+     * @param buffer instructions
+     * @return size
+     */
+    private static long varint(final ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        int current = Delta.MORE;
+        while ((current & Delta.MORE) != 0) {
+            current = buffer.get() & Delta.MASK;
+            result |= (long) (current & Delta.VALUE) << shift;
+            shift += Delta.BITS;
+        }
+        return result;
+    }
+
+    /**
+     * Reads number packed as bytes selected by command bits.
+     *
+     * @param command copy command
+     * @param first first command bit
+     * @param bytes number of bytes
+     * @param buffer instructions
+     * @return number
+     */
+    private static long packed(final int command, final int first,
+        final int bytes, final ByteBuffer buffer) {
+        long result = 0;
+        for (int index = 0; index < bytes; ++index) {
+            if ((command & 1 << first + index) != 0) {
+                result |= (long) (buffer.get() & Delta.MASK)
+                    << index * Delta.BYTE;
+            }
+        }
+        return result;
+    }
+
+}
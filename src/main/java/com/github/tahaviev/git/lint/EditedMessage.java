@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents commit message being edited, such as {@code COMMIT_EDITMSG}
+ * passed to {@code commit-msg} hook, cleaned up like git does.
+ * <p>
+ * Comment lines are dropped, everything below the scissors line of
+ * {@code git commit --verbose} is ignored and surrounding blank lines are
+ * removed.
+ */
+@RequiredArgsConstructor
+public final class EditedMessage implements Supplier<CharSequence> {
+
+    /**
+     * Scissors line after comment prefix.
+     */
+    private static final String SCISSORS =
+        " ------------------------ >8 ------------------------";
+
+    /**
+     * Message file.
+     */
+    private final File file;
+
+    /**
+     * Comment lines prefix.
+     */
+    private final String comment;
+
+    @Override
+    @SneakyThrows
+    public CharSequence get() {
+        final StringBuilder result = new StringBuilder();
+        for (final String line
+            : Files.readAllLines(this.file.toPath(), StandardCharsets.UTF_8)) {
+            if (line.equals(this.comment.concat(EditedMessage.SCISSORS))) {
+                break;
+            }
+            if (!line.startsWith(this.comment)
+                && (result.length() > 0 || !line.trim().isEmpty())) {
+                result.append(line).append('\n');
+            }
+        }
+        int end = result.length();
+        while (end > 0 && Character.isWhitespace(result.charAt(end - 1))) {
+            end -= 1;
+        }
+        result.setLength(end);
+        return result;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents rules of patterns for configured pattern engine.
+ * <p>
+ * Engine {@code linear} matches in time linear to message length, engine
+ * {@code java} uses {@link java.util.regex.Pattern} with match time budget.
+ */
+@RequiredArgsConstructor
+public final class EngineRules
+    implements Function<String, Predicate<CharSequence>> {
+
+    /**
+     * Pattern engine.
+     */
+    private final String engine;
+
+    /**
+     * Match time budget of {@code java} engine, zero for unlimited.
+     */
+    private final Duration budget;
+
+    @Override
+    public Predicate<CharSequence> apply(final String regex) {
+        final Predicate<CharSequence> result;
+        if ("linear".equals(this.engine)) {
+            result = new LinearRules(regex);
+        } else if ("java".equals(this.engine)) {
+            result = new Rules(regex, this.budget);
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown pattern engine %s", this.engine)
+            );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents view of characters where line feeds read as spaces, the way git
+ * joins lines of subject.
+ */
+@RequiredArgsConstructor
+public final class FoldedLines implements CharSequence {
+
+    /**
+     * Source characters.
+     */
+    private final CharSequence source;
+
+    @Override
+    public int length() {
+        return this.source.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        char result = this.source.charAt(index);
+        if (result == '\n') {
+            result = ' ';
+        }
+        return result;
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return new FoldedLines(this.source.subSequence(start, end));
+    }
+
+    @Override
+    public String toString() {
+        return this.source.toString().replace('\n', ' ');
+    }
+
+}
@@ -0,0 +1,163 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents raw commit object content.
+ */
+public final class GitCommit {
+
+    /**
+     * Parent header.
+     */
+    private static final String PARENT = "parent ";
+
+    /**
+     * Committer header.
+     */
+    private static final String COMMITTER = "committer ";
+
+    /**
+     * Encoding header.
+     */
+    private static final String ENCODING = "encoding ";
+
+    /**
+     * Commit object content.
+     */
+    private final byte[] content;
+
+    /**
+     * Ctor.
+     *
+     * @param raw raw commit content
+     */
+    public GitCommit(final byte[] raw) {
+        this.content = raw.clone();
+    }
+
+    /**
+     * Parent commit ids.
+     *
+     * @return parent commit ids
+     */
+    public List<String> parents() {
+        return this.headers().stream()
+            .filter(header -> header.startsWith(GitCommit.PARENT))
+            .map(header -> header.substring(GitCommit.PARENT.length()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Committer timestamp.
+     *
+     * @return seconds since epoch
+     */
+    public long time() {
+        return this.headers().stream()
+            .filter(header -> header.startsWith(GitCommit.COMMITTER))
+            .map(header -> header.split(" "))
+            .mapToLong(parts -> Long.parseLong(parts[parts.length - 2]))
+            .findFirst()
+            .orElse(0L);
+    }
+
+    /**
+     * Subject: lines of the first message paragraph joined by spaces.
+     *
+     * @return subject
+     */
+    public String subject() {
+        final List<String> lines = new ArrayList<>(1);
+        for (final String line : this.message().split("\n")) {
+            final String trimmed = line.replaceFirst("\\s+$", "");
+            if (!trimmed.isEmpty()) {
+                lines.add(trimmed);
+            } else if (!lines.isEmpty()) {
+                break;
+            }
+        }
+        return String.join(" ", lines);
+    }
+
+    /**
+     * Full message decoded from commit encoding.
+     *
+     * @return message
+     */
+    public String message() {
+        final Charset charset = this.headers().stream()
+            .filter(header -> header.startsWith(GitCommit.ENCODING))
+            .map(header -> header.substring(GitCommit.ENCODING.length()))
+            .map(Charset::forName)
+            .findFirst()
+            .orElse(StandardCharsets.UTF_8);
+        final int start = this.end() + 2;
+        return new String(
+            this.content,
+            Math.min(start, this.content.length),
+            Math.max(this.content.length - start, 0),
+            charset
+        );
+    }
+
+    /**
+     * Header lines.
+     *
+     * @return header lines
+     */
+    private List<String> headers() {
+        return Arrays.asList(
+            new String(this.content, 0, this.end(), StandardCharsets.UTF_8)
+                .split("\n")
+        );
+    }
+
+    /**
+     * Position of headers end.
+     *
+     * @return position of the blank line separating headers and message
+     */
+    private int end() {
+        int result = this.content.length;
+        for (int index = 0; index < this.content.length - 1; ++index) {
+            if (this.content[index] == '\n'
+                && this.content[index + 1] == '\n') {
+                result = index;
+                break;
+            }
+        }
+        return result;
+    }
+
+}
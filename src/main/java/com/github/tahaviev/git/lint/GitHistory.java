@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Represents git history the commit messages are read from.
+ * <p>
+ * The history is closed to release processes or files it keeps open.
+ */
+public interface GitHistory extends Closeable {
+
+    /**
+     * Canonical path of git directory.
+     *
+     * @return git directory path
+     */
+    String root();
+
+    /**
+     * Commit id of revision.
+     *
+     * @param name revision name
+     * @return commit id
+     */
+    String revision(String name);
+
+    /**
+     * Whether commit exists and its history is contained in history of
+     * another commit.
+     *
+     * @param ancestor possible ancestor id
+     * @param descendant descendant id
+     * @return whether there are no non merge commits reachable from ancestor
+     *  and not reachable from descendant
+     */
+    boolean ancestor(String ancestor, String descendant);
+
+    /**
+     * Subjects of non merge commits reachable from head and not reachable
+     * from excluded commits, newest first. Each subject may be a view valid
+     * only until the next one is read.
+     *
+     * @param head head commit id
+     * @param excluded excluded commit ids
+     * @return commit messages
+     */
+    Supplier<Iterable<CharSequence>> messages(
+        String head, Collection<String> excluded
+    );
+
+    /**
+     * Full messages of non merge commits reachable from head and not
+     * reachable from excluded commits, newest first.
+     *
+     * @param head head commit id
+     * @param excluded excluded commit ids
+     * @return full commit messages
+     */
+    Supplier<Iterable<CommitMessage>> fullMessages(
+        String head, Collection<String> excluded
+    );
+
+    /**
+     * Full messages of non merge commits reachable from head and not
+     * reachable from excluded commits, newest first, with their changed
+     * paths and signatures if asked, read together with messages where
+     * possible.
+     *
+     * @param head head commit id
+     * @param excluded excluded commit ids
+     * @param paths whether changed paths are read
+     * @param signatures whether signatures are read
+     * @return full commit messages
+     */
+    Supplier<Iterable<CommitMessage>> fullMessages(
+        String head, Collection<String> excluded, boolean paths,
+        boolean signatures
+    );
+
+    @Override
+    void close();
+
+}
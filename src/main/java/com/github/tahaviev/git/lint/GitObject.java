@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+/**
+ * Represents inflated git object.
+ */
+public final class GitObject {
+
+    /**
+     * Object type.
+     */
+    private final String kind;
+
+    /**
+     * Object content.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param type object type
+     * @param content object content
+     */
+    public GitObject(final String type, final byte[] content) {
+        this.kind = type;
+        this.bytes = content.clone();
+    }
+
+    /**
+     * Object type.
+     *
+     * @return object type like {@code commit} or {@code blob}
+     */
+    public String type() {
+        return this.kind;
+    }
+
+    /**
+     * Object content.
+     *
+     * @return object content
+     */
+    public byte[] content() {
+        return this.bytes.clone();
+    }
+
+}
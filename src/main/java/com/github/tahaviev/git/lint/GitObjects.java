@@ -0,0 +1,140 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.zip.InflaterInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents git object database.
+ * <p>
+ * Objects are looked up as loose objects first and in packs then.
+ */
+@RequiredArgsConstructor
+public final class GitObjects {
+
+    /**
+     * Length of loose object directory name.
+     */
+    private static final int FANOUT = 2;
+
+    /**
+     * Objects directory.
+     */
+    private final File directory;
+
+    /**
+     * Packs.
+     */
+    private final Collection<Pack> packs;
+
+    /**
+     * Whether database contains object.
+     *
+     * @param id hexadecimal object id
+     * @return whether object exists
+     */
+    public boolean contains(final String id) {
+        final byte[] bytes = new IdBytes(id).get();
+        return this.file(id).isFile()
+            || this.packs.stream().anyMatch(pack -> pack.contains(bytes));
+    }
+
+    /**
+     * Object by id.
+     *
+     * @param id hexadecimal object id
+     * @return object
+     */
+    @SneakyThrows
+    public GitObject get(final String id) {
+        final File loose = this.file(id);
+        final GitObject result;
+        if (loose.isFile()) {
+            result = GitObjects.loose(loose);
+        } else {
+            final byte[] bytes = new IdBytes(id).get();
+            result = this.packs.stream()
+                .map(pack -> pack.object(bytes))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst()
+                .orElseThrow(
+                    () -> new IOException(
+                        String.format("missing object %s", id)
+                    )
+                );
+        }
+        return result;
+    }
+
+    /**
+     * Loose object file.
+     *
+     * @param id hexadecimal object id
+     * @return file
+     */
+    private File file(final String id) {
+        return new File(
+            new File(this.directory, id.substring(0, GitObjects.FANOUT)),
+            id.substring(GitObjects.FANOUT)
+        );
+    }
+
+    /**
+     * Reads loose object.
+     *
+     * @param file loose object file
+     * @return object
+     * @throws IOException if object is corrupted
+     */
+    private static GitObject loose(final File file) throws IOException {
+        try (
+            DataInputStream input = new DataInputStream(
+                new InflaterInputStream(new FileInputStream(file))
+            )
+        ) {
+            final StringBuilder header = new StringBuilder();
+            int current = input.readUnsignedByte();
+            while (current != 0) {
+                header.append((char) current);
+                current = input.readUnsignedByte();
+            }
+            final String[] parts = header.toString().split(" ");
+            final byte[] content = new byte[Integer.parseInt(parts[1])];
+            input.readFully(content);
+            return new GitObject(parts[0], content);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents git process.
+ */
+@RequiredArgsConstructor
+public final class GitProcess implements Supplier<Process> {
+
+    /**
+     * Git repository directory.
+     */
+    private final File directory;
+
+    /**
+     * Git arguments.
+     */
+    private final List<String> arguments;
+
+    /**
+     * Standard output destination.
+     */
+    private final ProcessBuilder.Redirect output;
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     * @param args git arguments
+     */
+    public GitProcess(final File repository, final List<String> args) {
+        this(repository, args, ProcessBuilder.Redirect.PIPE);
+    }
+
+    @Override
+    @SneakyThrows
+    public Process get() {
+        final List<String> command = new ArrayList<>(this.arguments.size() + 1);
+        command.add("git");
+        command.addAll(this.arguments);
+        return new ProcessBuilder(command)
+            .directory(this.directory)
+            .redirectOutput(this.output)
+            .start();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents git references stored as files and in {@code packed-refs}.
+ */
+@RequiredArgsConstructor
+public final class GitRefs {
+
+    /**
+     * Symbolic reference prefix.
+     */
+    private static final String SYMBOLIC = "ref: ";
+
+    /**
+     * Reference name patterns in lookup order, like in git rev-parse.
+     */
+    private static final String[] RULES = {
+        "%s",
+        "refs/%s",
+        "refs/tags/%s",
+        "refs/heads/%s",
+        "refs/remotes/%s",
+        "refs/remotes/%s/HEAD",
+    };
+
+    /**
+     * Git directory holding {@code HEAD}.
+     */
+    private final File gitdir;
+
+    /**
+     * Git directory holding shared references.
+     */
+    private final File common;
+
+    /**
+     * Resolves revision to object id.
+     *
+     * @param revision object id or reference name
+     * @return hexadecimal object id
+     */
+    @SneakyThrows
+    public String resolve(final String revision) {
+        Optional<String> result = Optional.empty();
+        if (revision.matches("[0-9a-f]{40}")) {
+            result = Optional.of(revision);
+        }
+        for (int index = 0; index < GitRefs.RULES.length; ++index) {
+            if (!result.isPresent()) {
+                result = this.ref(
+                    String.format(GitRefs.RULES[index], revision)
+                );
+            }
+        }
+        if (!result.isPresent()) {
+            throw new IOException(
+                String.format("unknown revision %s", revision)
+            );
+        }
+        return result.get();
+    }
+
+    /**
+     * Resolves reference.
+     *
+     * @param name full reference name
+     * @return object id if reference exists
+     * @throws IOException if reference can't be read
+     */
+    private Optional<String> ref(final String name) throws IOException {
+        File directory = this.common;
+        if (name.indexOf('/') < 0) {
+            directory = this.gitdir;
+        }
+        final File file = new File(directory, name);
+        final Optional<String> result;
+        if (file.isFile()) {
+            final String content = new String(
+                Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8
+            )
+                .trim();
+            if (content.startsWith(GitRefs.SYMBOLIC)) {
+                result = this.ref(content.substring(GitRefs.SYMBOLIC.length()));
+            } else {
+                result = Optional.of(content.split("\\s")[0]);
+            }
+        } else {
+            result = this.packed(name);
+        }
+        return result;
+    }
+
+    /**
+     * Resolves packed reference.
+     *
+     * @param name full reference name
+     * @return object id if reference is packed
+     * @throws IOException if packed references can't be read
+     */
+    private Optional<String> packed(final String name) throws IOException {
+        final File file = new File(this.common, "packed-refs");
+        Optional<String> result = Optional.empty();
+        if (file.isFile()) {
+            result = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)
+                .stream()
+                .filter(line -> !line.startsWith("#") && !line.startsWith("^"))
+                .map(line -> line.split(" ", 2))
+                .filter(parts -> parts[1].equals(name))
+                .map(parts -> parts[0])
+                .findFirst();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,241 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents git repository containing a directory.
+ * <p>
+ * Like git itself, the repository is looked up in the directory and its
+ * parents. Worktrees and submodules pointing to their git directory with a
+ * {@code .git} file are supported.
+ */
+@RequiredArgsConstructor
+public final class GitRepository {
+
+    /**
+     * Git directory link prefix.
+     */
+    private static final String LINK = "gitdir:";
+
+    /**
+     * Directory inside repository.
+     */
+    private final File directory;
+
+    /**
+     * Git directory.
+     *
+     * @return canonical git directory
+     */
+    @SneakyThrows
+    public File root() {
+        return this.gitdir().getCanonicalFile();
+    }
+
+    /**
+     * Object database.
+     *
+     * @return object database
+     */
+    @SneakyThrows
+    public GitObjects objects() {
+        final File objects = new File(this.common(), "objects");
+        final File[] indexes = new File(objects, "pack").listFiles(
+            (dir, name) -> name.endsWith(".idx")
+        );
+        List<Pack> packs = Collections.emptyList();
+        if (indexes != null) {
+            packs = Arrays.stream(indexes)
+                .map(
+                    index -> new Pack(
+                        new MappedFile(
+                            new File(
+                                index.getParentFile(),
+                                index.getName().replaceFirst(
+                                    "\\.idx$", ".pack"
+                                )
+                            )
+                        ),
+                        new PackIndex(new MappedFile(index))
+                    )
+                )
+                .collect(Collectors.toList());
+        }
+        return new GitObjects(objects, packs);
+    }
+
+    /**
+     * Commit-graph, either single file or chain of split layers.
+     *
+     * @return commit-graph unless repository has none or is shallow
+     */
+    @SneakyThrows
+    public Optional<CommitGraph> graph() {
+        final File common = this.common();
+        final File info = new File(new File(common, "objects"), "info");
+        final File single = new File(info, "commit-graph");
+        final File chain = new File(
+            new File(info, "commit-graphs"), "commit-graph-chain"
+        );
+        List<File> files = Collections.emptyList();
+        if (!this.shallow()) {
+            if (single.isFile()) {
+                files = Collections.singletonList(single);
+            } else if (chain.isFile()) {
+                files = Files.readAllLines(chain.toPath()).stream()
+                    .map(
+                        hash -> new File(
+                            chain.getParentFile(),
+                            String.format("graph-%s.graph", hash)
+                        )
+                    )
+                    .collect(Collectors.toList());
+            }
+        }
+        Optional<CommitGraph> result = Optional.empty();
+        if (!files.isEmpty() && files.stream().allMatch(File::isFile)) {
+            result = Optional.of(
+                new CommitGraph(
+                    files.stream()
+                        .map(MappedFile::new)
+                        .collect(Collectors.toList())
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Whether repository is shallow clone, with history cut at some
+     * commits.
+     *
+     * @return whether repository has {@code shallow} file
+     */
+    public boolean shallow() {
+        return new File(this.common(), "shallow").isFile();
+    }
+
+    /**
+     * Git directory shared between worktrees.
+     *
+     * @return common git directory
+     */
+    @SneakyThrows
+    public File common() {
+        final File gitdir = this.gitdir();
+        final File link = new File(gitdir, "commondir");
+        File result = gitdir;
+        if (link.isFile()) {
+            result = GitRepository.resolve(gitdir, GitRepository.content(link));
+        }
+        return result;
+    }
+
+    /**
+     * References.
+     *
+     * @return references
+     */
+    @SneakyThrows
+    public GitRefs refs() {
+        return new GitRefs(this.gitdir(), this.common());
+    }
+
+    /**
+     * Git directory.
+     *
+     * @return git directory
+     * @throws IOException if there is no git directory
+     */
+    private File gitdir() throws IOException {
+        File current = this.directory.getCanonicalFile();
+        File result = null;
+        while (result == null && current != null) {
+            final File dotgit = new File(current, ".git");
+            if (dotgit.isDirectory()) {
+                result = dotgit;
+            } else if (dotgit.isFile()) {
+                final String link = GitRepository.content(dotgit);
+                if (!link.startsWith(GitRepository.LINK)) {
+                    throw new IOException(
+                        String.format("invalid git file %s", dotgit)
+                    );
+                }
+                result = GitRepository.resolve(
+                    current, link.substring(GitRepository.LINK.length()).trim()
+                );
+            } else if (new File(current, "HEAD").isFile()
+                && new File(current, "objects").isDirectory()) {
+                result = current;
+            }
+            current = current.getParentFile();
+        }
+        if (result == null) {
+            throw new IOException(
+                String.format("not a git repository %s", this.directory)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Trimmed file content.
+     *
+     * @param file file
+     * @return content
+     * @throws IOException if file can't be read
+     */
+    private static String content(final File file) throws IOException {
+        return new String(
+            Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8
+        )
+            .trim();
+    }
+
+    /**
+     * Resolves possibly relative path.
+     *
+     * @param base base directory
+     * @param path path
+     * @return file
+     */
+    private static File resolve(final File base, final String path) {
+        return base.toPath().resolve(path).normalize().toFile();
+    }
+
+}
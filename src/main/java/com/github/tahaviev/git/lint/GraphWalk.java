@@ -0,0 +1,179 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents ids of non merge commits reachable from included commits and not
+ * reachable from excluded ones, walked over commit-graph.
+ * <p>
+ * Commits are visited in generation order first, so every commit is known to
+ * be excluded or not by the time it is visited and the walk stops as soon as
+ * nothing interesting is left, without inflating a single commit. The range
+ * is then ordered newest first, the way {@link CommitWalk} does. The walk is
+ * empty if graph misses some of the starting commits, for instance when it
+ * was written before the latest commits were made.
+ */
+@RequiredArgsConstructor
+public final class GraphWalk implements Supplier<Optional<List<String>>> {
+
+    /**
+     * Commit-graph.
+     */
+    private final CommitGraph graph;
+
+    /**
+     * Included commit ids.
+     */
+    private final Collection<String> included;
+
+    /**
+     * Excluded commit ids.
+     */
+    private final Collection<String> excluded;
+
+    @Override
+    public Optional<List<String>> get() {
+        final List<Integer> exclusions = this.positions(this.excluded);
+        final List<Integer> inclusions = this.positions(this.included);
+        Optional<List<String>> result = Optional.empty();
+        if (!exclusions.contains(-1) && !inclusions.contains(-1)) {
+            result = Optional.of(
+                this.ordered(inclusions, this.range(exclusions, inclusions))
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Graph positions of commits.
+     *
+     * @param ids commit ids
+     * @return positions, -1 for commits missing in graph
+     */
+    private List<Integer> positions(final Collection<String> ids) {
+        return ids.stream()
+            .map(id -> this.graph.position(new IdBytes(id).get()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Commits reachable from included commits only.
+     *
+     * @param exclusions excluded positions
+     * @param inclusions included positions
+     * @return range positions
+     */
+    private Set<Integer> range(final List<Integer> exclusions,
+        final List<Integer> inclusions) {
+        final Map<Integer, Boolean> uninteresting = new HashMap<>();
+        exclusions.forEach(position -> uninteresting.put(position, true));
+        inclusions.forEach(
+            position -> uninteresting.putIfAbsent(position, false)
+        );
+        final Queue<Integer> queue = new PriorityQueue<>(
+            Comparator.<Integer>comparingInt(this.graph::generation)
+                .reversed()
+        );
+        queue.addAll(uninteresting.keySet());
+        int interesting = (int) uninteresting.values().stream()
+            .filter(value -> !value)
+            .count();
+        final Set<Integer> result = new HashSet<>();
+        while (interesting > 0) {
+            final int commit = queue.remove();
+            final boolean excluding = uninteresting.get(commit);
+            if (!excluding) {
+                interesting -= 1;
+                result.add(commit);
+            }
+            for (final int parent : this.graph.parents(commit)) {
+                final Boolean known = uninteresting.get(parent);
+                if (known == null) {
+                    uninteresting.put(parent, excluding);
+                    queue.add(parent);
+                    if (!excluding) {
+                        interesting += 1;
+                    }
+                } else if (excluding && !known) {
+                    uninteresting.put(parent, true);
+                    interesting -= 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Non merge commits of range, newest first.
+     *
+     * @param inclusions included positions
+     * @param range range positions
+     * @return commit ids
+     */
+    private List<String> ordered(final List<Integer> inclusions,
+        final Set<Integer> range) {
+        final Map<Integer, Integer> order = new HashMap<>();
+        final Queue<Integer> queue = new PriorityQueue<>(
+            Comparator.<Integer>comparingLong(this.graph::time)
+                .reversed()
+                .thenComparing(order::get)
+        );
+        final Consumer<Integer> visit = position -> {
+            if (range.contains(position) && !order.containsKey(position)) {
+                order.put(position, order.size());
+                queue.add(position);
+            }
+        };
+        inclusions.forEach(visit);
+        final List<String> result = new ArrayList<>(range.size());
+        while (!queue.isEmpty()) {
+            final int commit = queue.remove();
+            final List<Integer> parents = this.graph.parents(commit);
+            if (parents.size() < 2) {
+                result.add(this.graph.id(commit));
+            }
+            parents.forEach(visit);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.function.Predicate;
+
+/**
+ * Represents commit message rules matched in time linear to message length.
+ * <p>
+ * Unlike {@link Rules}, crafted messages can not make matching backtrack
+ * exponentially, at the cost of a narrower pattern syntax described by
+ * {@link RegexParser}, which is checked when rules are created.
+ */
+public final class LinearRules implements Predicate<CharSequence> {
+
+    /**
+     * Compiled program.
+     */
+    private final NfaProgram program;
+
+    /**
+     * Ctor.
+     *
+     * @param pattern commit message pattern
+     */
+    public LinearRules(final String pattern) {
+        this.program = new RegexParser(pattern).get();
+    }
+
+    @Override
+    public boolean test(final CharSequence message) {
+        return this.program.matches(message);
+    }
+
+}
@@ -27,7 +27,7 @@ package com.github.tahaviev.git.lint;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -35,7 +35,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
 /**
- * Represents lines from process.
+ * Represents UTF-8 lines from process.
  */
 @RequiredArgsConstructor
 public final class LinesFromProcess implements Supplier<List<String>> {
@@ -52,7 +52,7 @@ public final class LinesFromProcess implements Supplier<List<String>> {
             BufferedReader reader = new BufferedReader(
                 new InputStreamReader(
                     this.processes.get().getInputStream(),
-                    Charset.defaultCharset()
+                    StandardCharsets.UTF_8
                 )
             )
         ) {
@@ -0,0 +1,262 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.SneakyThrows;
+
+/**
+ * Represents iterator over UTF-8 lines of stream.
+ * <p>
+ * Lines are decoded on demand into a reused character buffer and returned as
+ * a reused view over it, so a line is valid only until the next one is read
+ * and {@link String} is created only when the line is converted with
+ * {@link Object#toString()}. The stream is closed as soon as it is exhausted.
+ */
+public final class LinesIterator implements Iterator<CharSequence> {
+
+    /**
+     * Buffer size.
+     */
+    private static final int BUFFER = 8192;
+
+    /**
+     * Source stream.
+     */
+    private final InputStream stream;
+
+    /**
+     * UTF-8 decoder replacing malformed input.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * Bytes read and not decoded yet.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Current line view.
+     */
+    private final Line line;
+
+    /**
+     * Decoded characters.
+     */
+    private CharBuffer chars;
+
+    /**
+     * Start of unread characters.
+     */
+    private int start;
+
+    /**
+     * Whether line is read ahead.
+     */
+    private boolean ready;
+
+    /**
+     * Whether stream end is reached.
+     */
+    private boolean eof;
+
+    /**
+     * Whether lines are exhausted.
+     */
+    private boolean exhausted;
+
+    /**
+     * Ctor.
+     *
+     * @param source source stream
+     */
+    public LinesIterator(final InputStream source) {
+        this.stream = source;
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(LinesIterator.BUFFER);
+        this.bytes.flip();
+        this.chars = CharBuffer.allocate(LinesIterator.BUFFER);
+        this.line = new Line();
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean hasNext() {
+        if (!this.ready && !this.exhausted) {
+            this.ready = this.advance();
+            if (!this.ready) {
+                this.exhausted = true;
+                this.stream.close();
+            }
+        }
+        return this.ready;
+    }
+
+    @Override
+    public CharSequence next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("no more lines");
+        }
+        this.ready = false;
+        return this.line;
+    }
+
+    /**
+     * Points line view to the next line.
+     *
+     * @return whether there is next line
+     * @throws IOException if fails
+     */
+    private boolean advance() throws IOException {
+        int scan = this.start;
+        boolean found = false;
+        boolean more = true;
+        while (!found && more) {
+            final char[] array = this.chars.array();
+            final int end = this.chars.position();
+            while (scan < end && array[scan] != '\n') {
+                scan += 1;
+            }
+            if (scan < end) {
+                this.line.point(array, this.start, scan);
+                this.start = scan + 1;
+                found = true;
+            } else if (this.eof) {
+                found = this.start < end;
+                this.line.point(array, this.start, end);
+                this.start = end;
+                more = false;
+            } else {
+                if (this.start > 0
+                    && this.chars.remaining() < LinesIterator.BUFFER) {
+                    System.arraycopy(
+                        array, this.start, array, 0, end - this.start
+                    );
+                    this.chars.position(end - this.start);
+                    scan -= this.start;
+                    this.start = 0;
+                }
+                this.fill();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Reads bytes from stream and decodes them after unread characters.
+     *
+     * @throws IOException if fails
+     */
+    private void fill() throws IOException {
+        this.bytes.compact();
+        final int read = this.stream.read(
+            this.bytes.array(), this.bytes.position(), this.bytes.remaining()
+        );
+        this.eof = read < 0;
+        this.bytes.position(this.bytes.position() + Math.max(read, 0));
+        this.bytes.flip();
+        if (this.chars.remaining() < this.bytes.remaining()) {
+            final CharBuffer grown = CharBuffer.allocate(
+                Math.max(
+                    this.chars.capacity() * 2,
+                    this.chars.position() + this.bytes.remaining()
+                )
+            );
+            this.chars.flip();
+            this.chars = grown.put(this.chars);
+        }
+        this.decoder.decode(this.bytes, this.chars, this.eof);
+    }
+
+    /**
+     * Reused view over characters of line, without trailing carriage return.
+     */
+    private static final class Line implements CharSequence {
+
+        /**
+         * Characters.
+         */
+        private char[] array;
+
+        /**
+         * Start position.
+         */
+        private int from;
+
+        /**
+         * End position.
+         */
+        private int until;
+
+        @Override
+        public int length() {
+            return this.until - this.from;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return this.array[this.from + index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int begin, final int end) {
+            return new String(this.array, this.from + begin, end - begin);
+        }
+
+        @Override
+        public String toString() {
+            return new String(this.array, this.from, this.length());
+        }
+
+        /**
+         * Points view to characters.
+         *
+         * @param characters characters
+         * @param begin start position
+         * @param end end position
+         */
+        void point(final char[] characters, final int begin, final int end) {
+            this.array = characters;
+            this.from = begin;
+            this.until = end;
+            if (end > begin && characters[end - 1] == '\r') {
+                this.until = end - 1;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntSupplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents command line run with its exit code: {@code daemon} serves
+ * lints, {@code client} sends lint to the daemon and anything else is linted
+ * in place.
+ * <p>
+ * Daemon and client take optional {@code --port-file} and daemon takes
+ * optional {@code --idle} time in milliseconds to stop after.
+ */
+@RequiredArgsConstructor
+public final class LintCommand implements IntSupplier {
+
+    /**
+     * Port file option.
+     */
+    private static final String PORT = "--port-file";
+
+    /**
+     * Idle time option.
+     */
+    private static final String IDLE = "--idle";
+
+    /**
+     * Command line arguments.
+     */
+    private final List<String> arguments;
+
+    /**
+     * Output for mismatches and usage.
+     */
+    private final PrintStream output;
+
+    @Override
+    public int getAsInt() {
+        final int result;
+        if (this.command("daemon")) {
+            new LintDaemon(
+                this.port(),
+                Duration.ofMillis(
+                    Long.parseLong(this.option(LintCommand.IDLE, "600000"))
+                ),
+                this.output
+            )
+                .run();
+            result = 0;
+        } else if (this.command("client")) {
+            result = new DaemonClient(
+                this.port(),
+                this.arguments.subList(this.start(), this.arguments.size()),
+                this.output
+            )
+                .getAsInt();
+        } else {
+            result = new StandaloneLint(this.arguments, this.output)
+                .getAsInt();
+        }
+        return result;
+    }
+
+    /**
+     * Whether command is run.
+     *
+     * @param name command name
+     * @return whether the first argument is the command
+     */
+    private boolean command(final String name) {
+        return !this.arguments.isEmpty() && name.equals(this.arguments.get(0));
+    }
+
+    /**
+     * Port file, in home directory of the user by default, where other users
+     * can't replace it.
+     *
+     * @return port file
+     */
+    private File port() {
+        return new File(
+            this.option(
+                LintCommand.PORT,
+                new File(System.getProperty("user.home"), ".git-lint.port")
+                    .getPath()
+            )
+        );
+    }
+
+    /**
+     * Option of command.
+     *
+     * @param name option name
+     * @param fallback default value
+     * @return option value
+     */
+    private String option(final String name, final String fallback) {
+        String result = fallback;
+        for (int index = 1; index < this.start(); index += 2) {
+            if (name.equals(this.arguments.get(index))) {
+                result = this.arguments.get(index + 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Position of the first argument after options of command.
+     *
+     * @return position
+     */
+    private int start() {
+        int result = 1;
+        while (result + 1 < this.arguments.size()
+            && (LintCommand.PORT.equals(this.arguments.get(result))
+            || LintCommand.IDLE.equals(this.arguments.get(result)))) {
+            result += 2;
+        }
+        return result;
+    }
+
+}
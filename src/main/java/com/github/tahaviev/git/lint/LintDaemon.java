@@ -0,0 +1,240 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+
+/**
+ * Represents resident lint serving clients on loopback address until idle
+ * for too long.
+ * <p>
+ * Compiled rules and warmed up code are kept between requests. The port and
+ * a secret token are written to the port file, readable by its owner only
+ * where file system supports it, and requests without the token are
+ * dropped. Requests are served by a pool of threads, each one is read within
+ * a short timeout, so a stalled client neither blocks others nor keeps the
+ * daemon from stopping when idle. The token, the working directory of the
+ * client relative paths are resolved against, the count of arguments and
+ * the arguments in modified UTF-8 come in, the length of the output, the
+ * output in UTF-8 and the exit code go back. A failed lint is reported to
+ * its client, a broken request is logged, neither stops the daemon.
+ */
+public final class LintDaemon implements Runnable {
+
+    /**
+     * Exit code of failed request.
+     */
+    private static final int FAILED = 1;
+
+    /**
+     * Time to read request in.
+     */
+    private static final Duration READ = Duration.ofSeconds(10);
+
+    /**
+     * Port file.
+     */
+    private final File file;
+
+    /**
+     * Idle time to stop after.
+     */
+    private final Duration idle;
+
+    /**
+     * Log of failed requests.
+     */
+    private final PrintStream log;
+
+    /**
+     * Resident rules.
+     */
+    private final ResidentRules rules;
+
+    /**
+     * Ctor.
+     *
+     * @param port port file
+     * @param timeout idle time to stop after
+     * @param errors log of failed requests
+     */
+    public LintDaemon(final File port, final Duration timeout,
+        final PrintStream errors) {
+        this.file = port;
+        this.idle = timeout;
+        this.log = errors;
+        this.rules = new ResidentRules();
+    }
+
+    @Override
+    @SneakyThrows
+    public void run() {
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors()
+        );
+        try (
+            ServerSocket server = new ServerSocket(
+                0, 0, InetAddress.getLoopbackAddress()
+            )
+        ) {
+            server.setSoTimeout(Math.toIntExact(this.idle.toMillis()));
+            final String token = UUID.randomUUID().toString();
+            this.publish(server.getLocalPort(), token);
+            boolean serving = true;
+            while (serving) {
+                try {
+                    final Socket client = server.accept();
+                    pool.execute(() -> this.serve(client, token));
+                } catch (final SocketTimeoutException ex) {
+                    serving = false;
+                }
+            }
+        } finally {
+            Files.deleteIfExists(this.file.toPath());
+            pool.shutdown();
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Writes port and token to owner readable port file.
+     *
+     * @param port port
+     * @param token secret token
+     * @throws IOException if fails
+     */
+    private void publish(final int port, final String token)
+        throws IOException {
+        final Path path = this.file.toPath();
+        Files.deleteIfExists(path);
+        final boolean posix = Files.getFileStore(
+            this.file.getAbsoluteFile().getParentFile().toPath()
+        )
+            .supportsFileAttributeView("posix");
+        Files.createFile(
+            path,
+            Stream.of(
+                PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")
+                )
+            )
+                .filter(attribute -> posix)
+                .toArray(FileAttribute<?>[]::new)
+        );
+        Files.write(
+            path,
+            String.format("%d%n%s%n", port, token)
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Serves request of client, logging its failure, and closes connection.
+     *
+     * @param client client connection
+     * @param token secret token
+     */
+    private void serve(final Socket client, final String token) {
+        try (Socket connection = client) {
+            connection.setSoTimeout(
+                Math.toIntExact(LintDaemon.READ.toMillis())
+            );
+            this.reply(connection, token);
+        } catch (final IOException ex) {
+            this.log.println(String.format("Failed request: %s", ex));
+        }
+    }
+
+    /**
+     * Replies to request of client.
+     *
+     * @param client client connection
+     * @param token secret token
+     * @throws IOException if fails
+     */
+    private void reply(final Socket client, final String token)
+        throws IOException {
+        final DataInputStream input = new DataInputStream(
+            client.getInputStream()
+        );
+        if (token.equals(input.readUTF())) {
+            final File directory = new File(input.readUTF());
+            final int count = input.readInt();
+            final List<String> args = new ArrayList<>(count);
+            for (int index = 0; index < count; index += 1) {
+                args.add(input.readUTF());
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            int code;
+            try (
+                PrintStream output = new PrintStream(
+                    bytes, true, StandardCharsets.UTF_8.name()
+                )
+            ) {
+                try {
+                    code = new StandaloneLint(
+                        args, output, this.rules, directory
+                    )
+                        .getAsInt();
+                } catch (final Exception ex) {
+                    output.println(ex);
+                    code = LintDaemon.FAILED;
+                }
+            }
+            final DataOutputStream reply = new DataOutputStream(
+                client.getOutputStream()
+            );
+            reply.writeInt(bytes.size());
+            bytes.writeTo(reply);
+            reply.writeInt(code);
+            reply.flush();
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.SneakyThrows;
+
+/**
+ * Represents read-only memory-mapped file.
+ * <p>
+ * The file is mapped in segments, so files larger than 2 GiB are supported.
+ * All reads are absolute, so instances can be shared between threads.
+ */
+public final class MappedFile {
+
+    /**
+     * Default segment size.
+     */
+    private static final int SEGMENT = 0x40000000;
+
+    /**
+     * Bits in byte.
+     */
+    private static final int BYTE = 8;
+
+    /**
+     * Unsigned byte mask.
+     */
+    private static final int MASK = 0xff;
+
+    /**
+     * Mapped segments.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * Segment size.
+     */
+    private final int segment;
+
+    /**
+     * File size.
+     */
+    private final long length;
+
+    /**
+     * Ctor.
+     *
+     * @param file file to map
+     * @param options additional options to open file with, such as
+     *  {@link StandardOpenOption#DELETE_ON_CLOSE}
+     */
+    public MappedFile(final File file, final OpenOption... options) {
+        this(file, MappedFile.SEGMENT, options);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param file file to map
+     * @param size segment size
+     * @param options additional options to open file with
+     */
+    @SneakyThrows
+    public MappedFile(final File file, final int size,
+        final OpenOption... options) {
+        final Set<OpenOption> opened = new HashSet<>(Arrays.asList(options));
+        opened.add(StandardOpenOption.READ);
+        try (FileChannel channel = FileChannel.open(file.toPath(), opened)) {
+            this.length = channel.size();
+            this.segments = new ByteBuffer[
+                (int) ((this.length + size - 1) / size)
+                ];
+            for (int index = 0; index < this.segments.length; ++index) {
+                final long start = (long) index * size;
+                this.segments[index] = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    start,
+                    Math.min(size, this.length - start)
+                );
+            }
+        }
+        this.segment = size;
+    }
+
+    /**
+     * File size.
+     *
+     * @return file size in bytes
+     */
+    public long size() {
+        return this.length;
+    }
+
+    /**
+     * Unsigned byte at position.
+     *
+     * @param position byte position
+     * @return unsigned byte
+     */
+    public int get(final long position) {
+        return this.segments[(int) (position / this.segment)]
+            .get((int) (position % this.segment)) & MappedFile.MASK;
+    }
+
+    /**
+     * Big-endian integer at position.
+     *
+     * @param position integer position
+     * @return integer
+     */
+    public int getInt(final long position) {
+        return (int) this.number(position, Integer.BYTES);
+    }
+
+    /**
+     * Big-endian long at position.
+     *
+     * @param position long position
+     * @return long
+     */
+    public long getLong(final long position) {
+        return this.number(position, Long.BYTES);
+    }
+
+    /**
+     * Stream of file content starting at position.
+     *
+     * @param position start position
+     * @return input stream
+     */
+    public InputStream stream(final long position) {
+        return new InputStream() {
+
+            /**
+             * Current position.
+             */
+            private long current = position;
+
+            @Override
+            public int read() {
+                final int result;
+                if (this.current < MappedFile.this.length) {
+                    result = MappedFile.this.get(this.current);
+                    this.current += 1;
+                } else {
+                    result = -1;
+                }
+                return result;
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset,
+                final int count) {
+                final int result;
+                if (this.current < MappedFile.this.length) {
+                    final ByteBuffer buffer = MappedFile.this.segments[
+                        (int) (this.current / MappedFile.this.segment)
+                        ]
+                        .duplicate();
+                    buffer.position(
+                        (int) (this.current % MappedFile.this.segment)
+                    );
+                    result = Math.min(count, buffer.remaining());
+                    buffer.get(bytes, offset, result);
+                    this.current += result;
+                } else {
+                    result = -1;
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Big-endian number at position.
+     *
+     * @param position number position
+     * @param bytes number size in bytes
+     * @return number
+     */
+    private long number(final long position, final int bytes) {
+        long result = 0;
+        for (int index = 0; index < bytes; ++index) {
+            result = result << MappedFile.BYTE | this.get(position + index);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents rules remembering verdicts of recently matched contents, so
+ * identical messages, such as bot commits, are matched once.
+ * <p>
+ * At most the given number of distinct contents is remembered, the least
+ * recently used one is forgotten first. Contents are looked up by keys of
+ * their views and copied only when they are remembered. Matching itself is
+ * done outside of the lock, so parallel matchers are not serialized by it.
+ *
+ * @param <T> message type
+ */
+public final class MemoizedRules<T> implements Predicate<T> {
+
+    /**
+     * Rules.
+     */
+    private final Predicate<? super T> rules;
+
+    /**
+     * Content of message.
+     */
+    private final Function<? super T, ContentKey> content;
+
+    /**
+     * Contents remembered at most.
+     */
+    private final int capacity;
+
+    /**
+     * Verdicts by content in order of use.
+     */
+    private final Map<ContentKey, Boolean> verdicts;
+
+    /**
+     * Ctor.
+     *
+     * @param predicate rules
+     * @param key content of message
+     * @param size contents remembered at most
+     */
+    public MemoizedRules(final Predicate<? super T> predicate,
+        final Function<? super T, ContentKey> key, final int size) {
+        this.rules = predicate;
+        this.content = key;
+        this.capacity = size;
+        this.verdicts = new LinkedHashMap<>(size, 1, true);
+    }
+
+    @Override
+    public boolean test(final T message) {
+        final ContentKey key = this.content.apply(message);
+        Boolean result;
+        synchronized (this.verdicts) {
+            result = this.verdicts.get(key);
+        }
+        if (result == null) {
+            result = this.rules.test(message);
+            synchronized (this.verdicts) {
+                this.verdicts.put(key.copy(), result);
+                if (this.verdicts.size() > this.capacity) {
+                    final Iterator<ContentKey> eldest =
+                        this.verdicts.keySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return result;
+    }
+
+}
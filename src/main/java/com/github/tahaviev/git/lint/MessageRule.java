@@ -0,0 +1,300 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+
+/**
+ * Represents rule configured in POM: pattern of commit message part, or
+ * file of tokens banned in it, identified in violation reports by rule id.
+ * <p>
+ * Parts are {@code subject}, {@code body}, {@code trailers},
+ * {@code message} for the whole text and {@code signature} for signature
+ * status and key as git formats them with {@code %G? %GK}, such as
+ * {@code G 0123ABCD}, subject by default. Tokens file has a
+ * token per line, empty lines are skipped. Rule scoped by path globs applies
+ * only to commits changing any path matching them.
+ */
+public final class MessageRule {
+
+    /**
+     * Commit message parts by name.
+     */
+    private static final Map<String, Function<CommitMessage, CharSequence>>
+        PARTS = MessageRule.parts();
+
+    /**
+     * Rule id.
+     */
+    private String id;
+
+    /**
+     * Commit message part.
+     */
+    private String part;
+
+    /**
+     * Part pattern.
+     */
+    private String pattern;
+
+    /**
+     * Banned tokens file.
+     */
+    private File tokens;
+
+    /**
+     * Whether case of banned tokens is ignored.
+     */
+    private boolean ignoreCase;
+
+    /**
+     * Globs of paths whose commits rule applies to, {@code null} if rule
+     * applies to every commit.
+     */
+    private List<String> paths;
+
+    /**
+     * Ctor for configuration.
+     */
+    public MessageRule() {
+        this(null, "subject", null);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name rule id
+     * @param matched commit message part
+     * @param regex part pattern
+     */
+    public MessageRule(final String name, final String matched,
+        final String regex) {
+        this(name, matched, regex, null, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name rule id
+     * @param matched commit message part
+     * @param regex part pattern
+     * @param banned banned tokens file
+     * @param insensitive whether case of banned tokens is ignored
+     */
+    public MessageRule(final String name, final String matched,
+        final String regex, final File banned, final boolean insensitive) {
+        this(name, matched, regex, banned, insensitive, null);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name rule id
+     * @param matched commit message part
+     * @param regex part pattern
+     * @param banned banned tokens file
+     * @param insensitive whether case of banned tokens is ignored
+     * @param globs globs of paths whose commits rule applies to
+     */
+    public MessageRule(final String name, final String matched,
+        final String regex, final File banned, final boolean insensitive,
+        final List<String> globs) {
+        this.id = name;
+        this.part = matched;
+        this.pattern = regex;
+        this.tokens = banned;
+        this.ignoreCase = insensitive;
+        this.paths = globs;
+    }
+
+    /**
+     * Rule id.
+     *
+     * @return rule id
+     */
+    public String id() {
+        return this.id;
+    }
+
+    /**
+     * Whether rule applies to signature.
+     *
+     * @return whether signatures of commits are needed
+     */
+    public boolean signed() {
+        return "signature".equals(this.part);
+    }
+
+    /**
+     * Whether rule is scoped by path globs.
+     *
+     * @return whether changed paths of commits are needed
+     */
+    public boolean scoped() {
+        return this.paths != null;
+    }
+
+    /**
+     * Definition of rule, content of banned tokens file included.
+     *
+     * @return definition
+     */
+    public String definition() {
+        String result = this.toString();
+        if (this.tokens != null) {
+            result = String.format(
+                "%s %b %d", result, this.ignoreCase, this.banned().hashCode()
+            );
+        }
+        if (this.scoped()) {
+            result = String.format("%s paths %s", result, this.paths);
+        }
+        return result;
+    }
+
+    /**
+     * Violations of rule by commit message.
+     *
+     * @param engine rules of patterns
+     * @return violation: rule id, followed by banned token found if any,
+     *  empty if message matches
+     * @throws IllegalArgumentException if id or both pattern and tokens are
+     *  missing or part is unknown
+     */
+    public Function<CommitMessage, Optional<String>> compile(
+        final Function<String, Predicate<CharSequence>> engine) {
+        if (this.id == null || this.pattern == null == (this.tokens == null)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Rule %s needs id and either pattern or tokens", this
+                )
+            );
+        }
+        final Function<CommitMessage, CharSequence> selected =
+            MessageRule.PARTS.get(this.part);
+        if (selected == null) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Rule %s has unknown part, expected one of %s",
+                    this,
+                    MessageRule.PARTS.keySet()
+                )
+            );
+        }
+        final Function<CommitMessage, Optional<String>> result;
+        if (this.scoped()) {
+            final Predicate<String> globs = new PathGlobs(this.paths);
+            final Function<CommitMessage, Optional<String>> violations =
+                this.violations(engine, selected);
+            result = message -> violations.apply(message).filter(
+                violation -> message.paths().stream().anyMatch(globs)
+            );
+        } else {
+            result = this.violations(engine, selected);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s %s %s",
+            this.id,
+            this.part,
+            Objects.toString(this.pattern, String.valueOf(this.tokens))
+        );
+    }
+
+    /**
+     * Violations of pattern or banned tokens by commit message part,
+     * whatever paths commit changes.
+     *
+     * @param engine rules of patterns
+     * @param selected commit message part
+     * @return violations
+     */
+    private Function<CommitMessage, Optional<String>> violations(
+        final Function<String, Predicate<CharSequence>> engine,
+        final Function<CommitMessage, CharSequence> selected) {
+        final Function<CommitMessage, Optional<String>> result;
+        if (this.tokens == null) {
+            final Predicate<CharSequence> rules = engine.apply(this.pattern);
+            result = message -> Optional.of(this.id)
+                .filter(name -> !rules.test(selected.apply(message)));
+        } else {
+            final BannedTokens banned = new BannedTokens(
+                this.banned(), this.ignoreCase
+            );
+            result = message -> banned.find(selected.apply(message))
+                .map(token -> String.format("%s \"%s\"", this.id, token));
+        }
+        return result;
+    }
+
+    /**
+     * Banned tokens.
+     *
+     * @return tokens of file
+     */
+    @SneakyThrows
+    private List<String> banned() {
+        return Files.readAllLines(this.tokens.toPath(), StandardCharsets.UTF_8)
+            .stream()
+            .filter(token -> !token.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Commit message parts by name.
+     *
+     * @return parts
+     */
+    private static Map<String, Function<CommitMessage, CharSequence>>
+        parts() {
+        final Map<String, Function<CommitMessage, CharSequence>> result =
+            new TreeMap<>();
+        result.put("subject", CommitMessage::subject);
+        result.put("body", CommitMessage::body);
+        result.put("trailers", CommitMessage::trailers);
+        result.put("message", CommitMessage::text);
+        result.put("signature", CommitMessage::signature);
+        return Collections.unmodifiableMap(result);
+    }
+
+}
@@ -26,9 +26,31 @@
 package com.github.tahaviev.git.lint;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.Setter;
+import lombok.SneakyThrows;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -41,17 +63,72 @@ import org.apache.maven.plugins.annotations.Parameter;
     defaultPhase = LifecyclePhase.VERIFY,
     inheritByDefault = false,
     name = "messages",
-    requiresProject = false
+    requiresProject = false,
+    threadSafe = true
 )
 @Setter
 public final class MessagesMojo extends AbstractMojo {
 
+    /**
+     * Shared mismatches kept at most.
+     */
+    private static final int SHARED = 16;
+
+    /**
+     * Mismatches by repository, range and pattern, shared between modules
+     * of a build, the least recently used ones are evicted first.
+     */
+    private static final Map<String, Future<Collection<String>>> RESULTS =
+        Collections.synchronizedMap(
+            new LinkedHashMap<String, Future<Collection<String>>>(
+                MessagesMojo.SHARED, 1.0f, true
+            ) {
+
+                /**
+                 * Serial version UID.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<String, Future<Collection<String>>> eldest
+                ) {
+                    return this.size() > MessagesMojo.SHARED;
+                }
+            }
+        );
+
+    /**
+     * Pattern matching any part of commit message.
+     */
+    private static final String ANY = "(?s).*";
+
     /**
      * Git repository directory.
      */
     @Parameter(defaultValue = "${project.basedir}")
     private File directory;
 
+    /**
+     * Git repository directories linted concurrently instead of the single
+     * directory.
+     */
+    @Parameter
+    private List<File> directories;
+
+    /**
+     * Whether initialized submodules of repositories are linted too,
+     * recursively.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean submodules;
+
+    /**
+     * Repositories linted at the same time when there are several.
+     */
+    @Parameter(defaultValue = "4")
+    private int jobs;
+
     /**
      * Parent branch where commit messages validation start.
      */
@@ -59,31 +136,721 @@ public final class MessagesMojo extends AbstractMojo {
     private String parent;
 
     /**
-     * Commit message pattern.
+     * Commit message pattern, required unless rules are set.
      */
-    @Parameter(required = true)
+    @Parameter
     private String pattern;
 
+    /**
+     * Commit message body pattern, full messages are linted when set.
+     */
+    @Parameter
+    private String bodyPattern;
+
+    /**
+     * Commit message trailers pattern, full messages are linted when set.
+     */
+    @Parameter
+    private String trailersPattern;
+
+    /**
+     * Rules evaluated in a single pass over each full commit message, each
+     * with {@code id}, {@code part} which is one of {@code subject},
+     * {@code body}, {@code trailers}, {@code message} and {@code signature}
+     * formatted as {@code %G? %GK} by git, such as {@code G 0123ABCD} for
+     * good signature, and either
+     * {@code pattern} or {@code tokens} file of banned tokens, one per line,
+     * matched ignoring case if {@code ignoreCase} is set. Violations are
+     * reported with rule ids and banned tokens found. Rule with
+     * {@code paths} globs, such as {@code db/migrations/**}, applies only to
+     * commits changing matching paths. Paths and signatures are read with
+     * messages by {@code process} and {@code spill} readers, {@code objects}
+     * reader does not read paths, so it fails with rules scoped by them, and
+     * verifies signatures in parallel batches as messages are read.
+     * Patterns set above are rules with ids of their parameters.
+     */
+    @Parameter
+    private List<MessageRule> rules;
+
+    /**
+     * Whether every violated rule of commit message is reported instead of
+     * the first one.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean fullReport;
+
+    /**
+     * Commit messages reader: {@code process} forks git and streams its
+     * output, {@code spill} forks git writing its output to memory-mapped
+     * temporary file instead of heap, {@code objects} reads git objects
+     * directly and works without git installed.
+     */
+    @Parameter(defaultValue = "process")
+    private String reader;
+
+    /**
+     * Remote name or URL, such as a local mirror, shallow clone is deepened
+     * from when merge base of HEAD and parent branch is missing.
+     */
+    @Parameter(defaultValue = "origin")
+    private String remote;
+
+    /**
+     * Commits to deepen shallow clone by at most to reach merge base of HEAD
+     * and parent branch, zero to fail at once when it is missing.
+     */
+    @Parameter(defaultValue = "1000")
+    private int deepen;
+
+    /**
+     * Whether to lint only commits made since the last successful run.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean incremental;
+
+    /**
+     * File where the last successfully linted commit is recorded.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/git-lint.properties")
+    private File watermark;
+
+    /**
+     * Whether verdicts of linted commits are kept in git directory shared by
+     * worktrees, so commits are not matched again with the same rules.
+     * Verdicts of rules applying to signatures are not kept, since they
+     * change with keys trusted or revoked.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean verdicts;
+
+    /**
+     * Slots of new verdicts table, up to 44739242, the oldest verdicts are
+     * evicted when it is full.
+     */
+    @Parameter(defaultValue = "65536")
+    private int verdictSlots;
+
+    /**
+     * Distinct commit messages whose verdicts are remembered during the run,
+     * so identical messages are matched once, zero to match every message.
+     */
+    @Parameter(defaultValue = "1024")
+    private int memo;
+
+    /**
+     * Threads matching commit messages, each batch of messages read from git
+     * is matched in parallel when more than one.
+     */
+    @Parameter(defaultValue = "1")
+    private int threads;
+
+    /**
+     * Pattern engine: {@code java} uses {@link java.util.regex.Pattern},
+     * {@code linear} matches in time linear to message length and rejects
+     * patterns that need backtracking.
+     */
+    @Parameter(defaultValue = "java")
+    private String engine;
+
+    /**
+     * Match time budget per commit message of {@code java} engine, in
+     * milliseconds, messages exceeding it are mismatches, zero for unlimited.
+     */
+    @Parameter(defaultValue = "0")
+    private long timeout;
+
+    /**
+     * File where metrics of the run are written as JSON.
+     */
+    @Parameter(
+        defaultValue = "${project.build.directory}/git-lint-metrics.json"
+    )
+    private File metrics;
+
     @Override
-    public void execute() throws MojoFailureException {
-        final Collection<String> mismatches = new Mismatches(
-            new LinesFromProcess(
-                new SucceedProcess(
-                    new CommitMessagesProcess(this.directory, this.parent)
+    public void execute()
+        throws MojoExecutionException, MojoFailureException {
+        if (this.pattern == null && this.rules == null) {
+            throw new MojoFailureException(
+                "Either pattern or rules are required"
+            );
+        }
+        if (!Arrays.asList("java", "linear").contains(this.engine)) {
+            throw new MojoExecutionException(
+                String.format(
+                    "Parameter engine must be java or linear, but was %s",
+                    this.engine
+                )
+            );
+        }
+        if (!Arrays.asList("process", "spill", "objects")
+            .contains(this.reader)) {
+            throw new MojoExecutionException(
+                String.format(
+                    String.join(
+                        " ",
+                        "Parameter reader must be process, spill or objects,",
+                        "but was %s"
+                    ),
+                    this.reader
+                )
+            );
+        }
+        if ("objects".equals(this.reader) && this.rules != null
+            && this.rules.stream().anyMatch(MessageRule::scoped)) {
+            throw new MojoExecutionException(
+                String.join(
+                    " ",
+                    "Parameter reader set to objects does not read changed",
+                    "paths rules are scoped by, use process or spill reader",
+                    "or remove paths from rules"
+                )
+            );
+        }
+        if (this.verdicts && (this.verdictSlots <= 0
+            || this.verdictSlots > VerdictTable.LIMIT)) {
+            throw new MojoExecutionException(
+                String.format(
+                    "Parameter verdictSlots must be from 1 to %d, but was %d",
+                    VerdictTable.LIMIT,
+                    this.verdictSlots
                 )
+            );
+        }
+        final Metrics measured = new Metrics();
+        final long start = System.nanoTime();
+        try {
+            if (this.directories == null && !this.submodules) {
+                this.lint(this.directory, this.watermark, measured);
+            } else {
+                this.lint(this.repositories(), measured);
+            }
+        } finally {
+            this.report(measured, start);
+        }
+    }
+
+    /**
+     * Lints commit messages of several repositories concurrently.
+     *
+     * @param repositories git repository directories
+     * @param measured metrics of the run
+     * @throws MojoFailureException if there are commit message violations in
+     *  any repository
+     */
+    private void lint(final Collection<File> repositories,
+        final Metrics measured) throws MojoFailureException {
+        final Map<File, String> failures = new RepositoryFailures(
+            repositories,
+            repository -> () -> {
+                this.lint(repository, this.watermark(repository), measured);
+                return repository;
+            },
+            this.jobs
+        )
+            .get();
+        this.getLog().info(
+            String.format(
+                "Linted %d repositories, %d failed",
+                repositories.size(),
+                failures.size()
+            )
+        );
+        if (!failures.isEmpty()) {
+            throw new MojoFailureException(
+                failures.entrySet().stream()
+                    .map(
+                        failure -> String.format(
+                            "Repository %s:%n%s",
+                            failure.getKey(),
+                            failure.getValue()
+                        )
+                    )
+                    .collect(
+                        Collectors.joining(
+                            String.format("%n"),
+                            String.format(
+                                "Commit messages are not matched in %d of %d"
+                                    + " repositories%n",
+                                failures.size(),
+                                repositories.size()
+                            ),
+                            ""
+                        )
+                    )
+            );
+        }
+    }
+
+    /**
+     * Configured repositories and, if enabled, their submodules.
+     *
+     * @return git repository directories
+     */
+    private Collection<File> repositories() {
+        final Set<File> result = new LinkedHashSet<>();
+        for (final File root : Optional.ofNullable(this.directories)
+            .orElse(Collections.singletonList(this.directory))) {
+            result.add(root.getAbsoluteFile());
+            if (this.submodules) {
+                result.addAll(new Submodules(root).get());
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Watermark file of one of several repositories.
+     *
+     * @param repository git repository directory
+     * @return watermark file, distinct per repository when incremental
+     */
+    private File watermark(final File repository) {
+        File result = this.watermark;
+        if (this.incremental) {
+            result = new File(
+                this.watermark.getAbsoluteFile().getParentFile(),
+                String.format(
+                    "%s-%s",
+                    UUID.nameUUIDFromBytes(
+                        repository.getPath().getBytes(StandardCharsets.UTF_8)
+                    ),
+                    this.watermark.getName()
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Lints commit messages of repository.
+     *
+     * @param repository git repository directory
+     * @param mark watermark file
+     * @param measured metrics of the run
+     * @throws MojoFailureException if there are commit message violations
+     */
+    private void lint(final File repository, final File mark,
+        final Metrics measured) throws MojoFailureException {
+        try (GitHistory history = this.history(repository, measured)) {
+            this.lint(history, repository, mark, measured);
+        }
+    }
+
+    /**
+     * History of selected reader.
+     *
+     * @param repository git repository directory
+     * @param measured metrics of the run
+     * @return history
+     * @throws MojoFailureException if merge base of HEAD and parent branch is
+     *  missing in shallow clone
+     */
+    private GitHistory history(final File repository, final Metrics measured)
+        throws MojoFailureException {
+        if (!new ShallowClone(repository, this.remote, this.deepen)
+            .deepen("HEAD", this.parent)) {
+            throw new MojoFailureException(
+                String.format(
+                    String.join(
+                        " ",
+                        "Merge base of HEAD and %s is missing in shallow",
+                        "clone deepened by %d commits from %s, fetch more",
+                        "history with git fetch --deepen or --unshallow"
+                    ),
+                    this.parent,
+                    this.deepen,
+                    this.remote
+                )
+            );
+        }
+        final GitHistory result;
+        if ("objects".equals(this.reader)) {
+            result = new ObjectsHistory(repository);
+        } else {
+            result = new ProcessHistory(
+                repository, measured, "spill".equals(this.reader)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Lints commit messages.
+     *
+     * @param history git history
+     * @param repository git repository directory
+     * @param mark watermark file
+     * @param measured metrics of the run
+     * @throws MojoFailureException if there are commit message violations
+     */
+    private void lint(final GitHistory history, final File repository,
+        final File mark, final Metrics measured) throws MojoFailureException {
+        final String head = history.revision("HEAD");
+        final String base = history.revision(this.parent);
+        final String configured = String.join(
+            "\n", this.patterns(), this.engine, String.valueOf(this.timeout)
+        );
+        final Watermark watermarked = new Watermark(
+            mark, history, configured
+        );
+        final Collection<String> excluded;
+        if (this.incremental) {
+            excluded = watermarked.excluded(head, base);
+        } else {
+            excluded = Collections.singletonList(base);
+        }
+        final Supplier<Collection<String>> matching;
+        if (this.verdicts && !this.signed()) {
+            matching = () -> this.cached(
+                new File(
+                    new GitRepository(repository).common(), "git-lint-verdicts"
+                ),
+                table -> this.fullMismatches(
+                    this.fullMessages(history, head, excluded),
+                    matched -> new CachedVerdicts(
+                        table,
+                        UUID.nameUUIDFromBytes(
+                            configured.getBytes(StandardCharsets.UTF_8)
+                        ),
+                        matched,
+                        this.timeout == 0
+                    ),
+                    measured
+                )
+                    .get()
+            );
+        } else if (this.full()) {
+            matching = this.fullMismatches(
+                this.fullMessages(history, head, excluded),
+                Function.identity(),
+                measured
+            );
+        } else {
+            matching = this.mismatches(
+                this.subjects(history.messages(head, excluded)),
+                this.memoized(this.rules(this.pattern), ContentKey::new),
+                Object::toString,
+                measured
+            );
+        }
+        final Collection<String> mismatches = new SharedResult<>(
+            MessagesMojo.RESULTS,
+            String.join(
+                "\n",
+                new CanonicalPath(new File(history.root())).get(),
+                head,
+                new TreeSet<>(excluded).toString(),
+                configured
             ),
-            this.pattern
+            matching
         )
             .get();
         if (!mismatches.isEmpty()) {
             throw new MojoFailureException(
                 String.format(
                     "Commit messages are not matches with %s%n%s",
-                    this.pattern,
+                    this.expected(),
                     String.join("\n", mismatches)
                 )
             );
         }
+        if (this.incremental) {
+            watermarked.save(head, base);
+        }
+    }
+
+    /**
+     * Full commit messages, with changed paths if any rule is scoped by
+     * paths and signatures if any rule applies to them.
+     *
+     * @param history git history
+     * @param head head commit id
+     * @param excluded excluded commit ids
+     * @return full commit messages
+     */
+    private Supplier<Iterable<CommitMessage>> fullMessages(
+        final GitHistory history, final String head,
+        final Collection<String> excluded) {
+        return history.fullMessages(
+            head,
+            excluded,
+            Optional.ofNullable(this.rules)
+                .orElse(Collections.emptyList())
+                .stream()
+                .anyMatch(MessageRule::scoped),
+            this.signed()
+        );
+    }
+
+    /**
+     * Whether any rule applies to signatures.
+     *
+     * @return whether signatures are verified
+     */
+    private boolean signed() {
+        return Optional.ofNullable(this.rules)
+            .orElse(Collections.emptyList())
+            .stream()
+            .anyMatch(MessageRule::signed);
+    }
+
+    /**
+     * Mismatches of full commit messages, reported with violated rules if
+     * rules are set.
+     *
+     * @param messages full commit messages
+     * @param cached rules remembering verdicts of commits, if enabled
+     * @param measured metrics of the run
+     * @return mismatches
+     */
+    private Supplier<Collection<String>> fullMismatches(
+        final Supplier<? extends Iterable<? extends CommitMessage>> messages,
+        final Function<Predicate<CommitMessage>, Predicate<CommitMessage>>
+            cached,
+        final Metrics measured) {
+        final Predicate<CommitMessage> matched;
+        Function<CommitMessage, String> report = Object::toString;
+        if (this.rules == null) {
+            matched = new MessageRules(
+                this.rules(this.pattern),
+                this.rules(
+                    Objects.toString(this.bodyPattern, MessagesMojo.ANY)
+                ),
+                this.rules(
+                    Objects.toString(this.trailersPattern, MessagesMojo.ANY)
+                )
+            );
+        } else {
+            final RuleSet checks = this.ruleSet();
+            matched = checks;
+            report = checks::report;
+        }
+        return this.mismatches(
+            messages,
+            cached.apply(
+                this.memoized(matched, MessagesMojo::content)
+            ),
+            report,
+            measured
+        );
+    }
+
+    /**
+     * Configured rules evaluated in a single pass.
+     *
+     * @return rules
+     */
+    private RuleSet ruleSet() {
+        return new RuleSet(
+            this.definitions().stream()
+                .map(rule -> rule.compile(this::rules))
+                .collect(Collectors.toList()),
+            this.fullReport
+        );
+    }
+
+    /**
+     * Rules of patterns followed by configured rules.
+     *
+     * @return rules
+     */
+    private List<MessageRule> definitions() {
+        final List<MessageRule> result = new ArrayList<>(this.rules.size());
+        if (this.pattern != null) {
+            result.add(new MessageRule("pattern", "subject", this.pattern));
+        }
+        if (this.bodyPattern != null) {
+            result.add(
+                new MessageRule("bodyPattern", "body", this.bodyPattern)
+            );
+        }
+        if (this.trailersPattern != null) {
+            result.add(
+                new MessageRule(
+                    "trailersPattern", "trailers", this.trailersPattern
+                )
+            );
+        }
+        result.addAll(this.rules);
+        return result;
+    }
+
+    /**
+     * What commit messages are expected to match.
+     *
+     * @return pattern, or ids of rules if rules are set
+     */
+    private String expected() {
+        String result = this.pattern;
+        if (this.rules != null) {
+            result = String.format(
+                "rules %s",
+                this.definitions().stream()
+                    .map(MessageRule::id)
+                    .collect(Collectors.toList())
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Rules remembering verdicts of distinct messages, if enabled.
+     *
+     * @param predicate rules
+     * @param content content of message
+     * @param <T> message type
+     * @return rules
+     */
+    private <T> Predicate<T> memoized(final Predicate<T> predicate,
+        final Function<? super T, ContentKey> content) {
+        Predicate<T> result = predicate;
+        if (this.memo > 0) {
+            result = new MemoizedRules<>(predicate, content, this.memo);
+        }
+        return result;
+    }
+
+    /**
+     * Mismatches found with verdicts table open.
+     *
+     * @param file verdicts table file
+     * @param matching mismatches with table
+     * @return mismatches
+     */
+    @SneakyThrows
+    private Collection<String> cached(final File file,
+        final Function<VerdictTable, Collection<String>> matching) {
+        try (VerdictTable table = new VerdictTable(file, this.verdictSlots)) {
+            return matching.apply(table);
+        }
+    }
+
+    /**
+     * Whether full commit messages are linted.
+     *
+     * @return whether body or trailers pattern is set
+     */
+    private boolean full() {
+        return this.bodyPattern != null || this.trailersPattern != null
+            || this.rules != null;
+    }
+
+    /**
+     * All patterns, the subject pattern alone unless full messages are
+     * linted.
+     *
+     * @return patterns
+     */
+    private String patterns() {
+        String result = this.pattern;
+        if (this.rules != null) {
+            result = this.definitions().stream()
+                .map(MessageRule::definition)
+                .collect(
+                    Collectors.joining(
+                        "\n", "", String.format("%n%b", this.fullReport)
+                    )
+                );
+        } else if (this.full()) {
+            result = String.join(
+                "\n",
+                this.pattern,
+                String.valueOf(this.bodyPattern),
+                String.valueOf(this.trailersPattern)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Rules of selected engine.
+     *
+     * @param regex pattern
+     * @return rules
+     */
+    private Predicate<CharSequence> rules(final String regex) {
+        return new EngineRules(this.engine, Duration.ofMillis(this.timeout))
+            .apply(regex);
+    }
+
+    /**
+     * Subjects that stay valid after the next one is read if they are matched
+     * in parallel.
+     *
+     * @param subjects subjects
+     * @return subjects
+     */
+    private Supplier<? extends Iterable<? extends CharSequence>> subjects(
+        final Supplier<Iterable<CharSequence>> subjects) {
+        Supplier<? extends Iterable<? extends CharSequence>> result = subjects;
+        if (this.threads > 1) {
+            result = new StringLines(subjects);
+        }
+        return result;
+    }
+
+    /**
+     * Mismatches of commit messages, matched in parallel if there are several
+     * threads.
+     *
+     * @param messages commit messages
+     * @param predicate rules
+     * @param report report of mismatched message
+     * @param measured metrics of the run
+     * @param <T> message type
+     * @return mismatches
+     */
+    private <T> Supplier<Collection<String>> mismatches(
+        final Supplier<? extends Iterable<? extends T>> messages,
+        final Predicate<? super T> predicate,
+        final Function<? super T, String> report, final Metrics measured) {
+        final Predicate<T> metered = new MeteredRules<>(predicate, measured);
+        final Supplier<Collection<String>> result;
+        if (this.threads > 1) {
+            result = new ParallelMismatches<>(
+                messages, metered, report, this.threads
+            );
+        } else {
+            result = new Mismatches<>(messages, metered, report);
+        }
+        return new MeteredMismatches(result, measured);
+    }
+
+    /**
+     * Logs metrics of the run and writes them to file.
+     *
+     * @param measured metrics of the run
+     * @param start start of the run
+     */
+    private void report(final Metrics measured, final long start) {
+        final long wall = System.nanoTime() - start;
+        measured.add("wall.nanos", wall);
+        measured.add(
+            "commits.per.second",
+            measured.get("commits") * TimeUnit.SECONDS.toNanos(1)
+                / Math.max(measured.get("lint.nanos"), 1)
+        );
+        this.getLog().info(String.format("Metrics: %s", measured));
+        if (this.metrics != null) {
+            measured.save(this.metrics);
+        }
+    }
+
+    /**
+     * Content of full commit message its verdict depends on.
+     *
+     * @param message full commit message
+     * @return key of text followed by signature and changed paths
+     */
+    private static ContentKey content(final CommitMessage message) {
+        final List<CharSequence> parts = new ArrayList<>(
+            message.paths().size() + 2
+        );
+        parts.add(message.text());
+        parts.add(message.signature());
+        parts.addAll(message.paths());
+        return new ContentKey(parts);
     }
 
 }
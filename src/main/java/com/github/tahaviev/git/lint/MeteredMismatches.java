@@ -0,0 +1,62 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents mismatches whose computation is measured.
+ * <p>
+ * Wall time of reading and matching all messages is added to
+ * {@code lint.nanos} and the largest number of mismatches retained is kept
+ * in {@code mismatches.peak}.
+ */
+@RequiredArgsConstructor
+public final class MeteredMismatches
+    implements Supplier<Collection<String>> {
+
+    /**
+     * Origin mismatches.
+     */
+    private final Supplier<Collection<String>> origin;
+
+    /**
+     * Metrics.
+     */
+    private final Metrics metrics;
+
+    @Override
+    public Collection<String> get() {
+        final long start = System.nanoTime();
+        final Collection<String> result = this.origin.get();
+        this.metrics.add("lint.nanos", System.nanoTime() - start);
+        this.metrics.max("mismatches.peak", result.size());
+        return result;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents process whose standard output reads are measured.
+ * <p>
+ * Bytes read are added to {@code process.read.bytes} and time blocked in
+ * reads, mostly spent by git walking history, to
+ * {@code process.read.nanos}.
+ */
+@RequiredArgsConstructor
+public final class MeteredProcess extends Process {
+
+    /**
+     * Origin process.
+     */
+    private final Process origin;
+
+    /**
+     * Metrics.
+     */
+    private final Metrics metrics;
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this.origin.getOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new FilterInputStream(this.origin.getInputStream()) {
+
+            @Override
+            public int read() throws IOException {
+                final long start = System.nanoTime();
+                final int result = super.read();
+                this.measured(start, Math.min(result + 1, 1));
+                return result;
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset,
+                final int length) throws IOException {
+                final long start = System.nanoTime();
+                final int result = super.read(bytes, offset, length);
+                this.measured(start, Math.max(result, 0));
+                return result;
+            }
+
+            /**
+             * Measures read.
+             *
+             * @param start read start
+             * @param count bytes read
+             */
+            private void measured(final long start, final int count) {
+                MeteredProcess.this.metrics.add(
+                    "process.read.nanos", System.nanoTime() - start
+                );
+                MeteredProcess.this.metrics.add("process.read.bytes", count);
+            }
+        };
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return this.origin.getErrorStream();
+    }
+
+    @Override
+    public int waitFor() throws InterruptedException {
+        return this.origin.waitFor();
+    }
+
+    @Override
+    public int exitValue() {
+        return this.origin.exitValue();
+    }
+
+    @Override
+    public void destroy() {
+        this.origin.destroy();
+    }
+
+}
@@ -0,0 +1,61 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents rules whose matching is measured.
+ * <p>
+ * Matched commits are counted in {@code commits} and time spent matching,
+ * summed over threads, is added to {@code match.nanos}.
+ *
+ * @param <T> message type
+ */
+@RequiredArgsConstructor
+public final class MeteredRules<T> implements Predicate<T> {
+
+    /**
+     * Origin rules.
+     */
+    private final Predicate<? super T> origin;
+
+    /**
+     * Metrics.
+     */
+    private final Metrics metrics;
+
+    @Override
+    public boolean test(final T message) {
+        final long start = System.nanoTime();
+        final boolean result = this.origin.test(message);
+        this.metrics.add("match.nanos", System.nanoTime() - start);
+        this.metrics.add("commits", 1);
+        return result;
+    }
+
+}
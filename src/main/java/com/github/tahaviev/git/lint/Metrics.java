@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+
+/**
+ * Represents named measurements of a lint run.
+ * <p>
+ * Measurements are updated concurrently by instrumented readers and
+ * matchers, and are reported in name order.
+ */
+public final class Metrics {
+
+    /**
+     * Measurements by name.
+     */
+    private final ConcurrentMap<String, AtomicLong> values =
+        new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds amount to measurement.
+     *
+     * @param name measurement name
+     * @param amount amount
+     */
+    public void add(final String name, final long amount) {
+        this.value(name).addAndGet(amount);
+    }
+
+    /**
+     * Raises measurement to value if it is less.
+     *
+     * @param name measurement name
+     * @param value value
+     */
+    public void max(final String name, final long value) {
+        this.value(name).accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Measurement.
+     *
+     * @param name measurement name
+     * @return measurement, zero if nothing was measured
+     */
+    public long get(final String name) {
+        return this.values.getOrDefault(name, new AtomicLong()).get();
+    }
+
+    /**
+     * Writes measurements as JSON object.
+     *
+     * @param file file to write to
+     */
+    @SneakyThrows
+    public void save(final File file) {
+        Files.createDirectories(
+            file.getAbsoluteFile().getParentFile().toPath()
+        );
+        Files.write(
+            file.toPath(),
+            Collections.singletonList(
+                this.joined("  \"%s\": %d", ",\n", "{\n", "\n}")
+            ),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.joined("%s=%d", ", ", "", "");
+    }
+
+    /**
+     * Formatted measurements.
+     *
+     * @param format format of name and value
+     * @param delimiter delimiter between measurements
+     * @param prefix prefix
+     * @param suffix suffix
+     * @return formatted measurements
+     */
+    private String joined(final String format, final String delimiter,
+        final String prefix, final String suffix) {
+        return this.values.entrySet().stream()
+            .map(
+                entry -> String.format(
+                    format, entry.getKey(), entry.getValue().get()
+                )
+            )
+            .collect(Collectors.joining(delimiter, prefix, suffix));
+    }
+
+    /**
+     * Measurement, created if absent.
+     *
+     * @param name measurement name
+     * @return measurement
+     */
+    private AtomicLong value(final String name) {
+        return this.values.computeIfAbsent(name, key -> new AtomicLong());
+    }
+
+}
@@ -26,32 +26,67 @@
 package com.github.tahaviev.git.lint;
 
 import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
-import lombok.RequiredArgsConstructor;
 
 /**
- * Represents mismatches with provided pattern for provided lines.
+ * Represents mismatches with provided rules for provided lines, each reported
+ * as its string form unless another report is provided.
+ *
+ * @param <T> line type
  */
-@RequiredArgsConstructor
-public final class Mismatches implements Supplier<Collection<String>> {
+public final class Mismatches<T> implements Supplier<Collection<String>> {
 
     /**
      * Lines.
      */
-    private final Supplier<? extends Iterable<String>> lines;
+    private final Supplier<? extends Iterable<? extends T>> lines;
+
+    /**
+     * Rules.
+     */
+    private final Predicate<? super T> rules;
+
+    /**
+     * Report of mismatched line.
+     */
+    private final Function<? super T, String> report;
+
+    /**
+     * Ctor.
+     *
+     * @param source lines
+     * @param predicate rules
+     */
+    public Mismatches(final Supplier<? extends Iterable<? extends T>> source,
+        final Predicate<? super T> predicate) {
+        this(source, predicate, Object::toString);
+    }
 
     /**
-     * Pattern.
+     * Ctor.
+     *
+     * @param source lines
+     * @param predicate rules
+     * @param reported report of mismatched line
      */
-    private final String pattern;
+    public Mismatches(final Supplier<? extends Iterable<? extends T>> source,
+        final Predicate<? super T> predicate,
+        final Function<? super T, String> reported) {
+        this.lines = source;
+        this.rules = predicate;
+        this.report = reported;
+    }
 
     @Override
     public Collection<String> get() {
         return StreamSupport
             .stream(this.lines.get().spliterator(), false)
-            .filter(line -> !line.matches(this.pattern))
+            .filter(line -> !this.rules.test(line))
+            .map(this.report)
             .collect(Collectors.toList());
     }
 
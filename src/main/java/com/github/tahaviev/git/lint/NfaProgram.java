@@ -0,0 +1,442 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Represents Thompson NFA program matched by simulating all its threads in
+ * lockstep, in time linear to the input length and without backtracking.
+ * <p>
+ * The program is built by appending instructions and patching jump targets.
+ * Simulation state is kept per thread, so a built program can be shared
+ * between threads.
+ */
+public final class NfaProgram {
+
+    /**
+     * Consumes character from set.
+     */
+    private static final int CONSUME = 0;
+
+    /**
+     * Continues at both targets.
+     */
+    private static final int SPLIT = 1;
+
+    /**
+     * Continues at target.
+     */
+    private static final int JUMP = 2;
+
+    /**
+     * Asserts beginning of input.
+     */
+    private static final int BEGIN = 3;
+
+    /**
+     * Asserts end of input, optionally followed by a line terminator.
+     */
+    private static final int END = 4;
+
+    /**
+     * Accepts input.
+     */
+    private static final int MATCH = 5;
+
+    /**
+     * Initial instructions capacity.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Maximum instructions.
+     */
+    private static final int LIMIT = 100_000;
+
+    /**
+     * Pattern the program is built from.
+     */
+    private final String pattern;
+
+    /**
+     * Simulation state per thread.
+     */
+    private final ThreadLocal<Threads> threads;
+
+    /**
+     * Instruction codes.
+     */
+    private int[] codes;
+
+    /**
+     * First targets of instructions.
+     */
+    private int[] firsts;
+
+    /**
+     * Second targets of instructions.
+     */
+    private int[] seconds;
+
+    /**
+     * Character sets of consuming instructions.
+     */
+    private CharRanges[] sets;
+
+    /**
+     * Instructions count.
+     */
+    private int count;
+
+    /**
+     * Ctor.
+     *
+     * @param source pattern the program is built from
+     */
+    public NfaProgram(final String source) {
+        this.pattern = source;
+        this.codes = new int[NfaProgram.CAPACITY];
+        this.firsts = new int[NfaProgram.CAPACITY];
+        this.seconds = new int[NfaProgram.CAPACITY];
+        this.sets = new CharRanges[NfaProgram.CAPACITY];
+        this.threads = ThreadLocal.withInitial(() -> new Threads(this.size()));
+    }
+
+    /**
+     * Position of the next instruction.
+     *
+     * @return instructions count
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Appends instruction consuming character from set.
+     *
+     * @param set character set
+     */
+    public void consume(final CharRanges set) {
+        this.append(NfaProgram.CONSUME, set);
+    }
+
+    /**
+     * Appends split, its targets are to be patched.
+     *
+     * @return split position
+     */
+    public int split() {
+        return this.append(NfaProgram.SPLIT, null);
+    }
+
+    /**
+     * Appends jump, its target is to be patched.
+     *
+     * @return jump position
+     */
+    public int jump() {
+        return this.append(NfaProgram.JUMP, null);
+    }
+
+    /**
+     * Appends beginning of input assertion.
+     */
+    public void begin() {
+        this.append(NfaProgram.BEGIN, null);
+    }
+
+    /**
+     * Appends end of input assertion.
+     */
+    public void end() {
+        this.append(NfaProgram.END, null);
+    }
+
+    /**
+     * Appends accepting instruction.
+     */
+    public void match() {
+        this.append(NfaProgram.MATCH, null);
+    }
+
+    /**
+     * Sets targets of split or jump.
+     *
+     * @param position split or jump position
+     * @param first first target
+     * @param second second target, ignored by jump
+     */
+    public void patch(final int position, final int first, final int second) {
+        this.firsts[position] = first;
+        this.seconds[position] = second;
+    }
+
+    /**
+     * Whether the whole input is accepted.
+     *
+     * @param input input
+     * @return whether program accepts input
+     */
+    public boolean matches(final CharSequence input) {
+        final Threads state = this.threads.get();
+        state.current.clear();
+        this.follow(state, state.current, 0, input, 0);
+        for (int index = 0; index < input.length(); ++index) {
+            final char character = input.charAt(index);
+            state.next.clear();
+            for (int item = 0; item < state.current.size; ++item) {
+                final int position = state.current.dense[item];
+                if (this.codes[position] == NfaProgram.CONSUME
+                    && this.sets[position].contains(character)) {
+                    this.follow(
+                        state, state.next, position + 1, input, index + 1
+                    );
+                }
+            }
+            final Positions swap = state.current;
+            state.current = state.next;
+            state.next = swap;
+        }
+        boolean result = false;
+        for (int item = 0; item < state.current.size && !result; ++item) {
+            result = this.codes[state.current.dense[item]] == NfaProgram.MATCH;
+        }
+        return result;
+    }
+
+    /**
+     * Appends instruction.
+     *
+     * @param code instruction code
+     * @param set character set or {@code null}
+     * @return instruction position
+     */
+    private int append(final int code, final CharRanges set) {
+        if (this.size() == NfaProgram.LIMIT) {
+            throw new PatternSyntaxException(
+                "Pattern is too large", this.pattern, -1
+            );
+        }
+        if (this.count == this.codes.length) {
+            final int capacity = this.count * 2;
+            this.codes = Arrays.copyOf(this.codes, capacity);
+            this.firsts = Arrays.copyOf(this.firsts, capacity);
+            this.seconds = Arrays.copyOf(this.seconds, capacity);
+            this.sets = Arrays.copyOf(this.sets, capacity);
+        }
+        this.codes[this.count] = code;
+        this.sets[this.count] = set;
+        this.count += 1;
+        return this.count - 1;
+    }
+
+    /**
+     * Adds thread at instruction, following splits, jumps and assertions.
+     *
+     * @param state simulation state
+     * @param positions threads to add to
+     * @param start instruction position
+     * @param input input
+     * @param index input position
+     */
+    private void follow(final Threads state, final Positions positions,
+        final int start, final CharSequence input, final int index) {
+        int top = 0;
+        state.stack[top] = start;
+        top += 1;
+        while (top > 0) {
+            top -= 1;
+            final int position = state.stack[top];
+            if (!positions.contains(position)) {
+                positions.add(position);
+                final int code = this.codes[position];
+                if (code == NfaProgram.SPLIT) {
+                    state.stack[top] = this.seconds[position];
+                    state.stack[top + 1] = this.firsts[position];
+                    top += 2;
+                } else if (code == NfaProgram.JUMP) {
+                    state.stack[top] = this.firsts[position];
+                    top += 1;
+                } else if (NfaProgram.holds(code, input, index)) {
+                    state.stack[top] = position + 1;
+                    top += 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether instruction is assertion that holds at input position.
+     *
+     * @param code instruction code
+     * @param input input
+     * @param index input position
+     * @return whether thread passes instruction without consuming
+     */
+    private static boolean holds(final int code, final CharSequence input,
+        final int index) {
+        return code == NfaProgram.BEGIN && index == 0
+            || code == NfaProgram.END && NfaProgram.ends(input, index);
+    }
+
+    /**
+     * Whether position is at the end of input or before final line
+     * terminator.
+     *
+     * @param input input
+     * @param index input position
+     * @return whether end assertion holds
+     */
+    private static boolean ends(final CharSequence input, final int index) {
+        final int rest = input.length() - index;
+        return rest == 0
+            || rest == 1 && NfaProgram.terminator(input.charAt(index))
+            && !NfaProgram.crlf(input, index)
+            || rest == 2 && input.charAt(index) == '\r'
+            && input.charAt(index + 1) == '\n';
+    }
+
+    /**
+     * Whether position is between carriage return and line feed.
+     *
+     * @param input input
+     * @param index input position
+     * @return whether position splits {@code \r\n}
+     */
+    private static boolean crlf(final CharSequence input, final int index) {
+        return index > 0 && input.charAt(index - 1) == '\r'
+            && input.charAt(index) == '\n';
+    }
+
+    /**
+     * Whether character is line terminator.
+     *
+     * @param character character
+     * @return whether character terminates line
+     */
+    private static boolean terminator(final char character) {
+        return character == '\n' || character == '\r'
+            || character == '\u0085' || character == '\u2028'
+            || character == '\u2029';
+    }
+
+    /**
+     * Simulation state of thread.
+     */
+    private static final class Threads {
+
+        /**
+         * Threads at current input position.
+         */
+        private Positions current;
+
+        /**
+         * Threads at next input position.
+         */
+        private Positions next;
+
+        /**
+         * Instructions to follow.
+         */
+        private final int[] stack;
+
+        /**
+         * Ctor.
+         *
+         * @param size instructions count
+         */
+        Threads(final int size) {
+            this.current = new Positions(size);
+            this.next = new Positions(size);
+            this.stack = new int[size * 2 + 1];
+        }
+
+    }
+
+    /**
+     * Sparse set of instruction positions, cleared in constant time.
+     */
+    private static final class Positions {
+
+        /**
+         * Positions in insertion order.
+         */
+        private final int[] dense;
+
+        /**
+         * Indexes of positions in dense array.
+         */
+        private final int[] sparse;
+
+        /**
+         * Positions count.
+         */
+        private int size;
+
+        /**
+         * Ctor.
+         *
+         * @param capacity instructions count
+         */
+        Positions(final int capacity) {
+            this.dense = new int[capacity];
+            this.sparse = new int[capacity];
+        }
+
+        /**
+         * Whether set contains position.
+         *
+         * @param position position
+         * @return whether position was added since last clear
+         */
+        boolean contains(final int position) {
+            final int index = this.sparse[position];
+            return index < this.size && this.dense[index] == position;
+        }
+
+        /**
+         * Adds position.
+         *
+         * @param position position
+         */
+        void add(final int position) {
+            this.sparse[position] = this.size;
+            this.dense[this.size] = position;
+            this.size += 1;
+        }
+
+        /**
+         * Removes all positions.
+         */
+        void clear() {
+            this.size = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents memory-mapped fan-out table followed by sorted object ids, the
+ * way pack indexes and commit graphs store them.
+ */
+@RequiredArgsConstructor
+public final class ObjectIds {
+
+    /**
+     * Fan-out table entries.
+     */
+    private static final int ENTRIES = 256;
+
+    /**
+     * Object id length.
+     */
+    private static final int ID = 20;
+
+    /**
+     * Unsigned byte mask.
+     */
+    private static final int MASK = 0xff;
+
+    /**
+     * File containing table.
+     */
+    private final MappedFile file;
+
+    /**
+     * Fan-out table offset.
+     */
+    private final long fanout;
+
+    /**
+     * Sorted ids offset.
+     */
+    private final long ids;
+
+    /**
+     * Objects count.
+     *
+     * @return objects count
+     */
+    public int count() {
+        return this.fanout(ObjectIds.ENTRIES - 1);
+    }
+
+    /**
+     * Position of object id.
+     *
+     * @param id object id
+     * @return position or -1 if there is no such id
+     */
+    public int position(final byte[] id) {
+        final int first = id[0] & ObjectIds.MASK;
+        int low = 0;
+        if (first > 0) {
+            low = this.fanout(first - 1);
+        }
+        int high = this.fanout(first) - 1;
+        int result = -1;
+        while (low <= high) {
+            final int middle = low + high >>> 1;
+            final int comparison = this.compare(middle, id);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                result = middle;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Object id at position.
+     *
+     * @param position position
+     * @return hexadecimal object id
+     */
+    public String id(final int position) {
+        final StringBuilder result = new StringBuilder(ObjectIds.ID * 2);
+        final long start = this.ids + (long) position * ObjectIds.ID;
+        for (int index = 0; index < ObjectIds.ID; ++index) {
+            result.append(String.format("%02x", this.file.get(start + index)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Objects count up to fan-out entry inclusive.
+     *
+     * @param entry fan-out entry
+     * @return objects count
+     */
+    private int fanout(final int entry) {
+        return this.file.getInt(this.fanout + (long) entry * Integer.BYTES);
+    }
+
+    /**
+     * Compares id at position with provided one.
+     *
+     * @param position position
+     * @param id object id
+     * @return comparison result
+     */
+    private int compare(final int position, final byte[] id) {
+        final long start = this.ids + (long) position * ObjectIds.ID;
+        int result = 0;
+        for (int index = 0; index < ObjectIds.ID && result == 0; ++index) {
+            result = this.file.get(start + index)
+                - (id[index] & ObjectIds.MASK);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Represents git history read from git objects directly, without forking git.
+ * <p>
+ * Changed paths are not read, full messages have none even if asked.
+ * Signatures are verified by forking git for batches of commits in
+ * parallel, as messages are read.
+ */
+public final class ObjectsHistory implements GitHistory {
+
+    /**
+     * Git directory path.
+     */
+    private final String gitdir;
+
+    /**
+     * References.
+     */
+    private final GitRefs refs;
+
+    /**
+     * Object database.
+     */
+    private final GitObjects objects;
+
+    /**
+     * Commit-graph if repository has one.
+     */
+    private final Optional<CommitGraph> graph;
+
+    /**
+     * Ctor.
+     *
+     * @param directory git repository directory
+     */
+    public ObjectsHistory(final File directory) {
+        this(new GitRepository(directory));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository
+     */
+    public ObjectsHistory(final GitRepository repository) {
+        this.gitdir = repository.root().getPath();
+        this.refs = repository.refs();
+        this.objects = repository.objects();
+        this.graph = repository.graph();
+    }
+
+    @Override
+    public String root() {
+        return this.gitdir;
+    }
+
+    @Override
+    public String revision(final String name) {
+        return new Revision(this.refs, this.objects, name).get();
+    }
+
+    @Override
+    public boolean ancestor(final String ancestor, final String descendant) {
+        return this.objects.contains(ancestor)
+            && new CommitRange(
+                this.objects,
+                this.graph,
+                Collections.singleton(ancestor),
+                Collections.singleton(descendant)
+            )
+                .get()
+                .isEmpty();
+    }
+
+    @Override
+    public Supplier<Iterable<CharSequence>> messages(final String head,
+        final Collection<String> excluded) {
+        return new CommitMessagesFromObjects<>(
+            this.objects,
+            this.range(head, excluded),
+            (id, commit) -> commit.subject()
+        );
+    }
+
+    @Override
+    public Supplier<Iterable<CommitMessage>> fullMessages(final String head,
+        final Collection<String> excluded) {
+        return new CommitMessagesFromObjects<>(
+            this.objects,
+            this.range(head, excluded),
+            (id, commit) -> new CommitMessage(id, commit.message())
+        );
+    }
+
+    @Override
+    public Supplier<Iterable<CommitMessage>> fullMessages(final String head,
+        final Collection<String> excluded, final boolean paths,
+        final boolean signatures) {
+        Supplier<Iterable<CommitMessage>> result = this.fullMessages(
+            head, excluded
+        );
+        if (signatures) {
+            result = new SignedMessages(
+                result, new BatchSignatures(new File(this.gitdir))
+            );
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        // nothing is kept open, mapped files are released by collector
+    }
+
+    /**
+     * Non merge commits reachable from head and not reachable from excluded
+     * commits.
+     *
+     * @param head head commit id
+     * @param excluded excluded commit ids
+     * @return commit ids
+     */
+    private CommitRange range(final String head,
+        final Collection<String> excluded) {
+        return new CommitRange(
+            this.objects, this.graph, Collections.singleton(head), excluded
+        );
+    }
+
+}
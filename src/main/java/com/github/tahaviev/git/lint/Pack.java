@@ -0,0 +1,307 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.InflaterInputStream;
+import lombok.SneakyThrows;
+
+/**
+ * Represents memory-mapped pack file.
+ * <p>
+ * Deltified objects are resolved against their bases, which are kept in a
+ * small cache since delta chains usually share them.
+ */
+public final class Pack {
+
+    /**
+     * Pack signature.
+     */
+    private static final int SIGNATURE = 0x5041434b;
+
+    /**
+     * Object types by pack type code.
+     */
+    private static final String[] TYPES = {
+        "", "commit", "tree", "blob", "tag", "",
+    };
+
+    /**
+     * Offset delta type code.
+     */
+    private static final int OFS_DELTA = 6;
+
+    /**
+     * Reference delta type code.
+     */
+    private static final int REF_DELTA = 7;
+
+    /**
+     * Type code shift in entry header.
+     */
+    private static final int TYPE_SHIFT = 4;
+
+    /**
+     * Type code mask in entry header.
+     */
+    private static final int TYPE_MASK = 7;
+
+    /**
+     * Size mask in first byte of entry header.
+     */
+    private static final int SIZE_MASK = 0xf;
+
+    /**
+     * Varint continuation flag.
+     */
+    private static final int MORE = 0x80;
+
+    /**
+     * Varint value mask.
+     */
+    private static final int VALUE = 0x7f;
+
+    /**
+     * Varint value bits.
+     */
+    private static final int BITS = 7;
+
+    /**
+     * Object id length.
+     */
+    private static final int ID = 20;
+
+    /**
+     * Cached delta bases limit.
+     */
+    private static final int BASES = 256;
+
+    /**
+     * Pack file.
+     */
+    private final MappedFile file;
+
+    /**
+     * Pack index.
+     */
+    private final PackIndex index;
+
+    /**
+     * Delta bases by offset.
+     */
+    private final Map<Long, GitObject> bases;
+
+    /**
+     * Ctor.
+     *
+     * @param pack pack file
+     * @param offsets pack index
+     */
+    public Pack(final MappedFile pack, final PackIndex offsets) {
+        this(pack, offsets, Pack.BASES);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param pack pack file
+     * @param offsets pack index
+     * @param limit cached delta bases limit
+     */
+    @SneakyThrows
+    public Pack(
+        final MappedFile pack, final PackIndex offsets, final int limit
+    ) {
+        if (pack.size() < Integer.BYTES || pack.getInt(0) != Pack.SIGNATURE) {
+            throw new IOException("unsupported pack");
+        }
+        this.file = pack;
+        this.index = offsets;
+        this.bases = Collections.synchronizedMap(
+            new LinkedHashMap<Long, GitObject>(limit, 1.0f, true) {
+
+                /**
+                 * Serial version UID.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<Long, GitObject> eldest
+                ) {
+                    return this.size() > limit;
+                }
+            }
+        );
+    }
+
+    /**
+     * Whether pack contains object.
+     *
+     * @param id object id
+     * @return whether object exists
+     */
+    public boolean contains(final byte[] id) {
+        return this.index.offset(id) >= 0;
+    }
+
+    /**
+     * Object by id.
+     *
+     * @param id object id
+     * @return object if pack contains it
+     */
+    @SneakyThrows
+    public Optional<GitObject> object(final byte[] id) {
+        final long offset = this.index.offset(id);
+        Optional<GitObject> result = Optional.empty();
+        if (offset >= 0) {
+            result = Optional.of(this.entry(offset));
+        }
+        return result;
+    }
+
+    /**
+     * Object at offset.
+     *
+     * @param offset entry offset
+     * @return object
+     * @throws IOException if entry is corrupted
+     */
+    private GitObject entry(final long offset) throws IOException {
+        final DataInputStream input = new DataInputStream(
+            this.file.stream(offset)
+        );
+        int current = input.readUnsignedByte();
+        final int type = current >>> Pack.TYPE_SHIFT & Pack.TYPE_MASK;
+        long size = current & Pack.SIZE_MASK;
+        int shift = Pack.TYPE_SHIFT;
+        while ((current & Pack.MORE) != 0) {
+            current = input.readUnsignedByte();
+            size |= (long) (current & Pack.VALUE) << shift;
+            shift += Pack.BITS;
+        }
+        final GitObject result;
+        if (type == Pack.OFS_DELTA) {
+            result = Pack.delta(
+                this.base(offset - Pack.distance(input)), input, size
+            );
+        } else if (type == Pack.REF_DELTA) {
+            final byte[] id = new byte[Pack.ID];
+            input.readFully(id);
+            result = Pack.delta(this.base(this.index.offset(id)), input, size);
+        } else if (Pack.TYPES[type].isEmpty()) {
+            throw new IOException(
+                String.format("unknown pack object type %d", type)
+            );
+        } else {
+            result = new GitObject(Pack.TYPES[type], Pack.inflate(input, size));
+        }
+        return result;
+    }
+
+    /**
+     * Delta base at offset.
+     *
+     * @param offset base entry offset
+     * @return delta base
+     * @throws IOException if base is missing or corrupted
+     */
+    private GitObject base(final long offset) throws IOException {
+        if (offset < 0) {
+            throw new IOException("missing delta base");
+        }
+        GitObject result = this.bases.get(offset);
+        if (result == null) {
+            result = this.entry(offset);
+            this.bases.put(offset, result);
+        }
+        return result;
+    }
+
+    /**
+     * Reads offset delta distance.
+     *
+     * @param input entry input
+     * @return distance to base entry
+     * @throws IOException if entry is truncated
+     */
+    private static long distance(final DataInputStream input)
+        throws IOException {
+        int current = input.readUnsignedByte();
+        long result = current & Pack.VALUE;
+        while ((current & Pack.MORE) != 0) {
+            current = input.readUnsignedByte();
+            result = result + 1 << Pack.BITS | current & Pack.VALUE;
+        }
+        return result;
+    }
+
+    /**
+     * Applies deltified entry to base.
+     *
+     * @param base delta base
+     * @param input entry input
+     * @param size inflated delta size
+     * @return target object
+     * @throws IOException if entry is corrupted
+     */
+    private static GitObject delta(final GitObject base,
+        final InputStream input, final long size) throws IOException {
+        return new GitObject(
+            base.type(),
+            new Delta(Pack.inflate(input, size)).apply(base.content())
+        );
+    }
+
+    /**
+     * Inflates entry data.
+     *
+     * @param input entry input
+     * @param size inflated size
+     * @return inflated data
+     * @throws IOException if data is corrupted
+     */
+    private static byte[] inflate(final InputStream input, final long size)
+        throws IOException {
+        final byte[] result = new byte[(int) size];
+        try (
+            DataInputStream inflated = new DataInputStream(
+                new InflaterInputStream(input)
+            )
+        ) {
+            inflated.readFully(result);
+        }
+        return result;
+    }
+
+}
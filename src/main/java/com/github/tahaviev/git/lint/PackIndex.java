@@ -0,0 +1,149 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import lombok.SneakyThrows;
+
+/**
+ * Represents version 2 pack index.
+ * <p>
+ * Object offsets are found by binary search over the memory-mapped index, so
+ * nothing but the index header is read up front.
+ */
+public final class PackIndex {
+
+    /**
+     * Index signature.
+     */
+    private static final int SIGNATURE = 0xff744f63;
+
+    /**
+     * Supported index version.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Fan-out table offset.
+     */
+    private static final int FANOUT = 8;
+
+    /**
+     * Fan-out table entries.
+     */
+    private static final int ENTRIES = 256;
+
+    /**
+     * Object id length.
+     */
+    private static final int ID = 20;
+
+    /**
+     * Offset of CRC entry.
+     */
+    private static final int CRC = 4;
+
+    /**
+     * Large offset flag.
+     */
+    private static final int LARGE = 0x80000000;
+
+    /**
+     * Index file.
+     */
+    private final MappedFile file;
+
+    /**
+     * Sorted object ids.
+     */
+    private final ObjectIds ids;
+
+    /**
+     * Objects count.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     *
+     * @param index index file
+     */
+    @SneakyThrows
+    public PackIndex(final MappedFile index) {
+        if (index.size() < PackIndex.FANOUT + PackIndex.ENTRIES * Integer.BYTES
+            || index.getInt(0) != PackIndex.SIGNATURE
+            || index.getInt(Integer.BYTES) != PackIndex.VERSION) {
+            throw new IOException("unsupported pack index");
+        }
+        this.file = index;
+        this.ids = new ObjectIds(
+            index,
+            PackIndex.FANOUT,
+            PackIndex.FANOUT + PackIndex.ENTRIES * Integer.BYTES
+        );
+        this.count = this.ids.count();
+    }
+
+    /**
+     * Offset of object in pack.
+     *
+     * @param id object id
+     * @return offset or -1 if there is no such object
+     */
+    public long offset(final byte[] id) {
+        final int position = this.ids.position(id);
+        long result = -1;
+        if (position >= 0) {
+            result = this.position(position);
+        }
+        return result;
+    }
+
+    /**
+     * Pack offset of object at index position.
+     *
+     * @param position index position
+     * @return pack offset
+     */
+    private long position(final int position) {
+        final long offsets = PackIndex.FANOUT
+            + PackIndex.ENTRIES * Integer.BYTES
+            + (long) this.count * (PackIndex.ID + PackIndex.CRC);
+        final int offset = this.file.getInt(
+            offsets + (long) position * Integer.BYTES
+        );
+        long result = offset;
+        if ((offset & PackIndex.LARGE) != 0) {
+            result = this.file.getLong(
+                offsets
+                    + (long) this.count * Integer.BYTES
+                    + (long) (offset & ~PackIndex.LARGE) * Long.BYTES
+            );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,198 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+
+/**
+ * Represents mismatches with provided rules for provided lines, matched by a
+ * pool of threads.
+ * <p>
+ * The calling thread reads lines in batches and hands them over to matchers,
+ * keeping at most as many batches in flight as there are matchers, so lines
+ * must stay valid after the next one is read. Mismatches are collected in the
+ * order of lines, each reported as its string form unless another report is
+ * provided.
+ *
+ * @param <T> line type
+ */
+public final class ParallelMismatches<T>
+    implements Supplier<Collection<String>> {
+
+    /**
+     * Default lines per batch.
+     */
+    private static final int BATCH = 256;
+
+    /**
+     * Lines.
+     */
+    private final Supplier<? extends Iterable<? extends T>> lines;
+
+    /**
+     * Rules.
+     */
+    private final Predicate<? super T> rules;
+
+    /**
+     * Report of mismatched line.
+     */
+    private final Function<? super T, String> report;
+
+    /**
+     * Matcher threads.
+     */
+    private final int threads;
+
+    /**
+     * Lines per batch.
+     */
+    private final int batch;
+
+    /**
+     * Ctor.
+     *
+     * @param source lines
+     * @param predicate rules
+     * @param matchers matcher threads
+     */
+    public ParallelMismatches(
+        final Supplier<? extends Iterable<? extends T>> source,
+        final Predicate<? super T> predicate, final int matchers) {
+        this(source, predicate, Object::toString, matchers);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source lines
+     * @param predicate rules
+     * @param reported report of mismatched line
+     * @param matchers matcher threads
+     */
+    public ParallelMismatches(
+        final Supplier<? extends Iterable<? extends T>> source,
+        final Predicate<? super T> predicate,
+        final Function<? super T, String> reported, final int matchers) {
+        this(
+            source, predicate, reported, matchers, ParallelMismatches.BATCH
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source lines
+     * @param predicate rules
+     * @param matchers matcher threads
+     * @param size lines per batch
+     */
+    public ParallelMismatches(
+        final Supplier<? extends Iterable<? extends T>> source,
+        final Predicate<? super T> predicate, final int matchers,
+        final int size) {
+        this(source, predicate, Object::toString, matchers, size);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source lines
+     * @param predicate rules
+     * @param reported report of mismatched line
+     * @param matchers matcher threads
+     * @param size lines per batch
+     */
+    public ParallelMismatches(
+        final Supplier<? extends Iterable<? extends T>> source,
+        final Predicate<? super T> predicate,
+        final Function<? super T, String> reported, final int matchers,
+        final int size) {
+        this.lines = source;
+        this.rules = predicate;
+        this.report = reported;
+        this.threads = matchers;
+        this.batch = size;
+    }
+
+    @Override
+    @SneakyThrows
+    public Collection<String> get() {
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        try {
+            final Queue<Future<List<String>>> pending = new ArrayDeque<>();
+            final Collection<String> result = new ArrayList<>();
+            List<T> chunk = new ArrayList<>(this.batch);
+            for (final T line : this.lines.get()) {
+                chunk.add(line);
+                if (chunk.size() == this.batch) {
+                    pending.add(pool.submit(this.matching(chunk)));
+                    chunk = new ArrayList<>(this.batch);
+                    if (pending.size() > this.threads) {
+                        result.addAll(pending.remove().get());
+                    }
+                }
+            }
+            pending.add(pool.submit(this.matching(chunk)));
+            while (!pending.isEmpty()) {
+                result.addAll(pending.remove().get());
+            }
+            return result;
+        } catch (final ExecutionException ex) {
+            throw ex.getCause();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Mismatches of batch.
+     *
+     * @param chunk batch of lines
+     * @return task finding mismatches
+     */
+    private Callable<List<String>> matching(final List<T> chunk) {
+        return () -> chunk.stream()
+            .filter(line -> !this.rules.test(line))
+            .map(this.report)
+            .collect(Collectors.toList());
+    }
+
+}
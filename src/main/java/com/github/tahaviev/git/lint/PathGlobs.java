@@ -0,0 +1,233 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Represents rules of paths matching any of globs.
+ * <p>
+ * Globs are matched against paths from repository root, {@code *} and
+ * {@code ?} match any characters and any character of path segment, a
+ * {@code **} segment matches any number of segments. Globs are compiled once
+ * into a trie of their segments, literal segments are looked up by hash, so
+ * path is matched in time linear to its segments count whatever the count
+ * of globs sharing prefixes.
+ */
+public final class PathGlobs implements Predicate<String> {
+
+    /**
+     * Segment of any number of segments.
+     */
+    private static final String DEEP = "**";
+
+    /**
+     * Root of trie.
+     */
+    private final Node root = new Node(null);
+
+    /**
+     * Ctor.
+     *
+     * @param globs globs
+     */
+    public PathGlobs(final Collection<String> globs) {
+        for (final String glob : globs) {
+            Node node = this.root;
+            for (final String segment : glob.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.child(segment);
+                }
+            }
+            node.terminal = true;
+        }
+    }
+
+    @Override
+    public boolean test(final String path) {
+        Collection<Node> active = PathGlobs.closure(
+            Collections.singletonList(this.root)
+        );
+        for (final String segment : path.split("/")) {
+            final Collection<Node> next = new ArrayList<>(active.size());
+            for (final Node node : active) {
+                node.advance(segment, next);
+            }
+            active = PathGlobs.closure(next);
+        }
+        return active.stream().anyMatch(node -> node.terminal);
+    }
+
+    /**
+     * Nodes with nodes reachable from them by empty sequence of segments.
+     *
+     * @param nodes nodes
+     * @return distinct nodes
+     */
+    private static Collection<Node> closure(final Collection<Node> nodes) {
+        final Set<Node> result = new LinkedHashSet<>(nodes);
+        for (final Node node : nodes) {
+            Node deep = node.deep;
+            while (deep != null) {
+                result.add(deep);
+                deep = deep.deep;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Trie node: globs prefix.
+     */
+    private static final class Node {
+
+        /**
+         * Pattern of wildcard segment leading to node, {@code null} if
+         * segment is literal or deep.
+         */
+        private final Pattern pattern;
+
+        /**
+         * Children by literal segment.
+         */
+        private final Map<String, Node> literals = new HashMap<>();
+
+        /**
+         * Children by wildcard segment.
+         */
+        private final Map<String, Node> wildcards = new HashMap<>();
+
+        /**
+         * Child of deep segment, which matches any number of segments.
+         */
+        private Node deep;
+
+        /**
+         * Whether node is child of deep segment.
+         */
+        private boolean looping;
+
+        /**
+         * Whether glob ends at node.
+         */
+        private boolean terminal;
+
+        /**
+         * Ctor.
+         *
+         * @param wildcard pattern of wildcard segment leading to node
+         */
+        Node(final Pattern wildcard) {
+            this.pattern = wildcard;
+        }
+
+        /**
+         * Child of glob segment, added if missing.
+         *
+         * @param segment glob segment
+         * @return child
+         */
+        private Node child(final String segment) {
+            final Node result;
+            if (PathGlobs.DEEP.equals(segment)) {
+                if (this.deep == null) {
+                    this.deep = new Node(null);
+                    this.deep.looping = true;
+                }
+                result = this.deep;
+            } else if (segment.indexOf('*') >= 0
+                || segment.indexOf('?') >= 0) {
+                result = this.wildcards.computeIfAbsent(
+                    segment, key -> new Node(Node.compiled(key))
+                );
+            } else {
+                result = this.literals.computeIfAbsent(
+                    segment, key -> new Node(null)
+                );
+            }
+            return result;
+        }
+
+        /**
+         * Adds nodes reached by path segment.
+         *
+         * @param segment path segment
+         * @param next reached nodes
+         */
+        private void advance(final String segment,
+            final Collection<Node> next) {
+            if (this.looping) {
+                next.add(this);
+            }
+            final Node literal = this.literals.get(segment);
+            if (literal != null) {
+                next.add(literal);
+            }
+            for (final Node wildcard : this.wildcards.values()) {
+                if (wildcard.pattern.matcher(segment).matches()) {
+                    next.add(wildcard);
+                }
+            }
+        }
+
+        /**
+         * Pattern of wildcard segment.
+         *
+         * @param segment glob segment
+         * @return pattern
+         */
+        private static Pattern compiled(final String segment) {
+            final StringBuilder regex = new StringBuilder(segment.length());
+            int start = 0;
+            for (int index = 0; index < segment.length(); ++index) {
+                final char character = segment.charAt(index);
+                if (character == '*' || character == '?') {
+                    regex.append(
+                        Pattern.quote(segment.substring(start, index))
+                    );
+                    if (character == '*') {
+                        regex.append(".*");
+                    } else {
+                        regex.append('.');
+                    }
+                    start = index + 1;
+                }
+            }
+            regex.append(Pattern.quote(segment.substring(start)));
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Represents git history read by forking git.
+ */
+public final class ProcessHistory implements GitHistory {
+
+    /**
+     * Git repository directory.
+     */
+    private final File directory;
+
+    /**
+     * Metrics of started processes.
+     */
+    private final Metrics metrics;
+
+    /**
+     * Whether commit messages are spilled to memory-mapped temporary file
+     * instead of being streamed.
+     */
+    private final boolean spill;
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     */
+    public ProcessHistory(final File repository) {
+        this(repository, new Metrics());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     * @param measured metrics of started processes
+     */
+    public ProcessHistory(final File repository, final Metrics measured) {
+        this(repository, measured, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param repository git repository directory
+     * @param measured metrics of started processes
+     * @param spilled whether commit messages are spilled to memory-mapped
+     *  temporary file instead of being streamed
+     */
+    public ProcessHistory(final File repository, final Metrics measured,
+        final boolean spilled) {
+        this.directory = repository;
+        this.metrics = measured;
+        this.spill = spilled;
+    }
+
+    @Override
+    public String root() {
+        return this.lines("rev-parse", "--absolute-git-dir").get(0);
+    }
+
+    @Override
+    public String revision(final String name) {
+        return this.lines(
+            "rev-parse", "--verify", String.format("%s^{commit}", name)
+        )
+            .get(0);
+    }
+
+    @Override
+    public boolean ancestor(final String ancestor, final String descendant) {
+        return !this.lines(
+            "rev-list", "--ignore-missing", "--no-walk", ancestor
+        )
+            .isEmpty()
+            && this.lines(
+                "rev-list", "--ignore-missing", "--count",
+                ancestor, String.format("^%s", descendant)
+            )
+                .equals(Collections.singletonList("0"));
+    }
+
+    @Override
+    public Supplier<Iterable<CharSequence>> messages(final String head,
+        final Collection<String> excluded) {
+        return this.output(
+            head, excluded, Collections.singletonList("--format=%s"),
+            LazyLinesFromProcess::new, LinesIterator::new
+        );
+    }
+
+    @Override
+    public Supplier<Iterable<CommitMessage>> fullMessages(final String head,
+        final Collection<String> excluded) {
+        return this.fullMessages(head, excluded, false, false);
+    }
+
+    @Override
+    public Supplier<Iterable<CommitMessage>> fullMessages(final String head,
+        final Collection<String> excluded, final boolean paths,
+        final boolean signatures) {
+        final List<String> format = new ArrayList<>(
+            Collections.singletonList("-z")
+        );
+        final StringBuilder fields = new StringBuilder("--format=");
+        if (paths) {
+            format.add("--name-only");
+            fields.append("%x00");
+        }
+        fields.append("%H%x00");
+        if (signatures) {
+            fields.append("%G?%x20%GK%x00");
+        }
+        format.add(fields.append("%B").toString());
+        return this.output(
+            head, excluded, format,
+            processes -> new CommitRecords(processes, paths, signatures),
+            stream -> new RecordsIterator(stream, paths, signatures)
+        );
+    }
+
+    @Override
+    public void close() {
+        // nothing is kept open, every git process ends with its output
+    }
+
+    /**
+     * Items of commit messages process output, either streamed or spilled.
+     *
+     * @param head head commit id
+     * @param excluded excluded commit ids
+     * @param format output format options
+     * @param streamed items streamed from process
+     * @param reader items reader of spilled output
+     * @param <T> item type
+     * @return items
+     */
+    private <T> Supplier<Iterable<T>> output(final String head,
+        final Collection<String> excluded, final List<String> format,
+        final Function<Supplier<Process>, Supplier<Iterable<T>>> streamed,
+        final Function<InputStream, Iterator<T>> reader) {
+        final Supplier<Iterable<T>> result;
+        if (this.spill) {
+            result = new SpilledItems<>(
+                new SpilledOutput(
+                    file -> this.metered(
+                        new CommitMessagesProcess(
+                            this.directory, head, excluded, format,
+                            ProcessBuilder.Redirect.to(file)
+                        )
+                    )
+                ),
+                reader
+            );
+        } else {
+            result = streamed.apply(
+                this.metered(
+                    new CommitMessagesProcess(
+                        this.directory, head, excluded, format
+                    )
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Output of git command.
+     *
+     * @param arguments git arguments
+     * @return output lines
+     */
+    private List<String> lines(final String... arguments) {
+        return new LinesFromProcess(this.metered(arguments)).get();
+    }
+
+    /**
+     * Succeed git processes whose start and output are measured.
+     *
+     * @param arguments git arguments
+     * @return measured processes
+     */
+    private Supplier<Process> metered(final String... arguments) {
+        return this.metered(
+            new GitProcess(this.directory, Arrays.asList(arguments))
+        );
+    }
+
+    /**
+     * Succeed processes whose start and output are measured.
+     *
+     * @param processes processes
+     * @return measured processes
+     */
+    private Supplier<Process> metered(final Supplier<Process> processes) {
+        return new MeteredProcesses(
+            new SucceedProcess(processes), this.metrics
+        );
+    }
+
+}
@@ -0,0 +1,242 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import lombok.SneakyThrows;
+
+/**
+ * Represents iterator over commit records of {@code git log -z} output in
+ * {@code %H%x00%B} format, or of {@code git log -z --name-only} output in
+ * {@code %x00%H%x00%B} format with changed paths, with signature in
+ * {@code %G?%x20%GK%x00} format before message if records have signatures.
+ * <p>
+ * Records are read on demand: only the current field is buffered and line
+ * feeds inside messages are kept. Changed paths follow message, the first
+ * one after a line feed, and the empty field starting the next record ends
+ * them. The stream is closed as soon as it is exhausted.
+ */
+public final class RecordsIterator implements Iterator<CommitMessage> {
+
+    /**
+     * Initial field capacity.
+     */
+    private static final int CAPACITY = 256;
+
+    /**
+     * Read buffer size.
+     */
+    private static final int BUFFER = 8192;
+
+    /**
+     * Source stream.
+     */
+    private final InputStream stream;
+
+    /**
+     * Whether records have changed paths.
+     */
+    private final boolean changes;
+
+    /**
+     * Whether records have signatures.
+     */
+    private final boolean signed;
+
+    /**
+     * Read buffer.
+     */
+    private final byte[] buffer = new byte[RecordsIterator.BUFFER];
+
+    /**
+     * Field bytes, reused between fields.
+     */
+    private byte[] field = new byte[RecordsIterator.CAPACITY];
+
+    /**
+     * Position in read buffer.
+     */
+    private int position;
+
+    /**
+     * Bytes in read buffer.
+     */
+    private int limit;
+
+    /**
+     * Record read ahead or {@code null} if there is none.
+     */
+    private CommitMessage record;
+
+    /**
+     * Whether stream is exhausted.
+     */
+    private boolean exhausted;
+
+    /**
+     * Ctor.
+     *
+     * @param source source stream
+     */
+    public RecordsIterator(final InputStream source) {
+        this(source, false, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source source stream
+     * @param paths whether records have changed paths
+     * @param signatures whether records have signatures
+     */
+    public RecordsIterator(final InputStream source, final boolean paths,
+        final boolean signatures) {
+        this.stream = source;
+        this.changes = paths;
+        this.signed = signatures;
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean hasNext() {
+        if (this.record == null && !this.exhausted) {
+            String id = this.field();
+            if (this.changes && "".equals(id)) {
+                id = this.field();
+            }
+            String signature = "";
+            if (this.signed) {
+                signature = Objects.toString(this.field(), "");
+            }
+            final String message = this.field();
+            if (id == null) {
+                this.exhausted = true;
+                this.stream.close();
+            } else {
+                this.record = new CommitMessage(
+                    id, Objects.toString(message, ""), this.paths(), signature
+                );
+            }
+        }
+        return this.record != null;
+    }
+
+    @Override
+    public CommitMessage next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("no more records");
+        }
+        final CommitMessage next = this.record;
+        this.record = null;
+        return next;
+    }
+
+    /**
+     * Reads changed paths of record, with the empty field starting the next
+     * record.
+     *
+     * @return paths, empty if records have no changed paths
+     * @throws IOException if fails
+     */
+    private List<String> paths() throws IOException {
+        List<String> result = Collections.emptyList();
+        if (this.changes) {
+            result = new ArrayList<>(1);
+            String path = this.field();
+            if (path != null && path.startsWith("\n")) {
+                path = path.substring(1);
+            }
+            while (path != null && !path.isEmpty()) {
+                result.add(path);
+                path = this.field();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads field terminated by NUL or end of stream.
+     *
+     * @return field or {@code null} if stream is exhausted
+     * @throws IOException if fails
+     */
+    private String field() throws IOException {
+        int length = 0;
+        boolean terminated = false;
+        while (!terminated && this.fill()) {
+            int end = this.position;
+            while (end < this.limit && this.buffer[end] != 0) {
+                end += 1;
+            }
+            final int count = end - this.position;
+            if (length + count > this.field.length) {
+                this.field = Arrays.copyOf(
+                    this.field, Math.max(this.field.length * 2, length + count)
+                );
+            }
+            System.arraycopy(
+                this.buffer, this.position, this.field, length, count
+            );
+            length += count;
+            terminated = end < this.limit;
+            this.position = end;
+            if (terminated) {
+                this.position += 1;
+            }
+        }
+        String result = null;
+        if (terminated || length > 0) {
+            result = new String(
+                this.field, 0, length, StandardCharsets.UTF_8
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Fills read buffer if it is consumed.
+     *
+     * @return whether there are bytes to read
+     * @throws IOException if fails
+     */
+    private boolean fill() throws IOException {
+        if (this.position >= this.limit) {
+            this.position = 0;
+            this.limit = Math.max(this.stream.read(this.buffer), 0);
+        }
+        return this.position < this.limit;
+    }
+
+}
@@ -0,0 +1,681 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Represents {@link java.util.regex.Pattern} syntax subset compiled to
+ * {@link NfaProgram}.
+ * <p>
+ * Supported are literals, escapes, character classes, {@code .}, {@code ^},
+ * {@code $}, groups, alternation, greedy and lazy quantifiers and the
+ * {@code s} and {@code i} flags. Constructs that need backtracking, such as
+ * backreferences, lookaround, atomic groups and possessive quantifiers, are
+ * rejected with {@link PatternSyntaxException}, as well as the rest of
+ * constructs outside of the subset.
+ */
+public final class RegexParser implements Supplier<NfaProgram> {
+
+    /**
+     * Unbounded repetitions.
+     */
+    private static final int UNBOUNDED = -1;
+
+    /**
+     * Saturation of repetition counts, such counts exceed program size limit
+     * anyway.
+     */
+    private static final int SATURATION = 1_000_000;
+
+    /**
+     * Radix of repetition counts.
+     */
+    private static final int DECIMAL = 10;
+
+    /**
+     * Radix of hexadecimal escapes.
+     */
+    private static final int HEX = 16;
+
+    /**
+     * Digits of hexadecimal escape.
+     */
+    private static final int BYTE = 2;
+
+    /**
+     * Digits of unicode escape.
+     */
+    private static final int CHAR = 4;
+
+    /**
+     * Digits.
+     */
+    private static final CharRanges DIGITS = new CharRanges('0', '9');
+
+    /**
+     * Word characters.
+     */
+    private static final CharRanges WORDS = new CharRanges(
+        'a', 'z', 'A', 'Z', '_', '_', '0', '9'
+    );
+
+    /**
+     * Whitespace characters.
+     */
+    private static final CharRanges SPACES = new CharRanges(
+        ' ', ' ', '\t', '\r'
+    );
+
+    /**
+     * Characters matched by {@code .} without {@code s} flag.
+     */
+    private static final CharRanges LINE = new CharRanges(
+        '\n', '\n', '\r', '\r', '\u0085', '\u0085', '\u2028', '\u2029'
+    ).complement();
+
+    /**
+     * All characters.
+     */
+    private static final CharRanges ALL = new CharRanges(
+        Character.MIN_VALUE, Character.MAX_VALUE
+    );
+
+    /**
+     * Escaped characters by escape letter.
+     */
+    private static final String CONTROLS = "t\tn\nr\rf\fa\u0007e\u001B";
+
+    /**
+     * Pattern.
+     */
+    private final String pattern;
+
+    /**
+     * Parse position.
+     */
+    private int position;
+
+    /**
+     * Whether {@code .} matches line terminators.
+     */
+    private boolean dotall;
+
+    /**
+     * Whether ASCII letters match case-insensitively.
+     */
+    private boolean caseless;
+
+    /**
+     * Ctor.
+     *
+     * @param regex pattern
+     */
+    public RegexParser(final String regex) {
+        this.pattern = regex;
+    }
+
+    @Override
+    public NfaProgram get() {
+        this.position = 0;
+        this.dotall = false;
+        this.caseless = false;
+        final Consumer<NfaProgram> root = this.alternation();
+        if (this.more()) {
+            throw this.error("Unmatched closing ')'");
+        }
+        final NfaProgram program = new NfaProgram(this.pattern);
+        root.accept(program);
+        program.match();
+        return program;
+    }
+
+    /**
+     * Parses alternatives.
+     *
+     * @return alternatives code
+     */
+    private Consumer<NfaProgram> alternation() {
+        final List<Consumer<NfaProgram>> branches = new ArrayList<>(1);
+        branches.add(this.sequence());
+        while (this.next('|')) {
+            branches.add(this.sequence());
+        }
+        final Consumer<NfaProgram> last = branches.remove(branches.size() - 1);
+        return program -> {
+            final List<Integer> jumps = new ArrayList<>(branches.size());
+            for (final Consumer<NfaProgram> branch : branches) {
+                final int split = program.split();
+                branch.accept(program);
+                jumps.add(program.jump());
+                program.patch(split, split + 1, program.size());
+            }
+            last.accept(program);
+            for (final int jump : jumps) {
+                program.patch(jump, program.size(), RegexParser.UNBOUNDED);
+            }
+        };
+    }
+
+    /**
+     * Parses sequence of repetitions.
+     *
+     * @return sequence code
+     */
+    private Consumer<NfaProgram> sequence() {
+        final List<Consumer<NfaProgram>> items = new ArrayList<>(1);
+        while (this.more() && !this.peek('|') && !this.peek(')')) {
+            items.add(this.repetition());
+        }
+        return program -> items.forEach(item -> item.accept(program));
+    }
+
+    /**
+     * Parses atom with optional quantifier.
+     *
+     * @return repetition code
+     */
+    private Consumer<NfaProgram> repetition() {
+        final Consumer<NfaProgram> atom = this.atom();
+        final int start = this.position;
+        int min = 1;
+        int max = 1;
+        if (this.next('*')) {
+            min = 0;
+            max = RegexParser.UNBOUNDED;
+        } else if (this.next('+')) {
+            max = RegexParser.UNBOUNDED;
+        } else if (this.next('?')) {
+            min = 0;
+        } else if (this.next('{')) {
+            min = this.count();
+            max = min;
+            if (this.next(',')) {
+                max = RegexParser.UNBOUNDED;
+                if (!this.peek('}')) {
+                    max = this.count();
+                }
+            }
+            if (!this.next('}')) {
+                throw this.error("Unclosed counted closure");
+            }
+            if (max != RegexParser.UNBOUNDED && max < min) {
+                throw this.error("Illegal repetition range");
+            }
+        }
+        if (this.position > start && !this.next('?') && this.peek('+')) {
+            throw this.error("Possessive quantifiers are not supported");
+        }
+        return RegexParser.repeated(atom, min, max);
+    }
+
+    /**
+     * Parses repetition count.
+     *
+     * @return count
+     */
+    private int count() {
+        final int start = this.position;
+        int result = 0;
+        while (this.more() && RegexParser.DIGITS.contains(this.current())) {
+            result = Math.min(
+                result * RegexParser.DECIMAL
+                    + Character.digit(this.current(), RegexParser.DECIMAL),
+                RegexParser.SATURATION
+            );
+            this.position += 1;
+        }
+        if (this.position == start) {
+            throw this.error("Illegal repetition");
+        }
+        return result;
+    }
+
+    /**
+     * Parses atom.
+     *
+     * @return atom code
+     */
+    private Consumer<NfaProgram> atom() {
+        final char character = this.current();
+        this.position += 1;
+        final Consumer<NfaProgram> result;
+        if (character == '(') {
+            result = this.group();
+        } else if (character == '[') {
+            result = RegexParser.consumed(this.set());
+        } else if (character == '.') {
+            result = RegexParser.consumed(this.dot());
+        } else if (character == '^') {
+            result = NfaProgram::begin;
+        } else if (character == '$') {
+            result = NfaProgram::end;
+        } else if (character == '\\' && this.next('A')) {
+            result = NfaProgram::begin;
+        } else if (character == '\\') {
+            result = RegexParser.consumed(this.cased(this.escaped()));
+        } else if (character == '{') {
+            throw this.error("Illegal repetition");
+        } else if ("*+?".indexOf(character) >= 0) {
+            throw this.error(
+                String.format("Dangling meta character '%s'", character)
+            );
+        } else {
+            result = RegexParser.consumed(
+                this.cased(new CharRanges(character, character))
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Parses group after opening parenthesis.
+     *
+     * @return group code
+     */
+    private Consumer<NfaProgram> group() {
+        final boolean dot = this.dotall;
+        final boolean insensitive = this.caseless;
+        Consumer<NfaProgram> result = null;
+        if (this.next('?')) {
+            if (this.peek('=') || this.peek('!')
+                || this.pattern.startsWith("<=", this.position)
+                || this.pattern.startsWith("<!", this.position)) {
+                throw this.error("Lookaround is not supported");
+            }
+            if (this.peek('>')) {
+                throw this.error("Atomic groups are not supported");
+            }
+            if (this.next('<')) {
+                this.name();
+            } else if (this.flags()) {
+                result = program -> { };
+            }
+        }
+        if (result == null) {
+            result = this.alternation();
+            if (!this.next(')')) {
+                throw this.error("Unclosed group");
+            }
+            this.dotall = dot;
+            this.caseless = insensitive;
+        }
+        return result;
+    }
+
+    /**
+     * Parses group name and closing angle bracket.
+     */
+    private void name() {
+        final int start = this.position;
+        while (this.more() && Character.isLetterOrDigit(this.current())) {
+            this.position += 1;
+        }
+        if (this.position == start || !this.next('>')) {
+            throw this.error("Named group is malformed");
+        }
+    }
+
+    /**
+     * Parses flags after question mark.
+     *
+     * @return whether flags end with closing parenthesis and so apply to the
+     *  rest of enclosing group
+     */
+    private boolean flags() {
+        boolean on = true;
+        boolean result = false;
+        while (!result && !this.next(':')) {
+            result = this.next(')');
+            if (!result) {
+                this.flag(on);
+                on = on && !this.next('-');
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses flag.
+     *
+     * @param on whether flag is turned on
+     */
+    private void flag(final boolean on) {
+        if (!this.more()) {
+            throw this.error("Unclosed group");
+        }
+        final char flag = this.current();
+        if (flag == 's') {
+            this.dotall = on;
+        } else if (flag == 'i') {
+            this.caseless = on;
+        } else if (flag != '-') {
+            throw this.error(
+                String.format("Flag '%s' is not supported", flag)
+            );
+        }
+        if (flag != '-') {
+            this.position += 1;
+        }
+    }
+
+    /**
+     * Parses character class after opening bracket.
+     *
+     * @return class characters
+     */
+    private CharRanges set() {
+        final boolean negated = this.next('^');
+        CharRanges result = new CharRanges();
+        boolean first = true;
+        while (first || !this.next(']')) {
+            if (!this.more()) {
+                throw this.error("Unclosed character class");
+            }
+            if (this.peek('[')
+                || this.pattern.startsWith("&&", this.position)) {
+                throw this.error("Nested classes are not supported");
+            }
+            first = false;
+            result = result.union(this.range());
+        }
+        result = this.cased(result);
+        if (negated) {
+            result = result.complement();
+        }
+        return result;
+    }
+
+    /**
+     * Parses character, range of characters or escape in class.
+     *
+     * @return characters
+     */
+    private CharRanges range() {
+        final int start = this.position;
+        final int lower = this.member();
+        final CharRanges result;
+        if (lower == RegexParser.UNBOUNDED) {
+            this.position = start + 1;
+            result = this.escaped();
+        } else if (this.peek('-')
+            && this.position + 1 < this.pattern.length()
+            && this.pattern.charAt(this.position + 1) != ']') {
+            this.position += 1;
+            final int upper = this.member();
+            if (upper < lower) {
+                throw this.error("Illegal character range");
+            }
+            result = new CharRanges((char) lower, (char) upper);
+        } else {
+            result = new CharRanges((char) lower, (char) lower);
+        }
+        return result;
+    }
+
+    /**
+     * Parses single character of class.
+     *
+     * @return character or {@link #UNBOUNDED} for escaped class
+     */
+    private int member() {
+        final int result;
+        if (this.next('\\')) {
+            result = this.single();
+        } else {
+            result = this.current();
+            this.position += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Parses escape after backslash.
+     *
+     * @return escaped characters
+     */
+    private CharRanges escaped() {
+        final int single = this.single();
+        CharRanges result;
+        if (single == RegexParser.UNBOUNDED) {
+            final char letter = this.current();
+            this.position += 1;
+            result = RegexParser.predefined(Character.toLowerCase(letter));
+            if (Character.isUpperCase(letter)) {
+                result = result.complement();
+            }
+        } else {
+            result = new CharRanges((char) single, (char) single);
+        }
+        return result;
+    }
+
+    /**
+     * Parses escape of single character after backslash.
+     *
+     * @return character or {@link #UNBOUNDED} for predefined class, which is
+     *  left unparsed
+     */
+    private int single() {
+        if (!this.more()) {
+            throw this.error("Unexpected end of pattern");
+        }
+        final char letter = this.current();
+        final int control = RegexParser.CONTROLS.indexOf(letter);
+        final int result;
+        if ("dDwWsS".indexOf(letter) >= 0) {
+            result = RegexParser.UNBOUNDED;
+        } else if (control >= 0 && control % 2 == 0) {
+            this.position += 1;
+            result = RegexParser.CONTROLS.charAt(control + 1);
+        } else if (letter == 'x') {
+            this.position += 1;
+            result = this.hexadecimal(RegexParser.BYTE);
+        } else if (letter == 'u') {
+            this.position += 1;
+            result = this.hexadecimal(RegexParser.CHAR);
+        } else if (Character.isLetterOrDigit(letter)) {
+            throw this.error(
+                String.format("Escape '\\%s' is not supported", letter)
+            );
+        } else {
+            this.position += 1;
+            result = letter;
+        }
+        return result;
+    }
+
+    /**
+     * Parses hexadecimal digits.
+     *
+     * @param digits digits count
+     * @return character code
+     */
+    private int hexadecimal(final int digits) {
+        int result = 0;
+        for (int digit = 0; digit < digits; ++digit) {
+            final int value;
+            if (this.more()) {
+                value = Character.digit(this.current(), RegexParser.HEX);
+            } else {
+                value = RegexParser.UNBOUNDED;
+            }
+            if (value < 0) {
+                throw this.error("Illegal hexadecimal escape sequence");
+            }
+            result = result * RegexParser.HEX + value;
+            this.position += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Characters matched by {@code .}.
+     *
+     * @return characters
+     */
+    private CharRanges dot() {
+        final CharRanges result;
+        if (this.dotall) {
+            result = RegexParser.ALL;
+        } else {
+            result = RegexParser.LINE;
+        }
+        return result;
+    }
+
+    /**
+     * Applies case-insensitivity flag.
+     *
+     * @param set characters
+     * @return characters matched under current flags
+     */
+    private CharRanges cased(final CharRanges set) {
+        final CharRanges result;
+        if (this.caseless) {
+            result = set.insensitive();
+        } else {
+            result = set;
+        }
+        return result;
+    }
+
+    /**
+     * Whether pattern has more characters.
+     *
+     * @return whether parse position is within pattern
+     */
+    private boolean more() {
+        return this.position < this.pattern.length();
+    }
+
+    /**
+     * Current character.
+     *
+     * @return character at parse position
+     */
+    private char current() {
+        return this.pattern.charAt(this.position);
+    }
+
+    /**
+     * Whether current character is expected.
+     *
+     * @param expected expected character
+     * @return whether parse position is at expected character
+     */
+    private boolean peek(final char expected) {
+        return this.more() && this.current() == expected;
+    }
+
+    /**
+     * Skips current character if expected.
+     *
+     * @param expected expected character
+     * @return whether character was skipped
+     */
+    private boolean next(final char expected) {
+        final boolean result = this.peek(expected);
+        if (result) {
+            this.position += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Syntax error at parse position.
+     *
+     * @param description error description
+     * @return error
+     */
+    private PatternSyntaxException error(final String description) {
+        return new PatternSyntaxException(
+            description, this.pattern, this.position - 1
+        );
+    }
+
+    /**
+     * Predefined class by lower case letter.
+     *
+     * @param letter class letter
+     * @return class characters
+     */
+    private static CharRanges predefined(final char letter) {
+        final CharRanges result;
+        if (letter == 'd') {
+            result = RegexParser.DIGITS;
+        } else if (letter == 'w') {
+            result = RegexParser.WORDS;
+        } else {
+            result = RegexParser.SPACES;
+        }
+        return result;
+    }
+
+    /**
+     * Code consuming character from set.
+     *
+     * @param set characters
+     * @return code
+     */
+    private static Consumer<NfaProgram> consumed(final CharRanges set) {
+        return program -> program.consume(set);
+    }
+
+    /**
+     * Code repeating atom.
+     *
+     * @param atom atom code
+     * @param min minimum repetitions
+     * @param max maximum repetitions or {@link #UNBOUNDED}
+     * @return code
+     */
+    private static Consumer<NfaProgram> repeated(
+        final Consumer<NfaProgram> atom, final int min, final int max) {
+        return program -> {
+            for (int index = 0; index < min; ++index) {
+                atom.accept(program);
+            }
+            if (max == RegexParser.UNBOUNDED) {
+                final int split = program.split();
+                atom.accept(program);
+                program.patch(program.jump(), split, RegexParser.UNBOUNDED);
+                program.patch(split, split + 1, program.size());
+            } else {
+                for (int index = min; index < max; ++index) {
+                    final int split = program.split();
+                    atom.accept(program);
+                    program.patch(split, split + 1, program.size());
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,102 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents failures of linting several git repositories by a pool of
+ * threads.
+ * <p>
+ * Every repository is linted even if others fail, and the messages of the
+ * failed ones, or the failures themselves if they have no message, are
+ * grouped by repository directory.
+ */
+@RequiredArgsConstructor
+public final class RepositoryFailures
+    implements Supplier<SortedMap<File, String>> {
+
+    /**
+     * Git repository directories.
+     */
+    private final Collection<File> directories;
+
+    /**
+     * Lint of repository, failing with exception.
+     */
+    private final Function<File, Callable<?>> lints;
+
+    /**
+     * Repositories linted at the same time.
+     */
+    private final int threads;
+
+    @Override
+    @SneakyThrows
+    public SortedMap<File, String> get() {
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        try {
+            final Map<File, Future<?>> pending = new LinkedHashMap<>();
+            for (final File repository : this.directories) {
+                pending.put(
+                    repository, pool.submit(this.lints.apply(repository))
+                );
+            }
+            final SortedMap<File, String> result = new TreeMap<>();
+            for (final Map.Entry<File, Future<?>> lint : pending.entrySet()) {
+                try {
+                    lint.getValue().get();
+                } catch (final ExecutionException ex) {
+                    final Throwable cause = ex.getCause();
+                    result.put(
+                        lint.getKey(),
+                        Optional.ofNullable(cause.getMessage())
+                            .orElseGet(cause::toString)
+                    );
+                }
+            }
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents rules of patterns for configured pattern engine, compiled once
+ * and kept for the next runs.
+ * <p>
+ * Only recently used rules are kept, so a long running daemon serving
+ * changing patterns does not grow without bound.
+ */
+public final class ResidentRules implements BiFunction<String, Duration,
+    Function<String, Predicate<CharSequence>>> {
+
+    /**
+     * Default count of kept rules.
+     */
+    private static final int KEPT = 256;
+
+    /**
+     * Compiled rules by engine, budget and pattern.
+     */
+    private final Map<String, Predicate<CharSequence>> compiled;
+
+    /**
+     * Ctor.
+     */
+    public ResidentRules() {
+        this(ResidentRules.KEPT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param limit count of kept rules
+     */
+    public ResidentRules(final int limit) {
+        this.compiled = Collections.synchronizedMap(
+            new LinkedHashMap<String, Predicate<CharSequence>>(
+                limit, 1.0f, true
+            ) {
+
+                /**
+                 * Serial version UID.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<String, Predicate<CharSequence>> eldest
+                ) {
+                    return this.size() > limit;
+                }
+            }
+        );
+    }
+
+    @Override
+    public Function<String, Predicate<CharSequence>> apply(
+        final String engine, final Duration budget) {
+        return regex -> this.compiled.computeIfAbsent(
+            String.join("\n", engine, budget.toString(), regex),
+            key -> new EngineRules(engine, budget).apply(regex)
+        );
+    }
+
+}
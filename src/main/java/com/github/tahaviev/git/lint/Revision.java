@@ -0,0 +1,84 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents commit id of revision.
+ * <p>
+ * Annotated tags are peeled to commits they point to.
+ */
+@RequiredArgsConstructor
+public final class Revision implements Supplier<String> {
+
+    /**
+     * Tag target prefix.
+     */
+    private static final String TARGET = "object ";
+
+    /**
+     * References.
+     */
+    private final GitRefs refs;
+
+    /**
+     * Object database.
+     */
+    private final GitObjects objects;
+
+    /**
+     * Revision name.
+     */
+    private final String name;
+
+    @Override
+    @SneakyThrows
+    public String get() {
+        String result = this.refs.resolve(this.name);
+        GitObject object = this.objects.get(result);
+        while ("tag".equals(object.type())) {
+            final String tag = new String(
+                object.content(), StandardCharsets.UTF_8
+            );
+            result = tag.substring(
+                Revision.TARGET.length(), tag.indexOf('\n')
+            );
+            object = this.objects.get(result);
+        }
+        if (!"commit".equals(object.type())) {
+            throw new IOException(
+                String.format("%s is not a commit", this.name)
+            );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents rules evaluated in a single pass over commit message.
+ * <p>
+ * Each rule gives violation of message, empty if message matches it. Message
+ * matches when it matches every rule, evaluation stops at the first violated
+ * rule. Reports name the first violation, or every violation if all
+ * violations are reported.
+ */
+@RequiredArgsConstructor
+public final class RuleSet implements Predicate<CommitMessage> {
+
+    /**
+     * Violations by rule in evaluation order.
+     */
+    private final List<? extends
+        Function<? super CommitMessage, Optional<String>>> rules;
+
+    /**
+     * Whether all violations are reported.
+     */
+    private final boolean all;
+
+    @Override
+    public boolean test(final CommitMessage message) {
+        return this.rules.stream()
+            .noneMatch(rule -> rule.apply(message).isPresent());
+    }
+
+    /**
+     * Report of message violations.
+     *
+     * @param message commit message
+     * @return commit message followed by violations
+     */
+    public String report(final CommitMessage message) {
+        Stream<String> violated = this.rules.stream()
+            .map(rule -> rule.apply(message))
+            .filter(Optional::isPresent)
+            .map(Optional::get);
+        if (!this.all) {
+            violated = violated.limit(1);
+        }
+        return String.format(
+            "%s %s", message, violated.collect(Collectors.toList())
+        );
+    }
+
+}
@@ -0,0 +1,101 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents commit message rules compiled once.
+ * <p>
+ * Each thread reuses its own {@link Matcher}, so rules can be shared between
+ * worker threads. A message whose matching takes longer than time budget
+ * is treated as mismatch, so a crafted message can not stall the build by
+ * catastrophic backtracking.
+ */
+public final class Rules implements Predicate<CharSequence> {
+
+    /**
+     * Matchers per thread.
+     */
+    private final ThreadLocal<Matcher> matchers;
+
+    /**
+     * Match time budget per message, in nanoseconds, zero for unlimited.
+     */
+    private final long budget;
+
+    /**
+     * Ctor.
+     *
+     * @param pattern commit message pattern
+     */
+    public Rules(final String pattern) {
+        this(pattern, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param pattern commit message pattern
+     * @param limit match time budget per message, zero for unlimited
+     */
+    public Rules(final String pattern, final Duration limit) {
+        this(Pattern.compile(pattern), limit);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param pattern compiled commit message pattern
+     * @param limit match time budget per message, zero for unlimited
+     */
+    public Rules(final Pattern pattern, final Duration limit) {
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        this.budget = limit.toNanos();
+    }
+
+    @Override
+    public boolean test(final CharSequence message) {
+        boolean result;
+        if (this.budget == 0) {
+            result = this.matchers.get().reset(message).matches();
+        } else {
+            try {
+                result = this.matchers.get().reset(
+                    new TimedChars(message, System.nanoTime() + this.budget)
+                ).matches();
+            } catch (final CancellationException ex) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,142 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents repository which may be shallow clone, deepened on demand.
+ * <p>
+ * In shallow clone the merge base of linted branch and its parent may be
+ * missing, and then the range between them contains commits of the parent
+ * too. The clone is deepened by fetching from remote, in doubling steps,
+ * until the merge base is reachable, the clone is complete or the limit is
+ * hit. Failures other than a missing merge base, such as a bad revision,
+ * fail at once instead of deepening in vain.
+ */
+@RequiredArgsConstructor
+public final class ShallowClone {
+
+    /**
+     * Commits to deepen by at first.
+     */
+    private static final int STEP = 32;
+
+    /**
+     * Git repository directory.
+     */
+    private final File directory;
+
+    /**
+     * Remote name or URL to deepen from.
+     */
+    private final String remote;
+
+    /**
+     * Commits to deepen by at most.
+     */
+    private final int limit;
+
+    /**
+     * Deepens clone until merge base of revisions is reachable.
+     *
+     * @param head linted revision
+     * @param parent parent revision
+     * @return whether merge base is reachable, or the clone is not shallow
+     */
+    public boolean deepen(final String head, final String parent) {
+        final GitRepository repository = new GitRepository(this.directory);
+        int step = ShallowClone.STEP;
+        int deepened = 0;
+        boolean result = !repository.shallow() || this.based(head, parent);
+        while (!result && deepened < this.limit) {
+            final int depth = Math.min(step, this.limit - deepened);
+            this.git(
+                "fetch", "--quiet", "--no-tags",
+                String.format("--deepen=%d", depth), this.remote
+            );
+            deepened += depth;
+            step *= 2;
+            result = !repository.shallow() || this.based(head, parent);
+        }
+        return result;
+    }
+
+    /**
+     * Whether revisions have merge base.
+     *
+     * @param head linted revision
+     * @param parent parent revision
+     * @return whether merge base is reachable
+     */
+    @SneakyThrows
+    private boolean based(final String head, final String parent) {
+        final Process process = new GitProcess(
+            this.directory, Arrays.asList("merge-base", head, parent)
+        )
+            .get();
+        final boolean result = !new LinesFromProcess(() -> process)
+            .get()
+            .isEmpty();
+        if (process.waitFor() > 1) {
+            final String message;
+            try (
+                BufferedReader errors = new BufferedReader(
+                    new InputStreamReader(
+                        process.getErrorStream(), Charset.defaultCharset()
+                    )
+                )
+            ) {
+                message = errors.lines().collect(Collectors.joining("\n"));
+            }
+            throw new IOException(message);
+        }
+        return result;
+    }
+
+    /**
+     * Runs git command.
+     *
+     * @param arguments git arguments
+     */
+    @SneakyThrows
+    private void git(final String... arguments) {
+        new SucceedProcess(
+            new GitProcess(this.directory, Arrays.asList(arguments))
+        )
+            .get()
+            .waitFor();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents result computed once per key and shared through provided cache.
+ * <p>
+ * Concurrent callers with the same key wait for the first one instead of
+ * computing the result again. Failures are not cached.
+ *
+ * @param <T> result type
+ */
+@RequiredArgsConstructor
+public final class SharedResult<T> implements Supplier<T> {
+
+    /**
+     * Results by key, concurrent or synchronized.
+     */
+    private final Map<String, Future<T>> cache;
+
+    /**
+     * Result key.
+     */
+    private final String key;
+
+    /**
+     * Origin result.
+     */
+    private final Supplier<? extends T> origin;
+
+    @Override
+    @SneakyThrows
+    public T get() {
+        final FutureTask<T> task = new FutureTask<>(this.origin::get);
+        Future<T> result = this.cache.putIfAbsent(this.key, task);
+        if (result == null) {
+            task.run();
+            result = task;
+        }
+        try {
+            return result.get();
+        } catch (final ExecutionException ex) {
+            this.cache.remove(this.key, result);
+            throw ex.getCause();
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+
+/**
+ * Represents full commit messages with signatures verified separately.
+ * <p>
+ * Messages are read in batches whose signatures are verified in parallel,
+ * keeping at most one batch more in flight than there are verifier threads.
+ * Messages with signatures are yielded in order of messages as soon as
+ * their batch is verified, and verifier threads are stopped when messages
+ * are iterated to the end or verification fails. Verifier threads are
+ * daemons stopping once idle, so messages left partly iterated hold
+ * neither the JVM nor threads.
+ */
+public final class SignedMessages
+    implements Supplier<Iterable<CommitMessage>> {
+
+    /**
+     * Default commits per batch.
+     */
+    private static final int BATCH = 64;
+
+    /**
+     * Messages without signatures.
+     */
+    private final Supplier<? extends Iterable<CommitMessage>> messages;
+
+    /**
+     * Signatures by id of batch of commits.
+     */
+    private final Function<List<String>, Map<String, String>> signatures;
+
+    /**
+     * Verifier threads.
+     */
+    private final int threads;
+
+    /**
+     * Commits per batch.
+     */
+    private final int batch;
+
+    /**
+     * Ctor.
+     *
+     * @param source messages without signatures
+     * @param verified signatures by id of batch of commits
+     */
+    public SignedMessages(
+        final Supplier<? extends Iterable<CommitMessage>> source,
+        final Function<List<String>, Map<String, String>> verified) {
+        this(
+            source, verified, Runtime.getRuntime().availableProcessors(),
+            SignedMessages.BATCH
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param source messages without signatures
+     * @param verified signatures by id of batch of commits
+     * @param verifiers verifier threads
+     * @param size commits per batch
+     */
+    public SignedMessages(
+        final Supplier<? extends Iterable<CommitMessage>> source,
+        final Function<List<String>, Map<String, String>> verified,
+        final int verifiers, final int size) {
+        this.messages = source;
+        this.signatures = verified;
+        this.threads = verifiers;
+        this.batch = size;
+    }
+
+    @Override
+    public Iterable<CommitMessage> get() {
+        return () -> new Batches(this.messages.get().iterator());
+    }
+
+    /**
+     * Messages of batch with signatures.
+     *
+     * @param chunk batch of messages
+     * @return task verifying signatures
+     */
+    private Callable<List<CommitMessage>> signing(
+        final List<CommitMessage> chunk) {
+        return () -> {
+            final Map<String, String> verified = this.signatures.apply(
+                chunk.stream().map(CommitMessage::id)
+                    .collect(Collectors.toList())
+            );
+            return chunk.stream()
+                .map(
+                    message -> new CommitMessage(
+                        message.id(),
+                        message.text(),
+                        message.paths(),
+                        verified.getOrDefault(message.id(), "")
+                    )
+                )
+                .collect(Collectors.toList());
+        };
+    }
+
+    /**
+     * Messages with signatures verified in batches.
+     */
+    private final class Batches implements Iterator<CommitMessage> {
+
+        /**
+         * Messages without signatures.
+         */
+        private final Iterator<CommitMessage> source;
+
+        /**
+         * Verifiers.
+         */
+        private final ExecutorService pool;
+
+        /**
+         * Batches in flight, in order of messages.
+         */
+        private final Queue<Future<List<CommitMessage>>> pending;
+
+        /**
+         * Verified batch being yielded.
+         */
+        private Iterator<CommitMessage> current;
+
+        /**
+         * Ctor.
+         *
+         * @param origin messages without signatures
+         */
+        Batches(final Iterator<CommitMessage> origin) {
+            this.source = origin;
+            final ThreadPoolExecutor verifiers = new ThreadPoolExecutor(
+                SignedMessages.this.threads, SignedMessages.this.threads,
+                1L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                task -> {
+                    final Thread thread = new Thread(
+                        task, "git-lint-signatures"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            verifiers.allowCoreThreadTimeOut(true);
+            this.pool = verifiers;
+            this.pending = new ArrayDeque<>();
+            this.current = Collections.emptyIterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!this.current.hasNext()) {
+                this.submit();
+                if (this.pending.isEmpty()) {
+                    this.pool.shutdown();
+                } else {
+                    this.current = this.take();
+                }
+            }
+            return this.current.hasNext();
+        }
+
+        @Override
+        public CommitMessage next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("no more messages");
+            }
+            return this.current.next();
+        }
+
+        /**
+         * Submits batches of messages until verifiers are busy or messages
+         * are over.
+         */
+        private void submit() {
+            while (this.pending.size() <= SignedMessages.this.threads
+                && this.source.hasNext()) {
+                final List<CommitMessage> chunk = new ArrayList<>(
+                    SignedMessages.this.batch
+                );
+                while (chunk.size() < SignedMessages.this.batch
+                    && this.source.hasNext()) {
+                    chunk.add(this.source.next());
+                }
+                this.pending.add(
+                    this.pool.submit(SignedMessages.this.signing(chunk))
+                );
+            }
+        }
+
+        /**
+         * Waits for the oldest batch in flight.
+         *
+         * @return messages of batch with signatures
+         */
+        @SneakyThrows
+        private Iterator<CommitMessage> take() {
+            try {
+                return this.pending.remove().get().iterator();
+            } catch (final ExecutionException ex) {
+                this.pool.shutdownNow();
+                throw ex.getCause();
+            }
+        }
+
+    }
+
+}
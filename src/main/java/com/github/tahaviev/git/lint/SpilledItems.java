@@ -0,0 +1,63 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents items read from memory-mapped output, such as lines or commit
+ * records.
+ * <p>
+ * Unlike items read from process output, the output is produced once and
+ * its items can be iterated any number of times without a copy of the output
+ * on the heap.
+ *
+ * @param <T> item type
+ */
+@RequiredArgsConstructor
+public final class SpilledItems<T> implements Supplier<Iterable<T>> {
+
+    /**
+     * Mapped output provider.
+     */
+    private final Supplier<MappedFile> output;
+
+    /**
+     * Items reader.
+     */
+    private final Function<InputStream, Iterator<T>> reader;
+
+    @Override
+    public Iterable<T> get() {
+        final MappedFile file = this.output.get();
+        return () -> this.reader.apply(file.stream(0));
+    }
+
+}
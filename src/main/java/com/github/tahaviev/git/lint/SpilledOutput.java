@@ -0,0 +1,60 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents process output spilled to temporary file and memory-mapped.
+ * <p>
+ * The process writes its output straight to the file, and the file is
+ * mapped once the process succeeds, so the output can be read any number of
+ * times without a copy on the heap. The file is deleted as soon as it is
+ * mapped, or on exit if the process fails.
+ */
+@RequiredArgsConstructor
+public final class SpilledOutput implements Supplier<MappedFile> {
+
+    /**
+     * Processes writing their output to file.
+     */
+    private final Function<File, Supplier<Process>> processes;
+
+    @Override
+    @SneakyThrows
+    public MappedFile get() {
+        final File file = File.createTempFile("git-lint-", ".out");
+        file.deleteOnExit();
+        this.processes.apply(file).get().waitFor();
+        return new MappedFile(file, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+}
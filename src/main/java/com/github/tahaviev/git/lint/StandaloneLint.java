@@ -0,0 +1,320 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Represents lint run from command line, without Maven, with its exit code.
+ * <p>
+ * Either commit message file, such as {@code .git/COMMIT_EDITMSG} passed to
+ * {@code commit-msg} hook, or commits of {@code HEAD} since parent branch
+ * are linted. Only git and the classes needed for the selected mode are
+ * loaded, so the run starts fast.
+ */
+public final class StandaloneLint implements IntSupplier {
+
+    /**
+     * Exit code of invalid arguments.
+     */
+    private static final int USAGE = 2;
+
+    /**
+     * Pattern matching any part of commit message.
+     */
+    private static final String ANY = "(?s).*";
+
+    /**
+     * Subject pattern option.
+     */
+    private static final String PATTERN = "--pattern";
+
+    /**
+     * Body pattern option.
+     */
+    private static final String BODY = "--body-pattern";
+
+    /**
+     * Trailers pattern option.
+     */
+    private static final String TRAILERS = "--trailers-pattern";
+
+    /**
+     * Pattern engine option.
+     */
+    private static final String ENGINE = "--engine";
+
+    /**
+     * Time budget option.
+     */
+    private static final String TIMEOUT = "--timeout";
+
+    /**
+     * Parent branch option.
+     */
+    private static final String RANGE = "--range";
+
+    /**
+     * Options with values.
+     */
+    private static final Collection<String> OPTIONS = Arrays.asList(
+        StandaloneLint.PATTERN, StandaloneLint.BODY, StandaloneLint.TRAILERS,
+        StandaloneLint.RANGE, StandaloneLint.ENGINE, StandaloneLint.TIMEOUT,
+        "--directory", "--comment-char"
+    );
+
+    /**
+     * Command line arguments.
+     */
+    private final List<String> arguments;
+
+    /**
+     * Output for mismatches and usage.
+     */
+    private final PrintStream output;
+
+    /**
+     * Rules by pattern of engine with match time budget.
+     */
+    private final BiFunction<String, Duration,
+        Function<String, Predicate<CharSequence>>> engines;
+
+    /**
+     * Working directory relative paths are resolved against.
+     */
+    private final Path directory;
+
+    /**
+     * Ctor.
+     *
+     * @param args command line arguments
+     * @param out output for mismatches and usage
+     */
+    public StandaloneLint(final List<String> args, final PrintStream out) {
+        this(args, out, EngineRules::new, new File(""));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param args command line arguments
+     * @param out output for mismatches and usage
+     * @param rules rules by pattern of engine with match time budget
+     * @param dir working directory relative paths are resolved against
+     */
+    public StandaloneLint(final List<String> args, final PrintStream out,
+        final BiFunction<String, Duration,
+            Function<String, Predicate<CharSequence>>> rules,
+        final File dir) {
+        this.arguments = args;
+        this.output = out;
+        this.engines = rules;
+        this.directory = dir.toPath();
+    }
+
+    @Override
+    public int getAsInt() {
+        final Map<String, String> options = new HashMap<>();
+        final List<String> files = new ArrayList<>(1);
+        boolean valid = true;
+        final Iterator<String> args = this.arguments.iterator();
+        while (args.hasNext()) {
+            final String arg = args.next();
+            if (StandaloneLint.OPTIONS.contains(arg) && args.hasNext()) {
+                options.put(arg, args.next());
+            } else if (arg.startsWith("-")) {
+                valid = false;
+            } else {
+                files.add(arg);
+            }
+        }
+        final boolean ranged = options.containsKey(StandaloneLint.RANGE);
+        int result = StandaloneLint.USAGE;
+        if (valid && options.containsKey(StandaloneLint.PATTERN)
+            && options.getOrDefault(StandaloneLint.TIMEOUT, "0")
+                .matches("[0-9]{1,18}")
+            && options.getOrDefault(StandaloneLint.ENGINE, "java")
+                .matches("java|linear")
+            && files.size() < 2 && files.isEmpty() == ranged) {
+            final Collection<String> mismatches;
+            if (ranged) {
+                mismatches = this.range(options);
+            } else {
+                mismatches = this.file(options, files.get(0));
+            }
+            result = 0;
+            if (!mismatches.isEmpty()) {
+                this.output.printf(
+                    "Commit messages are not matches with %s%n%s%n",
+                    options.get(StandaloneLint.PATTERN),
+                    String.join("\n", mismatches)
+                );
+                result = 1;
+            }
+        } else {
+            this.output.println(
+                String.join(
+                    "\n",
+                    "Usage: git-lint --pattern REGEX [OPTION]... FILE",
+                    "   or: git-lint --pattern REGEX --range PARENT [OPTION]",
+                    "   or: git-lint daemon [--port-file FILE] [--idle MILLIS]",
+                    "   or: git-lint client [--port-file FILE] ARGUMENT...",
+                    "Lints commit message FILE, such as COMMIT_EDITMSG of",
+                    "commit-msg hook, or commits of HEAD since PARENT.",
+                    "Daemon keeps rules compiled and code warm for clients.",
+                    "  --pattern REGEX           subject pattern",
+                    "  --body-pattern REGEX      body pattern",
+                    "  --trailers-pattern REGEX  trailers pattern",
+                    "  --engine java|linear      engine, java by default",
+                    "  --timeout MILLIS          time budget of java engine",
+                    "  --range PARENT            parent branch",
+                    "  --directory DIR           git repository, . by default",
+                    "  --comment-char CHAR       comment prefix, # by default"
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Mismatches of commit message file.
+     *
+     * @param options options
+     * @param path message file
+     * @return mismatches
+     */
+    private Collection<String> file(final Map<String, String> options,
+        final String path) {
+        final File file = this.directory.resolve(path).toFile();
+        final CommitMessage message = new CommitMessage(
+            file.getName(),
+            new EditedMessage(
+                file, options.getOrDefault("--comment-char", "#")
+            )
+                .get()
+        );
+        return new Mismatches<>(
+            () -> Collections.singletonList(message),
+            this.rules(options)
+        )
+            .get();
+    }
+
+    /**
+     * Mismatches of commits of {@code HEAD} since parent branch.
+     *
+     * @param options options
+     * @return mismatches
+     */
+    private Collection<String> range(final Map<String, String> options) {
+        try (
+            GitHistory history = new ProcessHistory(
+                this.directory
+                    .resolve(options.getOrDefault("--directory", "."))
+                    .toFile()
+            )
+        ) {
+            final String head = history.revision("HEAD");
+            final List<String> excluded = Collections.singletonList(
+                history.revision(options.get(StandaloneLint.RANGE))
+            );
+            final Collection<String> result;
+            if (options.containsKey(StandaloneLint.BODY)
+                || options.containsKey(StandaloneLint.TRAILERS)) {
+                result = new Mismatches<>(
+                    history.fullMessages(head, excluded),
+                    this.rules(options)
+                )
+                    .get();
+            } else {
+                result = new Mismatches<>(
+                    history.messages(head, excluded),
+                    this.engine(options)
+                        .apply(options.get(StandaloneLint.PATTERN))
+                )
+                    .get();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Rules of full commit message.
+     *
+     * @param options options
+     * @return rules
+     */
+    private Predicate<CommitMessage> rules(
+        final Map<String, String> options) {
+        final Function<String, Predicate<CharSequence>> engine =
+            this.engine(options);
+        return new MessageRules(
+            engine.apply(options.get(StandaloneLint.PATTERN)),
+            engine.apply(
+                options.getOrDefault(StandaloneLint.BODY, StandaloneLint.ANY)
+            ),
+            engine.apply(
+                options.getOrDefault(
+                    StandaloneLint.TRAILERS, StandaloneLint.ANY
+                )
+            )
+        );
+    }
+
+    /**
+     * Rules of selected engine.
+     *
+     * @param options options
+     * @return rules by pattern
+     */
+    private Function<String, Predicate<CharSequence>> engine(
+        final Map<String, String> options) {
+        return this.engines.apply(
+            options.getOrDefault(StandaloneLint.ENGINE, "java"),
+            Duration.ofMillis(
+                Long.parseLong(
+                    options.getOrDefault(StandaloneLint.TIMEOUT, "0")
+                )
+            )
+        );
+    }
+
+}
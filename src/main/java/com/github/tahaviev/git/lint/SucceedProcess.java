@@ -26,16 +26,19 @@
 package com.github.tahaviev.git.lint;
 
 import java.io.BufferedReader;
-import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.concurrent.FutureTask;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 
 /**
  * Represents succeed process.
+ * <p>
+ * The process is returned while it is still running. Its error output is
+ * drained in background, so it can be consumed concurrently with the standard
+ * output, and a non zero exit code fails reading of the output.
  */
 @RequiredArgsConstructor
 public final class SucceedProcess implements Supplier<Process> {
@@ -46,23 +49,25 @@ public final class SucceedProcess implements Supplier<Process> {
     private final Supplier<Process> target;
 
     @Override
-    @SneakyThrows
     public Process get() {
         final Process process = this.target.get();
-        if (process.waitFor() != 0) {
-            final String message;
-            try (
-                BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(
-                        process.getErrorStream(), Charset.defaultCharset()
+        final FutureTask<String> errors = new FutureTask<>(
+            () -> {
+                try (
+                    BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(
+                            process.getErrorStream(), Charset.defaultCharset()
+                        )
                     )
-                )
-            ) {
-                message = reader.lines().collect(Collectors.joining("\n"));
+                ) {
+                    return reader.lines().collect(Collectors.joining("\n"));
+                }
             }
-            throw new IOException(message);
-        }
-        return process;
+        );
+        final Thread thread = new Thread(errors, "git-lint-errors");
+        thread.setDaemon(true);
+        thread.start();
+        return new CheckedProcess(process, errors);
     }
 
 }
@@ -0,0 +1,90 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.concurrent.CancellationException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents characters that can be read until deadline.
+ * <p>
+ * Clock is checked once per {@link #INTERVAL} reads of a character, so a
+ * running match is cancelled shortly after deadline with
+ * {@link CancellationException}.
+ */
+@RequiredArgsConstructor
+public final class TimedChars implements CharSequence {
+
+    /**
+     * Reads between clock checks.
+     */
+    private static final int INTERVAL = 1024;
+
+    /**
+     * Origin.
+     */
+    private final CharSequence origin;
+
+    /**
+     * Deadline, in {@link System#nanoTime()} terms.
+     */
+    private final long deadline;
+
+    /**
+     * Reads since the last clock check.
+     */
+    private int reads;
+
+    @Override
+    public int length() {
+        return this.origin.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        this.reads += 1;
+        if (this.reads == TimedChars.INTERVAL) {
+            this.reads = 0;
+            if (System.nanoTime() - this.deadline > 0) {
+                throw new CancellationException("Match time budget exceeded");
+            }
+        }
+        return this.origin.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return new TimedChars(
+            this.origin.subSequence(start, end), this.deadline
+        );
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+}
@@ -0,0 +1,327 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.SneakyThrows;
+
+/**
+ * Represents persistent table of lint verdicts by commit and rules, shared
+ * by builds of all worktrees.
+ * <p>
+ * The table is a memory-mapped file with a fixed number of slots and open
+ * addressing, so it never grows. A slot holds the first 20 bytes of commit
+ * id, the 128-bit digest of rules, the verdict with the stamp of its
+ * insertion and a check of all of them. A commit is looked up in a window
+ * of slots after its home slot, and when the window is full the oldest
+ * verdict in it is evicted. Concurrent builds are not locked out: a slot
+ * torn by them fails its check and reads as unknown. The number of slots is
+ * set when the file is created and is at most {@link #LIMIT}, so the table
+ * fits one mapping.
+ */
+public final class VerdictTable implements Closeable {
+
+    /**
+     * Header size.
+     */
+    private static final int HEADER = 16;
+
+    /**
+     * Slot size.
+     */
+    private static final int SLOT = 48;
+
+    /**
+     * Maximal slots count.
+     */
+    public static final int LIMIT =
+        (Integer.MAX_VALUE - VerdictTable.HEADER) / VerdictTable.SLOT;
+
+    /**
+     * File signature.
+     */
+    private static final int MAGIC = 0x67697477;
+
+    /**
+     * Position of slots count in header.
+     */
+    private static final int SLOTS = 4;
+
+    /**
+     * Position of the last stamp in header.
+     */
+    private static final int STAMP = 8;
+
+    /**
+     * Commit id bytes in slot.
+     */
+    private static final int ID = 20;
+
+    /**
+     * Position of rules digest in slot.
+     */
+    private static final int RULES = 20;
+
+    /**
+     * Position of verdict and stamp in slot.
+     */
+    private static final int STATE = 36;
+
+    /**
+     * Position of check in slot.
+     */
+    private static final int CHECK = 40;
+
+    /**
+     * Slots a commit may be found in after its home slot.
+     */
+    private static final int WINDOW = 8;
+
+    /**
+     * Stamps before they wrap around.
+     */
+    private static final int STAMPS = 0x3fffffff;
+
+    /**
+     * Table file channel.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Mapped table.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Slots count.
+     */
+    private final int slots;
+
+    /**
+     * Ctor.
+     *
+     * @param file table file
+     * @param capacity slots count of new table, positive and at most
+     *  {@link #LIMIT}
+     */
+    @SneakyThrows
+    public VerdictTable(final File file, final int capacity) {
+        if (capacity <= 0 || capacity > VerdictTable.LIMIT) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Slots count must be from 1 to %d, but was %d",
+                    VerdictTable.LIMIT,
+                    capacity
+                )
+            );
+        }
+        Files.createDirectories(
+            file.getAbsoluteFile().getParentFile().toPath()
+        );
+        this.channel = FileChannel.open(
+            file.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        final long size = this.channel.size();
+        if (size == 0) {
+            this.slots = capacity;
+            this.buffer = this.channel.map(
+                FileChannel.MapMode.READ_WRITE, 0, this.size()
+            );
+            this.buffer.putInt(VerdictTable.SLOTS, capacity);
+            this.buffer.putInt(0, VerdictTable.MAGIC);
+        } else {
+            final ByteBuffer header = ByteBuffer.allocate(VerdictTable.HEADER);
+            this.channel.read(header, 0);
+            this.slots = header.getInt(VerdictTable.SLOTS);
+            if (header.getInt(0) != VerdictTable.MAGIC
+                || size != this.size()) {
+                this.channel.close();
+                throw new IOException(
+                    String.format(
+                        "%s is not a verdicts table, delete it", file
+                    )
+                );
+            }
+            this.buffer = this.channel.map(
+                FileChannel.MapMode.READ_WRITE, 0, size
+            );
+        }
+    }
+
+    /**
+     * Verdict of commit.
+     *
+     * @param id commit id bytes
+     * @param rules rules digest
+     * @return whether commit passed the rules, empty if unknown
+     */
+    public synchronized Optional<Boolean> verdict(final byte[] id,
+        final UUID rules) {
+        final byte[] key = Arrays.copyOf(id, VerdictTable.ID);
+        Optional<Boolean> result = Optional.empty();
+        for (int probe = 0; probe < VerdictTable.WINDOW && !result.isPresent();
+            ++probe) {
+            final int position = this.position(key, probe);
+            if (this.holds(position, key, rules)) {
+                result = Optional.of(
+                    (this.buffer.getInt(position + VerdictTable.STATE) & 1)
+                        == 1
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records verdict of commit, evicting the oldest one in its window if
+     * needed.
+     *
+     * @param id commit id bytes
+     * @param rules rules digest
+     * @param pass whether commit passed the rules
+     */
+    public synchronized void put(final byte[] id, final UUID rules,
+        final boolean pass) {
+        final byte[] key = Arrays.copyOf(id, VerdictTable.ID);
+        int target = this.position(key, 0);
+        int oldest = Integer.MAX_VALUE;
+        boolean found = false;
+        for (int probe = 0; probe < VerdictTable.WINDOW && !found; ++probe) {
+            final int position = this.position(key, probe);
+            found = this.holds(position, key, rules);
+            final int age = this.buffer.getInt(position + VerdictTable.STATE)
+                >>> 1;
+            if (found || age < oldest) {
+                target = position;
+                oldest = age;
+            }
+        }
+        final int stamp = this.buffer.getInt(VerdictTable.STAMP)
+            % VerdictTable.STAMPS + 1;
+        this.buffer.putInt(VerdictTable.STAMP, stamp);
+        final int state = stamp << 1 | Boolean.compare(pass, false);
+        for (int index = 0; index < VerdictTable.ID; ++index) {
+            this.buffer.put(target + index, key[index]);
+        }
+        this.buffer.putLong(
+            target + VerdictTable.RULES, rules.getMostSignificantBits()
+        );
+        this.buffer.putLong(
+            target + VerdictTable.RULES + Long.BYTES,
+            rules.getLeastSignificantBits()
+        );
+        this.buffer.putInt(target + VerdictTable.STATE, state);
+        this.buffer.putInt(
+            target + VerdictTable.CHECK,
+            VerdictTable.check(key, rules, state)
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.buffer.force();
+        this.channel.close();
+    }
+
+    /**
+     * Table file size.
+     *
+     * @return size in bytes
+     */
+    private long size() {
+        return VerdictTable.HEADER + (long) VerdictTable.SLOT * this.slots;
+    }
+
+    /**
+     * Position of slot in window of commit.
+     *
+     * @param key commit id bytes
+     * @param probe slot in window
+     * @return position
+     */
+    private int position(final byte[] key, final int probe) {
+        return (int) (
+            VerdictTable.HEADER + VerdictTable.SLOT * (
+                (Integer.toUnsignedLong(ByteBuffer.wrap(key).getInt()) + probe)
+                    % this.slots
+            )
+        );
+    }
+
+    /**
+     * Whether slot holds verdict of commit.
+     *
+     * @param position slot position
+     * @param key commit id bytes
+     * @param rules rules digest
+     * @return whether slot holds valid verdict of commit and rules
+     */
+    private boolean holds(final int position, final byte[] key,
+        final UUID rules) {
+        final byte[] stored = new byte[VerdictTable.ID];
+        for (int index = 0; index < VerdictTable.ID; ++index) {
+            stored[index] = this.buffer.get(position + index);
+        }
+        final int state = this.buffer.getInt(position + VerdictTable.STATE);
+        return state != 0
+            && Arrays.equals(stored, key)
+            && this.buffer.getLong(position + VerdictTable.RULES)
+                == rules.getMostSignificantBits()
+            && this.buffer.getLong(position + VerdictTable.RULES + Long.BYTES)
+                == rules.getLeastSignificantBits()
+            && this.buffer.getInt(position + VerdictTable.CHECK)
+                == VerdictTable.check(key, rules, state);
+    }
+
+    /**
+     * Check of slot.
+     *
+     * @param key commit id bytes
+     * @param rules rules digest
+     * @param state verdict and stamp
+     * @return check
+     */
+    private static int check(final byte[] key, final UUID rules,
+        final int state) {
+        return Arrays.hashCode(
+            new int[] {Arrays.hashCode(key), rules.hashCode(), state}
+        );
+    }
+
+}
@@ -0,0 +1,152 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents last successfully linted {@code HEAD}, persisted between builds.
+ * <p>
+ * History of the watermark is excluded from the next range only while it can
+ * be trusted: the rules are the same, the parent branch was not rewritten
+ * and the watermark is still an ancestor of {@code HEAD}. Otherwise, after a
+ * change of patterns, engine or time budget, a rebase or a force-push, the
+ * whole range is linted again.
+ */
+@RequiredArgsConstructor
+public final class Watermark {
+
+    /**
+     * Head property.
+     */
+    private static final String HEAD = "head";
+
+    /**
+     * Parent property.
+     */
+    private static final String PARENT = "parent";
+
+    /**
+     * Rules hash property.
+     */
+    private static final String PATTERN = "pattern";
+
+    /**
+     * Watermark file.
+     */
+    private final File file;
+
+    /**
+     * Git history.
+     */
+    private final GitHistory history;
+
+    /**
+     * Commit message rules: patterns, engine and time budget.
+     */
+    private final String rules;
+
+    /**
+     * Commits whose history needs no linting.
+     *
+     * @param head head commit id
+     * @param parent parent commit id
+     * @return parent and, if it can be trusted, watermark commit ids
+     */
+    @SneakyThrows
+    public Collection<String> excluded(final String head, final String parent) {
+        final List<String> result = new ArrayList<>(2);
+        result.add(parent);
+        if (this.file.isFile()) {
+            final Properties last = new Properties();
+            try (
+                Reader reader = Files.newBufferedReader(
+                    this.file.toPath(), StandardCharsets.UTF_8
+                )
+            ) {
+                last.load(reader);
+            }
+            if (this.hash().equals(last.getProperty(Watermark.PATTERN))
+                && this.history.ancestor(
+                    last.getProperty(Watermark.PARENT), parent
+                )
+                && this.history.ancestor(
+                    last.getProperty(Watermark.HEAD), head
+                )) {
+                result.add(last.getProperty(Watermark.HEAD));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Saves linted range.
+     *
+     * @param head head commit id
+     * @param parent parent commit id
+     */
+    @SneakyThrows
+    public void save(final String head, final String parent) {
+        final Properties properties = new Properties();
+        properties.setProperty(Watermark.HEAD, head);
+        properties.setProperty(Watermark.PARENT, parent);
+        properties.setProperty(Watermark.PATTERN, this.hash());
+        Files.createDirectories(
+            this.file.getAbsoluteFile().getParentFile().toPath()
+        );
+        try (
+            Writer writer = Files.newBufferedWriter(
+                this.file.toPath(), StandardCharsets.UTF_8
+            )
+        ) {
+            properties.store(writer, "git-lint watermark");
+        }
+    }
+
+    /**
+     * Rules hash.
+     *
+     * @return rules hash
+     */
+    private String hash() {
+        return UUID.nameUUIDFromBytes(
+            this.rules.getBytes(StandardCharsets.UTF_8)
+        )
+            .toString();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link BannedTokens} test.
+ */
+public final class BannedTokensTest {
+
+    /**
+     * Can find the token ending first.
+     */
+    @Test
+    public void findTokenEndingFirst() {
+        final BannedTokens tokens = new BannedTokens(
+            Arrays.asList("he", "she", "his", "hers"), false
+        );
+        MatcherAssert.assertThat(
+            tokens.find("ushers"),
+            Matchers.equalTo(Optional.of("she"))
+        );
+        MatcherAssert.assertThat(
+            tokens.find("ahishers"),
+            Matchers.equalTo(Optional.of("his"))
+        );
+        MatcherAssert.assertThat(tokens.test("hush"), Matchers.is(true));
+        MatcherAssert.assertThat(tokens.test("shy"), Matchers.is(true));
+        MatcherAssert.assertThat(tokens.test("this"), Matchers.is(false));
+    }
+
+    /**
+     * Can find token after failed partial match.
+     */
+    @Test
+    public void findTokenAfterPartialMatch() {
+        MatcherAssert.assertThat(
+            new BannedTokens(Arrays.asList("fixup!", "xu", "WIP"), false)
+                .find("fix: fixup fixup! x"),
+            Matchers.equalTo(Optional.of("xu"))
+        );
+        MatcherAssert.assertThat(
+            new BannedTokens(Arrays.asList("fixup!", "WIP", "WIP"), false)
+                .find("fix: fixup wip WIP"),
+            Matchers.equalTo(Optional.of("WIP"))
+        );
+    }
+
+    /**
+     * Can find the longest of overlapping tokens ending at the same
+     * position.
+     */
+    @Test
+    public void findLongestOverlappingToken() {
+        MatcherAssert.assertThat(
+            new BannedTokens(Arrays.asList("ab", "b"), false).find("xab"),
+            Matchers.equalTo(Optional.of("ab"))
+        );
+        MatcherAssert.assertThat(
+            new BannedTokens(Arrays.asList("c", "bc", "abc"), false)
+                .find("xbc"),
+            Matchers.equalTo(Optional.of("bc"))
+        );
+    }
+
+    /**
+     * Can find token ignoring case.
+     */
+    @Test
+    public void findTokenIgnoringCase() {
+        MatcherAssert.assertThat(
+            new BannedTokens(Collections.singletonList("WIP"), true)
+                .find("feat: wip parser"),
+            Matchers.equalTo(Optional.of("WIP"))
+        );
+        MatcherAssert.assertThat(
+            new BannedTokens(Collections.singletonList("WIP"), false)
+                .test("feat: wip parser"),
+            Matchers.is(true)
+        );
+    }
+
+}
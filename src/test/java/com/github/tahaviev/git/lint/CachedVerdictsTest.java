@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link CachedVerdicts} test.
+ */
+public final class CachedVerdictsTest {
+
+    /**
+     * Rules digest.
+     */
+    private static final UUID RULES = UUID.nameUUIDFromBytes(new byte[] {1});
+
+    /**
+     * Can match commit once.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void matchOnce(@TempDir final Path temp) throws IOException {
+        final AtomicInteger matches = new AtomicInteger();
+        final CommitMessage message = new CommitMessage(
+            "0123456789abcdef0123456789abcdef01234567", "#1 subject"
+        );
+        try (
+            VerdictTable table = new VerdictTable(
+                temp.resolve("verdicts").toFile(), 2
+            )
+        ) {
+            final CachedVerdicts rules = new CachedVerdicts(
+                table,
+                CachedVerdictsTest.RULES,
+                commit -> matches.incrementAndGet() > 0
+            );
+            MatcherAssert.assertThat(
+                new boolean[] {rules.test(message), rules.test(message)},
+                Matchers.equalTo(new boolean[] {true, true})
+            );
+        }
+        MatcherAssert.assertThat(matches.get(), Matchers.is(1));
+    }
+
+    /**
+     * Can match mismatched commit again unless mismatches are kept.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void matchMismatchAgain(@TempDir final Path temp)
+        throws IOException {
+        final AtomicInteger matches = new AtomicInteger();
+        final CommitMessage message = new CommitMessage(
+            "0123456789abcdef0123456789abcdef01234567", "subject"
+        );
+        try (
+            VerdictTable table = new VerdictTable(
+                temp.resolve("verdicts").toFile(), 2
+            )
+        ) {
+            final CachedVerdicts rules = new CachedVerdicts(
+                table,
+                CachedVerdictsTest.RULES,
+                commit -> matches.incrementAndGet() < 0,
+                false
+            );
+            rules.test(message);
+            rules.test(message);
+            final CachedVerdicts kept = new CachedVerdicts(
+                table,
+                CachedVerdictsTest.RULES,
+                commit -> matches.incrementAndGet() < 0
+            );
+            MatcherAssert.assertThat(
+                new boolean[] {kept.test(message), kept.test(message)},
+                Matchers.equalTo(new boolean[] {false, false})
+            );
+        }
+        MatcherAssert.assertThat(matches.get(), Matchers.is(2 + 1));
+    }
+
+}
@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link CanonicalPath} test.
+ */
+public final class CanonicalPathTest {
+
+    /**
+     * Can resolve the same path through symbolic link.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void resolveLink(@TempDir final Path temp) throws IOException {
+        final Path target = Files.createDirectory(temp.resolve("target"));
+        MatcherAssert.assertThat(
+            new CanonicalPath(
+                Files.createSymbolicLink(temp.resolve("link"), target)
+                    .resolve("..")
+                    .resolve("link")
+                    .toFile()
+            )
+                .get(),
+            Matchers.equalTo(new CanonicalPath(target.toFile()).get())
+        );
+    }
+
+    /**
+     * Can throw exception on invalid path.
+     */
+    @Test
+    public void throwExceptionOnInvalidPath() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new CanonicalPath(new File("invalid\0path")).get()
+        );
+    }
+
+}
@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CharRanges} test.
+ */
+public final class CharRangesTest {
+
+    /**
+     * Can merge overlapping and adjacent ranges.
+     */
+    @Test
+    public void mergeRanges() {
+        final CharRanges ranges = new CharRanges('e', 'g', 'a', 'c', 'd', 'd');
+        MatcherAssert.assertThat(
+            ranges.contains('a') && ranges.contains('d')
+                && ranges.contains('g') && !ranges.contains('h'),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can unite sets.
+     */
+    @Test
+    public void unite() {
+        final CharRanges ranges = new CharRanges('a', 'b')
+            .union(new CharRanges('x', 'z'));
+        MatcherAssert.assertThat(
+            ranges.contains('b') && ranges.contains('y')
+                && !ranges.contains('c'),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can complement set.
+     */
+    @Test
+    public void complement() {
+        final CharRanges ranges = new CharRanges(
+            Character.MIN_VALUE, 'a', 'c', 'c', 'e', Character.MAX_VALUE
+        )
+            .complement();
+        MatcherAssert.assertThat(
+            ranges.contains('b') && ranges.contains('d')
+                && !ranges.contains('a') && !ranges.contains('c')
+                && !ranges.contains(Character.MAX_VALUE),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can complement empty set.
+     */
+    @Test
+    public void complementEmpty() {
+        final CharRanges ranges = new CharRanges().complement();
+        MatcherAssert.assertThat(
+            ranges.contains(Character.MIN_VALUE)
+                && ranges.contains(Character.MAX_VALUE),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can add the other case of ASCII letters.
+     */
+    @Test
+    public void ignoreCase() {
+        final CharRanges ranges = new CharRanges('W', 'b', 'x', 'x')
+            .insensitive();
+        MatcherAssert.assertThat(
+            ranges.contains('w') && ranges.contains('z')
+                && ranges.contains('A') && ranges.contains('B')
+                && ranges.contains('X') && ranges.contains('_')
+                && !ranges.contains('c') && !ranges.contains('V'),
+            Matchers.is(true)
+        );
+    }
+
+}
@@ -0,0 +1,133 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CheckedProcess} test.
+ */
+public final class CheckedProcessTest {
+
+    /**
+     * Can read output of succeed process.
+     *
+     * @throws IOException if fails
+     */
+    @Test
+    public void readOutput() throws IOException {
+        final Process process = new CheckedProcess(
+            new FakeSucceedProcess("ab"),
+            CompletableFuture.completedFuture("")
+        );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream input = process.getInputStream()) {
+            output.write(input.read());
+            final byte[] bytes = new byte[2];
+            output.write(bytes, 0, input.read(bytes));
+            MatcherAssert.assertThat(input.read(), Matchers.equalTo(-1));
+        }
+        MatcherAssert.assertThat(
+            output.toString(), Matchers.equalTo("ab")
+        );
+    }
+
+    /**
+     * Can throw exception on reading end of failed process output.
+     */
+    @Test
+    public void throwExceptionOnOutputEnd() {
+        final Process process = new CheckedProcess(
+            new FakeFailedProcess("error"),
+            CompletableFuture.completedFuture("error")
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IOException.class,
+                () -> process.getInputStream().read(new byte[1])
+            )
+                .getMessage(),
+            Matchers.equalTo("error")
+        );
+    }
+
+    /**
+     * Can provide drained error output.
+     *
+     * @throws IOException if fails
+     */
+    @Test
+    public void provideErrors() throws IOException {
+        try (
+            InputStream errors = new CheckedProcess(
+                new FakeFailedProcess(""),
+                CompletableFuture.completedFuture("e")
+            )
+                .getErrorStream()
+        ) {
+            MatcherAssert.assertThat(
+                errors.read(), Matchers.equalTo((int) 'e')
+            );
+        }
+    }
+
+    /**
+     * Can throw exception when errors can't be drained.
+     */
+    @Test
+    public void throwExceptionOnDrainFailure() {
+        final CompletableFuture<String> errors = new CompletableFuture<>();
+        errors.completeExceptionally(new IOException("drain"));
+        Assertions.assertThrows(
+            IOException.class,
+            new CheckedProcess(new FakeSucceedProcess(""), errors)::waitFor
+        );
+    }
+
+    /**
+     * Can delegate to origin process.
+     */
+    @Test
+    public void delegateToOrigin() {
+        final Process process = new CheckedProcess(
+            new FakeFailedProcess(""),
+            CompletableFuture.completedFuture("")
+        );
+        process.destroy();
+        MatcherAssert.assertThat(
+            process.getOutputStream(), Matchers.notNullValue()
+        );
+        MatcherAssert.assertThat(process.exitValue(), Matchers.equalTo(1));
+    }
+
+}
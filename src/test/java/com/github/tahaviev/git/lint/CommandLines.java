@@ -0,0 +1,73 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents output lines of command execution.
+ */
+@RequiredArgsConstructor
+public final class CommandLines implements Supplier<List<String>> {
+
+    /**
+     * Command to execute.
+     */
+    private final String[] command;
+
+    /**
+     * Working directory.
+     */
+    private final File directory;
+
+    @Override
+    public List<String> get() {
+        return new LinesFromProcess(
+            new SucceedProcess(
+                new Supplier<Process>() {
+
+                    @Override
+                    @SneakyThrows
+                    public Process get() {
+                        return Runtime
+                            .getRuntime()
+                            .exec(
+                                CommandLines.this.command,
+                                null,
+                                CommandLines.this.directory
+                            );
+                    }
+                }
+            )
+        )
+            .get();
+    }
+
+}
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link CommitGraph} integration test.
+ */
+public final class CommitGraphIT {
+
+    /**
+     * Offset of version in header.
+     */
+    private static final int VERSION = 4;
+
+    /**
+     * Offset of hash version in header.
+     */
+    private static final int HASH = 5;
+
+    /**
+     * Offset of base layers count in header.
+     */
+    private static final int BASES = 7;
+
+    /**
+     * Offset of first chunk id.
+     */
+    private static final int CHUNK = 8;
+
+    /**
+     * Valid commit-graph content.
+     */
+    private byte[] content;
+
+    /**
+     * Writes commit-graph of single commit.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @BeforeEach
+    public void setUp(@TempDir final Path temp) throws IOException {
+        final File directory = temp.toFile();
+        new Executions(
+            new String[][]{
+                {"git", "init", "--quiet"},
+                {"git", "config", "user.email", "user.email"},
+                {"git", "config", "user.name", "user.name"},
+                {"git", "commit", "--quiet", "--allow-empty", "-m", "first"},
+                {"git", "commit-graph", "write", "--reachable"},
+            },
+            directory
+        )
+            .run();
+        this.content = Files.readAllBytes(
+            temp.resolve(".git/objects/info/commit-graph")
+        );
+    }
+
+    /**
+     * Can reject unsupported commit-graph.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectUnsupported(@TempDir final Path temp)
+        throws IOException {
+        final Path file = temp.resolve("graph");
+        Files.write(file, new byte[Integer.BYTES]);
+        CommitGraphIT.reject(file);
+        for (final int offset : new int[]{
+            0, CommitGraphIT.VERSION, CommitGraphIT.HASH,
+            CommitGraphIT.BASES, CommitGraphIT.CHUNK,
+        }) {
+            final byte[] corrupted = this.content.clone();
+            corrupted[offset] += 1;
+            Files.write(file, corrupted);
+            CommitGraphIT.reject(file);
+        }
+    }
+
+    /**
+     * Asserts that commit-graph file is rejected.
+     *
+     * @param file commit-graph file
+     */
+    private static void reject(final Path file) {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new CommitGraph(
+                Collections.singletonList(new MappedFile(file.toFile()))
+            )
+        );
+    }
+
+}
@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CommitMessage} test.
+ */
+public final class CommitMessageTest {
+
+    /**
+     * Can split message into subject, body and trailers.
+     */
+    @Test
+    public void splitMessage() {
+        final CommitMessage message = new CommitMessage(
+            "id",
+            String.join(
+                "\n",
+                "", "#1 first", "second", " ", "body", "", "", "more body",
+                "", "Signed-off-by: user <user@mail>", "Co-authored-by: other",
+                "  <other@mail>", ""
+            )
+        );
+        MatcherAssert.assertThat(
+            message.subject().toString(), Matchers.equalTo("#1 first second")
+        );
+        MatcherAssert.assertThat(
+            message.body().toString(), Matchers.equalTo("body\n\n\nmore body")
+        );
+        MatcherAssert.assertThat(
+            message.trailers().toString(),
+            Matchers.equalTo(
+                String.join(
+                    "\n",
+                    "Signed-off-by: user <user@mail>",
+                    "Co-authored-by: other",
+                    "  <other@mail>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            message.toString(), Matchers.equalTo("id #1 first second")
+        );
+    }
+
+    /**
+     * Can treat last paragraph without trailers as body.
+     */
+    @Test
+    public void keepBodyWithoutTrailers() {
+        final CommitMessage message = new CommitMessage(
+            "id", "subject\n\nbody\nNote: not a trailer line\nend\n"
+        );
+        MatcherAssert.assertThat(
+            message.body().toString(),
+            Matchers.equalTo("body\nNote: not a trailer line\nend")
+        );
+        MatcherAssert.assertThat(
+            message.trailers().length(), Matchers.equalTo(0)
+        );
+    }
+
+    /**
+     * Can split message with trailers only.
+     */
+    @Test
+    public void splitTrailersWithoutBody() {
+        final CommitMessage message = new CommitMessage(
+            "id", "subject\n\nTicket: 1"
+        );
+        MatcherAssert.assertThat(
+            message.subject().toString(), Matchers.equalTo("subject")
+        );
+        MatcherAssert.assertThat(message.body().length(), Matchers.equalTo(0));
+        MatcherAssert.assertThat(
+            message.trailers().toString(), Matchers.equalTo("Ticket: 1")
+        );
+    }
+
+    /**
+     * Can split subject only and empty messages.
+     */
+    @Test
+    public void splitShortMessages() {
+        final CommitMessage subject = new CommitMessage("id", "Ticket: 1\n");
+        MatcherAssert.assertThat(
+            subject.subject().toString(), Matchers.equalTo("Ticket: 1")
+        );
+        MatcherAssert.assertThat(
+            subject.trailers().length(), Matchers.equalTo(0)
+        );
+        final CommitMessage empty = new CommitMessage("id", "\n \n");
+        MatcherAssert.assertThat(
+            empty.subject().length(), Matchers.equalTo(0)
+        );
+        MatcherAssert.assertThat(empty.body().length(), Matchers.equalTo(0));
+    }
+
+    /**
+     * Can keep paths changed by commit.
+     */
+    @Test
+    public void keepChangedPaths() {
+        MatcherAssert.assertThat(
+            new CommitMessage("id", "subject").paths(),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            new CommitMessage("id", "subject").signature().length(),
+            Matchers.is(0)
+        );
+        MatcherAssert.assertThat(
+            new CommitMessage("id", "subject", Arrays.asList("a", "b/c"))
+                .paths(),
+            Matchers.contains("a", "b/c")
+        );
+    }
+
+}
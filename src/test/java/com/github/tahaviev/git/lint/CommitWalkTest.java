@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CommitWalk} test.
+ */
+public final class CommitWalkTest {
+
+    /**
+     * Length of uninteresting history.
+     */
+    private static final int HISTORY = 10;
+
+    /**
+     * Commits by id.
+     */
+    private final Map<String, GitCommit> commits = new HashMap<>();
+
+    /**
+     * Can walk commits newest first skipping merges.
+     */
+    @Test
+    public void walkNewestFirst() {
+        this.commit("base 1");
+        this.commit("main 2 base");
+        this.commit("side 3 base");
+        this.commit("merge 4 main side");
+        this.commit("head 5 merge");
+        MatcherAssert.assertThat(
+            this.walk("head", "base"),
+            Matchers.equalTo(Arrays.asList("head", "side", "main"))
+        );
+    }
+
+    /**
+     * Can walk commits made at the same time in order they were found.
+     */
+    @Test
+    public void walkSameTimeInOrder() {
+        this.commit("base 1");
+        this.commit("first 5 base");
+        this.commit("second 5 base");
+        this.commit("merge 6 first second");
+        MatcherAssert.assertThat(
+            this.walk("merge", "base"),
+            Matchers.equalTo(Arrays.asList("first", "second"))
+        );
+    }
+
+    /**
+     * Can drop commits found uninteresting after they were walked.
+     */
+    @Test
+    public void dropLateUninteresting() {
+        this.commit("old 80");
+        this.commit("shared 90 old");
+        this.commit("head 100 shared");
+        this.commit("excluded 50 shared");
+        MatcherAssert.assertThat(
+            this.walk("head", "excluded"),
+            Matchers.equalTo(Collections.singletonList("head"))
+        );
+    }
+
+    /**
+     * Can keep walking uninteresting commits newer than last walked one.
+     */
+    @Test
+    public void tolerateClockSkew() {
+        this.commit("skewed 200");
+        this.commit("head 100 skewed");
+        this.commit("future 300");
+        this.commit("excluded 50 future");
+        MatcherAssert.assertThat(
+            this.walk("head", "excluded"),
+            Matchers.equalTo(Arrays.asList("head", "skewed"))
+        );
+    }
+
+    /**
+     * Can stop walking long uninteresting history.
+     */
+    @Test
+    public void stopOnUninterestingHistory() {
+        this.commit("head 100");
+        this.commit("first 1");
+        String parent = "first";
+        for (int index = 0; index < CommitWalkTest.HISTORY; ++index) {
+            final String id = String.valueOf(index);
+            this.commit(String.format("%s %d %s", id, index + 2, parent));
+            parent = id;
+        }
+        MatcherAssert.assertThat(
+            this.walk("head", parent),
+            Matchers.equalTo(Collections.singletonList("head"))
+        );
+    }
+
+    /**
+     * Can exclude history reachable by several paths.
+     */
+    @Test
+    public void excludeDiamond() {
+        this.commit("root 1");
+        this.commit("left 2 root");
+        this.commit("right 3 root");
+        this.commit("excluded 4 left right");
+        this.commit("head 10 root");
+        MatcherAssert.assertThat(
+            this.walk("head", "excluded"),
+            Matchers.equalTo(Collections.singletonList("head"))
+        );
+    }
+
+    /**
+     * Can walk nothing when head is excluded.
+     */
+    @Test
+    public void walkNothing() {
+        this.commit("head 1");
+        MatcherAssert.assertThat(
+            this.walk("head", "head"), Matchers.empty()
+        );
+    }
+
+    /**
+     * Walks commits.
+     *
+     * @param head included commit
+     * @param parent excluded commit
+     * @return walked commits
+     */
+    private List<String> walk(final String head, final String parent) {
+        return new CommitWalk(
+            this.commits::get,
+            Collections.singleton(head),
+            Collections.singleton(parent)
+        )
+            .get();
+    }
+
+    /**
+     * Adds commit.
+     *
+     * @param spec commit id, time and parent ids separated by spaces
+     */
+    private void commit(final String spec) {
+        final String[] parts = spec.split(" ");
+        final StringBuilder content = new StringBuilder("tree t\n");
+        for (int index = 2; index < parts.length; ++index) {
+            content.append("parent ").append(parts[index]).append('\n');
+        }
+        content.append(
+            String.format("committer c <c> %s +0000\n\n", parts[1])
+        );
+        this.commits.put(
+            parts[0],
+            new GitCommit(content.toString().getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+}
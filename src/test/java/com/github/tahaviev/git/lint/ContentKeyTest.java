@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.nio.CharBuffer;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ContentKey} test.
+ */
+public final class ContentKeyTest {
+
+    /**
+     * Can equal key of the same characters in other views.
+     */
+    @Test
+    public void equalSameCharacters() {
+        final ContentKey key = new ContentKey(
+            CharBuffer.wrap("#1 subject"), "G"
+        );
+        MatcherAssert.assertThat(
+            key.copy(),
+            Matchers.allOf(
+                Matchers.equalTo(new ContentKey("#1 subject", "G")),
+                Matchers.hasToString(Matchers.not(Matchers.isEmptyString()))
+            )
+        );
+        MatcherAssert.assertThat(
+            key.hashCode(),
+            Matchers.is(new ContentKey("#1 subject", "G").hashCode())
+        );
+    }
+
+    /**
+     * Can differ from keys of other characters or parts.
+     */
+    @Test
+    public void differFromOtherContent() {
+        final ContentKey key = new ContentKey("ab", "c");
+        for (final Object other : new Object[] {
+            new ContentKey("ab"),
+            new ContentKey("ab", "d"),
+            new ContentKey("a", "bc"),
+            "abc",
+        }) {
+            MatcherAssert.assertThat(key, Matchers.not(other));
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link DaemonClient} test.
+ */
+public final class DaemonClientTest {
+
+    /**
+     * Can lint in place when daemon is not running.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void lintInPlaceWithoutDaemon(@TempDir final Path temp) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            new DaemonClient(
+                temp.resolve("missing.port").toFile(),
+                Collections.emptyList(),
+                new PrintStream(output, true)
+            )
+                .getAsInt(),
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.startsWith("Usage: git-lint")
+        );
+    }
+
+    /**
+     * Can lint in place when port file is readable by others.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void lintInPlaceWithPublicPortFile(@TempDir final Path temp)
+        throws IOException {
+        final Path port = Files.write(
+            temp.resolve("public.port"),
+            Arrays.asList("1", "token")
+        );
+        Files.setPosixFilePermissions(
+            port, PosixFilePermissions.fromString("rw-r--r--")
+        );
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            new DaemonClient(
+                port.toFile(),
+                Collections.emptyList(),
+                new PrintStream(output, true)
+            )
+                .getAsInt(),
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.startsWith("Port file"),
+                Matchers.containsString("Usage: git-lint")
+            )
+        );
+    }
+
+    /**
+     * Can lint in place when daemon does not reply in time.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void lintInPlaceWhenDaemonHangs(@TempDir final Path temp)
+        throws IOException {
+        try (
+            ServerSocket server = new ServerSocket(
+                0, 1, InetAddress.getLoopbackAddress()
+            )
+        ) {
+            final Path port = Files.createFile(
+                temp.resolve("hanging.port"),
+                PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")
+                )
+            );
+            Files.write(
+                port,
+                Arrays.asList(String.valueOf(server.getLocalPort()), "token")
+            );
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            MatcherAssert.assertThat(
+                new DaemonClient(
+                    port.toFile(),
+                    Collections.emptyList(),
+                    new PrintStream(output, true),
+                    temp.toFile(),
+                    Duration.ofMillis(1)
+                )
+                    .getAsInt(),
+                Matchers.is(2)
+            );
+            MatcherAssert.assertThat(
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                Matchers.allOf(
+                    Matchers.startsWith("Daemon did not reply in PT0.001S"),
+                    Matchers.containsString("Usage: git-lint")
+                )
+            );
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Delta} test.
+ */
+public final class DeltaTest {
+
+    /**
+     * Default copy size.
+     */
+    private static final int DEFAULT = 0x10000;
+
+    /**
+     * Can copy from base and insert new data.
+     */
+    @Test
+    public void copyAndInsert() {
+        MatcherAssert.assertThat(
+            new String(
+                new Delta(FakePackIndex.bytes("0507910103036e65770178"))
+                    .apply("abcde".getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo("bcdnewx")
+        );
+    }
+
+    /**
+     * Can read multi byte sizes and copy default size.
+     */
+    @Test
+    public void copyDefaultSize() {
+        final byte[] base = new byte[DeltaTest.DEFAULT];
+        base[base.length - 1] = 1;
+        MatcherAssert.assertThat(
+            new Delta(FakePackIndex.bytes("80800480800480")).apply(base),
+            Matchers.equalTo(base)
+        );
+    }
+
+    /**
+     * Can reject base of wrong size.
+     */
+    @Test
+    public void rejectWrongBase() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Delta(new byte[]{2, 0}).apply(new byte[1])
+        );
+    }
+
+    /**
+     * Can reject reserved opcode.
+     */
+    @Test
+    public void rejectReservedOpcode() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Delta(new byte[]{0, 1, 0}).apply(new byte[0])
+        );
+    }
+
+    /**
+     * Can reject result of wrong size.
+     */
+    @Test
+    public void rejectWrongResult() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Delta(new byte[]{0, 2, 1, 'a'}).apply(new byte[0])
+        );
+    }
+
+}
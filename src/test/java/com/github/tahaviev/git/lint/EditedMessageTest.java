@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link EditedMessage} test.
+ */
+public final class EditedMessageTest {
+
+    /**
+     * Can drop comments and surrounding blank lines.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void dropCommentsAndBlankLines(@TempDir final Path temp)
+        throws IOException {
+        MatcherAssert.assertThat(
+            new EditedMessage(
+                EditedMessageTest.write(
+                    temp,
+                    "\n \n; comment\n#1 subject\n\nbody\n;\n\n \n"
+                ),
+                ";"
+            )
+                .get()
+                .toString(),
+            Matchers.equalTo("#1 subject\n\nbody")
+        );
+    }
+
+    /**
+     * Can ignore everything below scissors line.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void ignoreBelowScissors(@TempDir final Path temp)
+        throws IOException {
+        MatcherAssert.assertThat(
+            new EditedMessage(
+                EditedMessageTest.write(
+                    temp,
+                    String.join(
+                        "\n",
+                        "subject",
+                        "# ------------------------ >8"
+                            + " ------------------------",
+                        "diff --git a/file b/file"
+                    )
+                ),
+                "#"
+            )
+                .get()
+                .toString(),
+            Matchers.equalTo("subject")
+        );
+    }
+
+    /**
+     * Can provide empty message of comments only.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void provideEmptyMessage(@TempDir final Path temp)
+        throws IOException {
+        MatcherAssert.assertThat(
+            new EditedMessage(EditedMessageTest.write(temp, "# a\n"), "#")
+                .get()
+                .length(),
+            Matchers.is(0)
+        );
+    }
+
+    /**
+     * Can throw exception on missing file.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnMissingFile(@TempDir final Path temp) {
+        final EditedMessage message = new EditedMessage(
+            temp.resolve("missing").toFile(), "#"
+        );
+        Assertions.assertThrows(IOException.class, message::get);
+    }
+
+    /**
+     * Writes message file.
+     *
+     * @param temp temporary directory
+     * @param text message text
+     * @return message file
+     * @throws IOException if fails
+     */
+    private static File write(final Path temp, final String text)
+        throws IOException {
+        return Files.write(
+            temp.resolve("COMMIT_EDITMSG"),
+            text.getBytes(StandardCharsets.UTF_8)
+        )
+            .toFile();
+    }
+
+}
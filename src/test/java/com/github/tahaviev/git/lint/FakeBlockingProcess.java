@@ -0,0 +1,107 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import lombok.SneakyThrows;
+
+/**
+ * Represents fake succeed process which can't complete until its output is
+ * read, like a real process writing to a full pipe.
+ */
+public final class FakeBlockingProcess extends Process {
+
+    /**
+     * Process output.
+     */
+    private final String input;
+
+    /**
+     * Output completion.
+     */
+    private final CountDownLatch completion;
+
+    /**
+     * Ctor.
+     *
+     * @param output process output
+     */
+    public FakeBlockingProcess(final String output) {
+        this.input = output;
+        this.completion = new CountDownLatch(1);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return new ByteArrayOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new FilterInputStream(
+            new ByteArrayInputStream(this.input.getBytes())
+        ) {
+
+            @Override
+            public int read(final byte[] bytes, final int offset,
+                final int length) throws IOException {
+                final int read = super.read(bytes, offset, length);
+                if (read < 0) {
+                    FakeBlockingProcess.this.completion.countDown();
+                }
+                return read;
+            }
+        };
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        return new ByteArrayInputStream(new byte[] {});
+    }
+
+    @Override
+    @SneakyThrows
+    public int waitFor() {
+        this.completion.await();
+        return 0;
+    }
+
+    @Override
+    public int exitValue() {
+        return 0;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+}
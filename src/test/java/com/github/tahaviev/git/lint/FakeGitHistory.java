@@ -0,0 +1,83 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Collection;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Represents git history with provided ancestry and no commits.
+ */
+@RequiredArgsConstructor
+public final class FakeGitHistory implements GitHistory {
+
+    /**
+     * Ancestry of commits.
+     */
+    private final BiPredicate<String, String> ancestry;
+
+    @Override
+    public String root() {
+        throw new UnsupportedOperationException("no root");
+    }
+
+    @Override
+    public String revision(final String name) {
+        return name;
+    }
+
+    @Override
+    public boolean ancestor(final String ancestor, final String descendant) {
+        return this.ancestry.test(ancestor, descendant);
+    }
+
+    @Override
+    public Supplier<Iterable<CharSequence>> messages(final String head,
+        final Collection<String> excluded) {
+        throw new UnsupportedOperationException("no messages");
+    }
+
+    @Override
+    public Supplier<Iterable<CommitMessage>> fullMessages(final String head,
+        final Collection<String> excluded) {
+        throw new UnsupportedOperationException("no full messages");
+    }
+
+    @Override
+    public Supplier<Iterable<CommitMessage>> fullMessages(final String head,
+        final Collection<String> excluded, final boolean paths,
+        final boolean signatures) {
+        throw new UnsupportedOperationException("no full messages");
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+}
@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Represents version 2 pack index file written from provided offsets.
+ */
+@RequiredArgsConstructor
+public final class FakePackIndex {
+
+    /**
+     * Index signature.
+     */
+    private static final int SIGNATURE = 0xff744f63;
+
+    /**
+     * Fanout table size.
+     */
+    private static final int FANOUT = 256;
+
+    /**
+     * Large offset flag.
+     */
+    private static final int LARGE = 0x80000000;
+
+    /**
+     * Hexadecimal radix.
+     */
+    private static final int HEX = 16;
+
+    /**
+     * Pack offsets by hexadecimal object id.
+     */
+    private final SortedMap<String, Long> offsets;
+
+    /**
+     * Writes index file.
+     *
+     * @param path file path
+     * @return index file
+     */
+    @SneakyThrows
+    public File write(final Path path) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(FakePackIndex.SIGNATURE);
+        output.writeInt(2);
+        for (int entry = 0; entry < FakePackIndex.FANOUT; ++entry) {
+            final String last = String.format("%02x", entry + 1);
+            int count = this.offsets.size();
+            if (entry < FakePackIndex.FANOUT - 1) {
+                count = this.offsets.headMap(last).size();
+            }
+            output.writeInt(count);
+        }
+        for (final String id : this.offsets.keySet()) {
+            output.write(FakePackIndex.bytes(id));
+        }
+        for (int index = 0; index < this.offsets.size(); ++index) {
+            output.writeInt(0);
+        }
+        final List<Long> large = new ArrayList<>(0);
+        for (final Map.Entry<String, Long> entry : this.offsets.entrySet()) {
+            if (entry.getValue() > Integer.MAX_VALUE) {
+                output.writeInt(FakePackIndex.LARGE | large.size());
+                large.add(entry.getValue());
+            } else {
+                output.writeInt(entry.getValue().intValue());
+            }
+        }
+        for (final long offset : large) {
+            output.writeLong(offset);
+        }
+        return Files.write(path, bytes.toByteArray()).toFile();
+    }
+
+    /**
+     * Converts hexadecimal id to bytes.
+     *
+     * @param id hexadecimal id
+     * @return id bytes
+     */
+    public static byte[] bytes(final String id) {
+        final byte[] result = new byte[id.length() / 2];
+        for (int index = 0; index < result.length; ++index) {
+            result[index] = (byte) Integer.parseInt(
+                id.substring(2 * index, 2 * index + 2), FakePackIndex.HEX
+            );
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link FoldedLines} test.
+ */
+public final class FoldedLinesTest {
+
+    /**
+     * Can read line feeds as spaces.
+     */
+    @Test
+    public void readLineFeedsAsSpaces() {
+        final CharSequence folded = new FoldedLines("first\nsecond\nthird");
+        MatcherAssert.assertThat(
+            folded.toString(), Matchers.equalTo("first second third")
+        );
+        MatcherAssert.assertThat(
+            folded.length(), Matchers.equalTo("first second third".length())
+        );
+        MatcherAssert.assertThat(
+            folded.subSequence("first".length(), "first second".length())
+                .toString(),
+            Matchers.equalTo(" second")
+        );
+        MatcherAssert.assertThat(
+            new Rules("\\w+ \\w+ \\w+").test(folded), Matchers.is(true)
+        );
+    }
+
+}
@@ -0,0 +1,156 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link GitCommit} test.
+ */
+public final class GitCommitTest {
+
+    /**
+     * Commit time.
+     */
+    private static final long TIME = 1_600_000_000L;
+
+    /**
+     * Commit headers.
+     */
+    private static final String HEADERS = String.join(
+        "\n",
+        "tree 4b825dc642cb6eb9a060e54bf8d69288fbe4904b",
+        "parent 1111111111111111111111111111111111111111",
+        "parent 2222222222222222222222222222222222222222",
+        "author user <user@mail> 1500000000 +0300",
+        "committer user <user@mail> 1600000000 +0300",
+        "gpgsig -----BEGIN PGP SIGNATURE-----",
+        " ",
+        " -----END PGP SIGNATURE-----"
+    );
+
+    /**
+     * Can parse headers.
+     */
+    @Test
+    public void parseHeaders() {
+        final GitCommit commit = GitCommitTest.commit(
+            String.format("%s\n\nsubject\n", GitCommitTest.HEADERS),
+            StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            commit.parents(),
+            Matchers.equalTo(
+                Arrays.asList(
+                    "1111111111111111111111111111111111111111",
+                    "2222222222222222222222222222222222222222"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            commit.time(), Matchers.equalTo(GitCommitTest.TIME)
+        );
+    }
+
+    /**
+     * Can join first paragraph into subject.
+     */
+    @Test
+    public void joinSubject() {
+        MatcherAssert.assertThat(
+            GitCommitTest.commit(
+                String.format(
+                    "%s\n\n\n  \nfirst  \nsecond\n\nbody\n",
+                    GitCommitTest.HEADERS
+                ),
+                StandardCharsets.UTF_8
+            )
+                .subject(),
+            Matchers.equalTo("first second")
+        );
+        MatcherAssert.assertThat(
+            GitCommitTest.commit(
+                String.format("%s\n\nfirst\n\nbody\n", GitCommitTest.HEADERS),
+                StandardCharsets.UTF_8
+            )
+                .message(),
+            Matchers.equalTo("first\n\nbody\n")
+        );
+    }
+
+    /**
+     * Can decode message in commit encoding.
+     */
+    @Test
+    public void decodeMessage() {
+        MatcherAssert.assertThat(
+            GitCommitTest.commit(
+                String.format(
+                    "%s\nencoding ISO-8859-1\n\ndéjà vu",
+                    GitCommitTest.HEADERS
+                ),
+                StandardCharsets.ISO_8859_1
+            )
+                .subject(),
+            Matchers.equalTo("déjà vu")
+        );
+    }
+
+    /**
+     * Can parse commit without message and committer.
+     */
+    @Test
+    public void parseIncompleteCommit() {
+        final GitCommit commit = GitCommitTest.commit(
+            "tree 4b825dc642cb6eb9a060e54bf8d69288fbe4904b\n",
+            StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(commit.subject(), Matchers.equalTo(""));
+        MatcherAssert.assertThat(commit.time(), Matchers.equalTo(0L));
+        MatcherAssert.assertThat(
+            commit.parents(), Matchers.equalTo(Collections.emptyList())
+        );
+    }
+
+    /**
+     * Creates commit.
+     *
+     * @param content commit content
+     * @param charset content charset
+     * @return commit
+     */
+    private static GitCommit commit(final String content,
+        final Charset charset) {
+        return new GitCommit(content.getBytes(charset));
+    }
+
+}
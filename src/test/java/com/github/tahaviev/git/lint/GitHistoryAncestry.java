@@ -0,0 +1,68 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import lombok.RequiredArgsConstructor;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+
+/**
+ * Checks ancestry of {@link GitHistory} made by {@link GitCommitsExtension}.
+ */
+@RequiredArgsConstructor
+public final class GitHistoryAncestry implements Runnable {
+
+    /**
+     * Missing commit id.
+     */
+    private static final String MISSING =
+        "0123456789012345678901234567890123456789";
+
+    /**
+     * History to check.
+     */
+    private final GitHistory history;
+
+    @Override
+    public void run() {
+        final String head = this.history.revision("HEAD");
+        final String master = this.history.revision("master");
+        MatcherAssert.assertThat(
+            this.history.ancestor(master, head), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            this.history.ancestor(head, head), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            this.history.ancestor(head, master), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            this.history.ancestor(GitHistoryAncestry.MISSING, head),
+            Matchers.is(false)
+        );
+    }
+
+}
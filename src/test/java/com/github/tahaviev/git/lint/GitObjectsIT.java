@@ -0,0 +1,223 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link GitObjects} integration test.
+ */
+public final class GitObjectsIT {
+
+    /**
+     * Lines in versioned file.
+     */
+    private static final int LINES = 1000;
+
+    /**
+     * Versions of file.
+     */
+    private static final int VERSIONS = 3;
+
+    /**
+     * Can read loose objects.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void readLooseObjects(@TempDir final Path temp) throws IOException {
+        GitObjectsIT.verify(GitObjectsIT.repository(temp));
+    }
+
+    /**
+     * Can read packed objects deltified with offsets.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void readOffsetDeltas(@TempDir final Path temp) throws IOException {
+        final File directory = GitObjectsIT.repository(temp);
+        new Executions(
+            new String[][]{{"git", "gc", "--aggressive", "--quiet"}},
+            directory
+        )
+            .run();
+        GitObjectsIT.verify(directory);
+    }
+
+    /**
+     * Can read packed objects deltified with references.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void readReferenceDeltas(@TempDir final Path temp)
+        throws IOException {
+        final File directory = GitObjectsIT.repository(temp);
+        new Executions(
+            new String[][]{
+                {
+                    "git", "-c", "repack.useDeltaBaseOffset=false",
+                    "repack", "-a", "-d", "-f", "-q",
+                },
+                {"git", "prune"},
+            },
+            directory
+        )
+            .run();
+        GitObjectsIT.verify(directory);
+    }
+
+    /**
+     * Can throw exception on missing object.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void throwExceptionOnMissingObject(@TempDir final Path temp)
+        throws IOException {
+        final GitObjects objects = new GitRepository(
+            GitObjectsIT.repository(temp)
+        )
+            .objects();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> objects.get("0123456789012345678901234567890123456789")
+        );
+    }
+
+    /**
+     * Creates repository with similar file versions.
+     *
+     * @param temp temporary directory
+     * @return repository directory
+     * @throws IOException if fails
+     */
+    private static File repository(final Path temp) throws IOException {
+        final File directory = temp.toFile();
+        new Executions(
+            new String[][]{
+                {"git", "init", "--quiet"},
+                {"git", "config", "user.email", "user.email"},
+                {"git", "config", "user.name", "user.name"},
+            },
+            directory
+        )
+            .run();
+        final Path file = temp.resolve("file.txt");
+        final String lines = IntStream.range(0, GitObjectsIT.LINES)
+            .mapToObj(line -> String.format("line %d", line))
+            .collect(Collectors.joining("\n"));
+        for (int version = 0; version < GitObjectsIT.VERSIONS; ++version) {
+            Files.write(
+                file,
+                String.format("%s\nversion %d", lines, version)
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            new Executions(
+                new String[][]{
+                    {"git", "add", file.getFileName().toString()},
+                    {"git", "commit", "--quiet", "-m", String.valueOf(version)},
+                },
+                directory
+            )
+                .run();
+        }
+        return directory;
+    }
+
+    /**
+     * Verifies that all objects are read with expected ids.
+     *
+     * @param directory repository directory
+     */
+    @SneakyThrows
+    private static void verify(final File directory) {
+        final List<String> ids = new LinesFromProcess(
+            () -> GitObjectsIT.process(
+                directory,
+                "git", "cat-file", "--batch-all-objects",
+                "--batch-check=%(objectname)"
+            )
+        )
+            .get();
+        MatcherAssert.assertThat(ids, Matchers.not(Matchers.empty()));
+        final GitObjects objects = new GitRepository(directory).objects();
+        MatcherAssert.assertThat(
+            objects.contains("0123456789012345678901234567890123456789"),
+            Matchers.is(false)
+        );
+        for (final String id : ids) {
+            MatcherAssert.assertThat(objects.contains(id), Matchers.is(true));
+            final GitObject object = objects.get(id);
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(
+                String.format(
+                    "%s %d\u0000", object.type(), object.content().length
+                )
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            digest.update(object.content());
+            final StringBuilder actual = new StringBuilder();
+            for (final byte value : digest.digest()) {
+                actual.append(String.format("%02x", value));
+            }
+            MatcherAssert.assertThat(actual.toString(), Matchers.equalTo(id));
+        }
+    }
+
+    /**
+     * Starts process.
+     *
+     * @param directory working directory
+     * @param command command
+     * @return process
+     */
+    @SneakyThrows
+    private static Process process(final File directory,
+        final String... command) {
+        return Runtime.getRuntime().exec(command, null, directory);
+    }
+
+}
@@ -0,0 +1,171 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link GitRefs} test.
+ */
+public final class GitRefsTest {
+
+    /**
+     * Branch commit id.
+     */
+    private static final String BRANCH =
+        "1111111111111111111111111111111111111111";
+
+    /**
+     * Remote branch commit id.
+     */
+    private static final String REMOTE =
+        "2222222222222222222222222222222222222222";
+
+    /**
+     * Tag id.
+     */
+    private static final String TAG =
+        "3333333333333333333333333333333333333333";
+
+    /**
+     * Fetched commit id.
+     */
+    private static final String FETCHED =
+        "4444444444444444444444444444444444444444";
+
+    /**
+     * References to test.
+     */
+    private GitRefs refs;
+
+    /**
+     * Writes worktree git directory and common git directory.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @BeforeEach
+    public void setUp(@TempDir final Path temp) throws IOException {
+        final Path gitdir = Files.createDirectories(temp.resolve("worktree"));
+        final Path common = temp.resolve("common");
+        GitRefsTest.write(gitdir.resolve("HEAD"), "ref: refs/heads/master\n");
+        GitRefsTest.write(
+            gitdir.resolve("FETCH_HEAD"),
+            String.format("%s\t\tbranch 'master'\n", GitRefsTest.FETCHED)
+        );
+        GitRefsTest.write(
+            Files.createDirectories(common.resolve("refs/heads"))
+                .resolve("master"),
+            String.format("%s\n", GitRefsTest.BRANCH)
+        );
+        GitRefsTest.write(
+            common.resolve("packed-refs"),
+            String.join(
+                "\n",
+                "# pack-refs with: peeled fully-peeled sorted",
+                String.format(
+                    "%s refs/remotes/origin/master", GitRefsTest.REMOTE
+                ),
+                String.format("%s refs/tags/v1", GitRefsTest.TAG),
+                String.format("^%s", GitRefsTest.BRANCH)
+            )
+        );
+        this.refs = new GitRefs(gitdir.toFile(), common.toFile());
+    }
+
+    /**
+     * Can resolve references.
+     */
+    @Test
+    public void resolveReferences() {
+        MatcherAssert.assertThat(
+            this.refs.resolve("HEAD"), Matchers.equalTo(GitRefsTest.BRANCH)
+        );
+        MatcherAssert.assertThat(
+            this.refs.resolve("master"), Matchers.equalTo(GitRefsTest.BRANCH)
+        );
+        MatcherAssert.assertThat(
+            this.refs.resolve("origin/master"),
+            Matchers.equalTo(GitRefsTest.REMOTE)
+        );
+        MatcherAssert.assertThat(
+            this.refs.resolve("v1"), Matchers.equalTo(GitRefsTest.TAG)
+        );
+        MatcherAssert.assertThat(
+            this.refs.resolve("FETCH_HEAD"),
+            Matchers.equalTo(GitRefsTest.FETCHED)
+        );
+    }
+
+    /**
+     * Can resolve object ids.
+     */
+    @Test
+    public void resolveIds() {
+        final String id = "5555555555555555555555555555555555555555";
+        MatcherAssert.assertThat(
+            this.refs.resolve(id), Matchers.equalTo(id)
+        );
+    }
+
+    /**
+     * Can throw exception on unknown revision.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnUnknownRevision(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IOException.class, () -> this.refs.resolve("unknown")
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new GitRefs(temp.toFile(), temp.toFile()).resolve("master")
+        );
+    }
+
+    /**
+     * Writes file.
+     *
+     * @param file file path
+     * @param content file content
+     * @throws IOException if fails
+     */
+    private static void write(final Path file, final String content)
+        throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,214 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link GitRepository} test.
+ */
+public final class GitRepositoryTest {
+
+    /**
+     * Commit id.
+     */
+    private static final String ID =
+        "1111111111111111111111111111111111111111";
+
+    /**
+     * Can find git directory in parent directories.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void findGitDirectory(@TempDir final Path temp) throws IOException {
+        GitRepositoryTest.repository(temp.resolve(".git"));
+        MatcherAssert.assertThat(
+            new GitRepository(
+                Files.createDirectories(temp.resolve("module/src")).toFile()
+            )
+                .refs()
+                .resolve("HEAD"),
+            Matchers.equalTo(GitRepositoryTest.ID)
+        );
+    }
+
+    /**
+     * Can find bare repository.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void findBareRepository(@TempDir final Path temp)
+        throws IOException {
+        GitRepositoryTest.repository(temp);
+        MatcherAssert.assertThat(
+            new GitRepository(temp.toFile()).refs().resolve("HEAD"),
+            Matchers.equalTo(GitRepositoryTest.ID)
+        );
+    }
+
+    /**
+     * Can follow git file and common directory of worktree.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void followWorktree(@TempDir final Path temp) throws IOException {
+        final Path common = temp.resolve("main/.git");
+        GitRepositoryTest.repository(common);
+        final Path gitdir = Files.createDirectories(
+            common.resolve("worktrees/tree")
+        );
+        GitRepositoryTest.write(gitdir.resolve("HEAD"), "ref: refs/heads/b\n");
+        GitRepositoryTest.write(gitdir.resolve("commondir"), "../..\n");
+        GitRepositoryTest.write(
+            common.resolve("refs/heads/b"), GitRepositoryTest.ID
+        );
+        final Path tree = Files.createDirectories(temp.resolve("tree"));
+        GitRepositoryTest.write(
+            tree.resolve(".git"), "gitdir: ../main/.git/worktrees/tree\n"
+        );
+        final GitRepository repository = new GitRepository(tree.toFile());
+        MatcherAssert.assertThat(
+            repository.refs().resolve("HEAD"),
+            Matchers.equalTo(GitRepositoryTest.ID)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> repository.objects().get(GitRepositoryTest.ID)
+        );
+    }
+
+    /**
+     * Can reject invalid git file.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectInvalidGitFile(@TempDir final Path temp)
+        throws IOException {
+        GitRepositoryTest.write(temp.resolve(".git"), "invalid");
+        Assertions.assertThrows(
+            IOException.class, new GitRepository(temp.toFile())::refs
+        );
+    }
+
+    /**
+     * Can reject directory outside of repository.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectNonRepository(@TempDir final Path temp)
+        throws IOException {
+        GitRepositoryTest.write(temp.resolve("HEAD"), "not a repository");
+        final GitRepository repository = new GitRepository(
+            temp.resolve("nonexistent").toFile()
+        );
+        Assertions.assertThrows(IOException.class, repository::refs);
+        Assertions.assertThrows(IOException.class, repository::objects);
+        Assertions.assertThrows(IOException.class, repository::graph);
+        Assertions.assertThrows(IOException.class, repository::root);
+    }
+
+    /**
+     * Can ignore missing, incomplete and shallow commit-graph.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void ignoreUnusableGraph(@TempDir final Path temp)
+        throws IOException {
+        final Path gitdir = temp.resolve(".git");
+        GitRepositoryTest.repository(gitdir);
+        final GitRepository repository = new GitRepository(temp.toFile());
+        MatcherAssert.assertThat(
+            repository.graph().isPresent(), Matchers.is(false)
+        );
+        final Path graphs = Files.createDirectories(
+            gitdir.resolve("objects/info/commit-graphs")
+        );
+        GitRepositoryTest.write(
+            graphs.resolve("commit-graph-chain"),
+            String.format("%s\n", GitRepositoryTest.ID)
+        );
+        MatcherAssert.assertThat(
+            repository.graph().isPresent(), Matchers.is(false)
+        );
+        GitRepositoryTest.write(
+            gitdir.resolve("objects/info/commit-graph"), "graph"
+        );
+        GitRepositoryTest.write(gitdir.resolve("shallow"), "");
+        MatcherAssert.assertThat(
+            repository.graph().isPresent(), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Writes minimal repository.
+     *
+     * @param gitdir git directory
+     * @throws IOException if fails
+     */
+    private static void repository(final Path gitdir) throws IOException {
+        Files.createDirectories(gitdir.resolve("objects"));
+        Files.createDirectories(gitdir.resolve("refs/heads"));
+        GitRepositoryTest.write(
+            gitdir.resolve("HEAD"), "ref: refs/heads/master\n"
+        );
+        GitRepositoryTest.write(
+            gitdir.resolve("refs/heads/master"), GitRepositoryTest.ID
+        );
+    }
+
+    /**
+     * Writes file.
+     *
+     * @param file file path
+     * @param content file content
+     * @throws IOException if fails
+     */
+    private static void write(final Path file, final String content)
+        throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,255 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link GraphWalk} integration test.
+ */
+public final class GraphWalkIT {
+
+    /**
+     * Repository directory.
+     */
+    private File directory;
+
+    /**
+     * Creates repository with merges, octopus merge and parent branch merged
+     * into current one.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @BeforeEach
+    public void setUp(@TempDir final Path temp) throws IOException {
+        this.directory = temp.toFile();
+        new Executions(
+            new String[][]{
+                {"git", "init", "--quiet"},
+                {"git", "config", "user.email", "user.email"},
+                {"git", "config", "user.name", "user.name"},
+                {"git", "config", "gc.auto", "0"},
+                {"git", "checkout", "--quiet", "-b", "master"},
+            },
+            this.directory
+        )
+            .run();
+        this.commit("base");
+        this.git("checkout", "--quiet", "-b", "branch");
+        this.commit("first");
+        this.git("checkout", "--quiet", "-b", "side");
+        this.commit("side");
+        this.git("checkout", "--quiet", "branch");
+        this.commit("second");
+        this.git("merge", "--quiet", "--no-edit", "side");
+        this.git("tag", "merged");
+        this.git("checkout", "--quiet", "master");
+        this.commit("master");
+        this.git("checkout", "--quiet", "branch");
+        this.git("merge", "--quiet", "--no-edit", "master");
+        for (final String name : new String[]{"left", "right"}) {
+            this.git("checkout", "--quiet", "-b", name, "branch");
+            this.commit(name);
+        }
+        this.git("checkout", "--quiet", "branch");
+        this.git("merge", "--quiet", "--no-edit", "--no-ff", "left", "right");
+        this.commit("last");
+    }
+
+    /**
+     * Can walk same commits as git over single commit-graph file.
+     */
+    @Test
+    public void walkLikeGit() {
+        this.git("commit-graph", "write", "--reachable");
+        MatcherAssert.assertThat(
+            this.walk("master"),
+            Matchers.equalTo(Optional.of(this.log("master..HEAD")))
+        );
+        MatcherAssert.assertThat(
+            this.walk("side"),
+            Matchers.equalTo(Optional.of(this.log("side..HEAD")))
+        );
+        MatcherAssert.assertThat(
+            this.walk("merged"),
+            Matchers.equalTo(Optional.of(this.log("merged..HEAD")))
+        );
+    }
+
+    /**
+     * Can walk whole history.
+     */
+    @Test
+    public void walkWholeHistory() {
+        this.git("commit-graph", "write", "--reachable");
+        MatcherAssert.assertThat(
+            new GraphWalk(
+                new GitRepository(this.directory).graph().get(),
+                Collections.singleton(this.revision("HEAD")),
+                Collections.emptyList()
+            )
+                .get(),
+            Matchers.equalTo(Optional.of(this.log("HEAD")))
+        );
+    }
+
+    /**
+     * Can walk same commits as git over split commit-graph.
+     *
+     * @throws IOException if fails
+     */
+    @Test
+    public void walkSplitGraph() throws IOException {
+        this.git("commit-graph", "write", "--reachable", "--split");
+        this.commit("split");
+        this.git(
+            "commit-graph", "write", "--reachable", "--split=no-merge"
+        );
+        MatcherAssert.assertThat(
+            Files.readAllLines(
+                this.directory.toPath().resolve(
+                    ".git/objects/info/commit-graphs/commit-graph-chain"
+                )
+            ),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            this.walk("master"),
+            Matchers.equalTo(Optional.of(this.log("master..HEAD")))
+        );
+    }
+
+    /**
+     * Can walk nothing when excluded commit is missing in commit-graph.
+     *
+     * @throws IOException if fails
+     */
+    @Test
+    public void walkNothingFromUnknownCommit() throws IOException {
+        this.git("commit-graph", "write", "--reachable");
+        this.git("checkout", "--quiet", "master");
+        this.commit("unknown");
+        this.git("checkout", "--quiet", "branch");
+        MatcherAssert.assertThat(
+            this.walk("master"), Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    /**
+     * Can walk nothing over stale commit-graph.
+     *
+     * @throws IOException if fails
+     */
+    @Test
+    public void walkNothingOverStaleGraph() throws IOException {
+        this.git("commit-graph", "write", "--reachable");
+        this.commit("stale");
+        MatcherAssert.assertThat(
+            this.walk("master"), Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    /**
+     * Walks range from parent to {@code HEAD}.
+     *
+     * @param parent parent revision
+     * @return commit ids
+     */
+    private Optional<List<String>> walk(final String parent) {
+        final Collection<String> excluded = Collections.singleton(
+            this.revision(parent)
+        );
+        return new GraphWalk(
+            new GitRepository(this.directory).graph().get(),
+            Collections.singleton(this.revision("HEAD")),
+            excluded
+        )
+            .get();
+    }
+
+    /**
+     * Commits listed by git.
+     *
+     * @param range revision range
+     * @return commit ids
+     */
+    private List<String> log(final String range) {
+        return this.git("log", "--format=%H", "--no-merges", range);
+    }
+
+    /**
+     * Commit id of revision.
+     *
+     * @param name revision name
+     * @return commit id
+     */
+    private String revision(final String name) {
+        return this.git("rev-parse", name).get(0);
+    }
+
+    /**
+     * Commits changed file.
+     *
+     * @param name file and commit name
+     * @throws IOException if fails
+     */
+    private void commit(final String name) throws IOException {
+        Files.write(
+            this.directory.toPath().resolve(name),
+            name.getBytes(StandardCharsets.UTF_8)
+        );
+        this.git("add", name);
+        this.git("commit", "--quiet", "-m", name);
+    }
+
+    /**
+     * Executes git command.
+     *
+     * @param args command arguments
+     * @return output lines
+     */
+    private List<String> git(final String... args) {
+        final String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        return new CommandLines(command, this.directory).get();
+    }
+
+}
@@ -0,0 +1,75 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LazyLinesFromProcess} test.
+ */
+public final class LazyLinesFromProcessTest {
+
+    /**
+     * Can read lines.
+     */
+    @Test
+    public void readLines() {
+        final Collection<String> lines = Arrays.asList("first", "second");
+        final List<String> read = new ArrayList<>(lines.size());
+        new LazyLinesFromProcess(
+            () -> new FakeSucceedProcess(String.join("\n", lines))
+        )
+            .get()
+            .forEach(line -> read.add(line.toString()));
+        MatcherAssert.assertThat(read, Matchers.equalTo(lines));
+    }
+
+    /**
+     * Can start process only on iteration.
+     */
+    @Test
+    public void startProcessOnIteration() {
+        final AtomicInteger started = new AtomicInteger();
+        final Iterable<CharSequence> lines = new LazyLinesFromProcess(
+            () -> {
+                started.incrementAndGet();
+                return new FakeSucceedProcess("line");
+            }
+        )
+            .get();
+        MatcherAssert.assertThat(started.get(), Matchers.equalTo(0));
+        lines.iterator();
+        MatcherAssert.assertThat(started.get(), Matchers.equalTo(1));
+    }
+
+}
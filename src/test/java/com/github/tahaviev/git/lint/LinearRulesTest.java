@@ -0,0 +1,114 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LinearRules} test.
+ */
+public final class LinearRulesTest {
+
+    /**
+     * Repeated characters of pathological message.
+     */
+    private static final int REPEATS = 100_000;
+
+    /**
+     * Seconds to match pathological message in.
+     */
+    private static final int SECONDS = 10;
+
+    /**
+     * Patterns to compare.
+     */
+    private static final Collection<String> PATTERNS = Arrays.asList(
+        "", "a", "abc", "a|b|c", "(a|ab)(c|bcd)", "a*", "a+?", "a?", "a{2}",
+        "a{2,}", "a{1,3}", "a{0,2}?", "(ab)*", "(a*)*", "(a|)+", ".*", ".",
+        "(?s).", "(?i)abc", "(?i:a)b", "(?i)[^a]", "(?i)[a-c]x", "(?i)(?-i)a",
+        "(?is-s)a.", "(?<name>a)b", "(?:a|b)*c", "[]a]", "[^]a]", "[a-]",
+        "[-a]", "[\\d_]+", "[\\W]", "[^\\s]", "[\\-a]", "\\d\\D\\w\\W\\s\\S",
+        "\\t\\n\\x41\\u0042", "\\.\\*\\]", "\\e\\a\\f\\r", "^a$", "a$",
+        "\\Aa", "x^", "#\\d+", "[A-Z][a-z]+: .*", "(a|b)*abb", "a]}", "\\-",
+        "\\\t", "$\\n", "a$\\n", "a\\r$\\n", "\\r$\\r", "(?s)a$."
+    );
+
+    /**
+     * Messages to compare.
+     */
+    private static final Collection<String> MESSAGES = Arrays.asList(
+        "", "a", "A", "b", "c", "x", "ab", "ac", "bc", "abc", "ABC", "Ab",
+        "aa", "aaa", "aaaa", "aab", "abab", "abb", "babb", "abbcd", "abcd",
+        "\n", "a\n", "a\r\n", "a\n\n", "\r", " ", "#", "#12", "#1a",
+        "Fix: thing", "fix: x", "]", "]a", "a-", "-", "1_", "aB", "a]}",
+        ".*]", "\t\nAB", "1a_- x", "\u001b\u0007\f\r", "_", " ", "\t",
+        "\r\r", "a\r", "a\u0085", "a\u2028", "a\u2029"
+    );
+
+    /**
+     * Can match the same messages as {@link Pattern}.
+     */
+    @Test
+    public void matchAsPattern() {
+        for (final String pattern : LinearRulesTest.PATTERNS) {
+            final LinearRules rules = new LinearRules(pattern);
+            final Pattern expected = Pattern.compile(pattern);
+            for (final String message : LinearRulesTest.MESSAGES) {
+                MatcherAssert.assertThat(
+                    String.format("%s on %s", pattern, message),
+                    rules.test(message),
+                    Matchers.is(expected.matcher(message).matches())
+                );
+            }
+        }
+    }
+
+    /**
+     * Can match pathological message without backtracking.
+     */
+    @Test
+    public void matchWithoutBacktracking() {
+        final String message = IntStream.range(0, LinearRulesTest.REPEATS)
+            .mapToObj(index -> "a")
+            .collect(Collectors.joining("", "", "!"));
+        Assertions.assertTimeoutPreemptively(
+            Duration.ofSeconds(LinearRulesTest.SECONDS),
+            () -> MatcherAssert.assertThat(
+                new LinearRules("(a+)+$").test(message), Matchers.is(false)
+            )
+        );
+    }
+
+}
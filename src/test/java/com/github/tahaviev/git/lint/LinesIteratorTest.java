@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link LinesIterator} test.
+ */
+public final class LinesIteratorTest {
+
+    /**
+     * Characters of long line.
+     */
+    private static final int LONG = 20_000;
+
+    /**
+     * Can iterate over lines.
+     */
+    @Test
+    public void iterateLines() {
+        MatcherAssert.assertThat(
+            LinesIteratorTest.lines(
+                "first\nsecond\r\n\n\rthird".getBytes(StandardCharsets.UTF_8)
+            ),
+            Matchers.equalTo(Arrays.asList("first", "second", "", "\rthird"))
+        );
+    }
+
+    /**
+     * Can decode UTF-8 split between reads and lines longer than buffer.
+     */
+    @Test
+    public void decodeLongLines() {
+        final String text = String.join(
+            "", Collections.nCopies(LinesIteratorTest.LONG, "ж€")
+        );
+        MatcherAssert.assertThat(
+            LinesIteratorTest.lines(
+                String.format("%s\n%s\n", text, text)
+                    .getBytes(StandardCharsets.UTF_8)
+            ),
+            Matchers.equalTo(Arrays.asList(text, text))
+        );
+    }
+
+    /**
+     * Can replace malformed input.
+     */
+    @Test
+    public void replaceMalformedInput() {
+        MatcherAssert.assertThat(
+            LinesIteratorTest.lines(FakePackIndex.bytes("61ff0a62e2")),
+            Matchers.equalTo(Arrays.asList("a\uFFFD", "b\uFFFD"))
+        );
+    }
+
+    /**
+     * Can provide line as view until the next line.
+     */
+    @Test
+    public void provideLineView() {
+        final Iterator<CharSequence> iterator = new LinesIterator(
+            LinesIteratorTest.stream("abc\nd")
+        );
+        final CharSequence line = iterator.next();
+        MatcherAssert.assertThat(
+            line.length(), Matchers.equalTo("abc".length())
+        );
+        MatcherAssert.assertThat(line.charAt(1), Matchers.equalTo('b'));
+        MatcherAssert.assertThat(
+            line.subSequence(1, "abc".length()), Matchers.hasToString("bc")
+        );
+        MatcherAssert.assertThat(iterator.next(), Matchers.hasToString("d"));
+    }
+
+    /**
+     * Can close stream when exhausted.
+     */
+    @Test
+    public void closeExhaustedStream() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Iterator<CharSequence> iterator = new LinesIterator(
+            new ByteArrayInputStream(
+                "line\n".getBytes(StandardCharsets.UTF_8)
+            ) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            }
+        );
+        iterator.next();
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+        MatcherAssert.assertThat(closed.get(), Matchers.is(true));
+    }
+
+    /**
+     * Can throw exception when there are no more lines.
+     */
+    @Test
+    public void throwExceptionWhenExhausted() {
+        Assertions.assertThrows(
+            NoSuchElementException.class,
+            new LinesIterator(LinesIteratorTest.stream(""))::next
+        );
+    }
+
+    /**
+     * Can throw I/O exception.
+     */
+    @Test
+    public void throwIoException() {
+        Assertions.assertThrows(
+            IOException.class,
+            new LinesIterator(
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("broken stream");
+                    }
+                }
+            )::hasNext
+        );
+    }
+
+    /**
+     * Reads lines as strings.
+     *
+     * @param bytes UTF-8 bytes
+     * @return lines
+     */
+    private static List<String> lines(final byte[] bytes) {
+        final List<String> lines = new ArrayList<>(2);
+        new LinesIterator(
+            new ByteArrayInputStream(bytes) {
+                @Override
+                public synchronized int read(final byte[] buffer,
+                    final int offset, final int length) {
+                    return super.read(buffer, offset, Math.min(length, 2));
+                }
+            }
+        )
+            .forEachRemaining(line -> lines.add(line.toString()));
+        return lines;
+    }
+
+    /**
+     * Creates stream of text.
+     *
+     * @param text text
+     * @return UTF-8 stream
+     */
+    private static InputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link LintCommand} test.
+ */
+public final class LintCommandTest {
+
+    /**
+     * Can lint in place.
+     */
+    @Test
+    public void lintInPlace() {
+        MatcherAssert.assertThat(
+            LintCommandTest.run(),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * Can lint by client.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void lintByClient(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            LintCommandTest.run(
+                "client", "--port-file", temp.resolve("a.port").toString(),
+                "--idle", "1", "--pattern"
+            ),
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            LintCommandTest.run("client", "--pattern", "a"),
+            Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+            LintCommandTest.run("client"),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * Can run daemon until idle.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void runDaemon(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            LintCommandTest.run(
+                "daemon", "--idle", "1",
+                "--port-file", temp.resolve("a.port").toString()
+            ),
+            Matchers.is(0)
+        );
+    }
+
+    /**
+     * Runs command.
+     *
+     * @param args command line arguments
+     * @return exit code
+     */
+    private static int run(final String... args) {
+        return new LintCommand(
+            Arrays.asList(args), new PrintStream(new ByteArrayOutputStream())
+        )
+            .getAsInt();
+    }
+
+}
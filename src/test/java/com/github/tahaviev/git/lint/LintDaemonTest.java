@@ -0,0 +1,182 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link LintDaemon} test.
+ */
+public final class LintDaemonTest {
+
+    /**
+     * Can serve lints until idle.
+     *
+     * @param temp temporary directory
+     * @throws Exception if fails
+     */
+    @Test
+    public void serveUntilIdle(@TempDir final Path temp) throws Exception {
+        final File port = temp.resolve("git-lint.port").toFile();
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        final Thread daemon = new Thread(
+            new LintDaemon(
+                port, Duration.ofSeconds(1), new PrintStream(log, true)
+            )
+        );
+        daemon.start();
+        while (!port.isFile() || port.length() == 0) {
+            Thread.sleep(1);
+        }
+        Files.write(
+            temp.resolve("COMMIT_EDITMSG"),
+            "wrong".getBytes(StandardCharsets.UTF_8)
+        );
+        final String message = "COMMIT_EDITMSG";
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            LintDaemonTest.lint(port, output, "--pattern", "#.+", message),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            LintDaemonTest.lint(port, output, "--pattern", "(", message),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("COMMIT_EDITMSG wrong"),
+                Matchers.containsString("PatternSyntaxException")
+            )
+        );
+        daemon.join();
+        MatcherAssert.assertThat(port.exists(), Matchers.is(false));
+    }
+
+    /**
+     * Can drop request without token.
+     *
+     * @param temp temporary directory
+     * @throws Exception if fails
+     */
+    @Test
+    public void dropRequestWithoutToken(@TempDir final Path temp)
+        throws Exception {
+        final File port = temp.resolve("git-lint.port").toFile();
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+        final Thread daemon = new Thread(
+            new LintDaemon(
+                port, Duration.ofSeconds(1), new PrintStream(log, true)
+            )
+        );
+        daemon.start();
+        while (!port.isFile() || port.length() == 0) {
+            Thread.sleep(1);
+        }
+        final List<String> lines = Files.readAllLines(port.toPath());
+        final File forged = temp.resolve("forged.port").toFile();
+        Files.createFile(
+            forged.toPath(),
+            PosixFilePermissions.asFileAttribute(
+                PosixFilePermissions.fromString("rw-------")
+            )
+        );
+        Files.write(forged.toPath(), Arrays.asList(lines.get(0), "forged"));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            LintDaemonTest.lint(forged, output),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.startsWith("Daemon failed: ")
+        );
+        new Socket(
+            InetAddress.getLoopbackAddress(), Integer.parseInt(lines.get(0))
+        )
+            .close();
+        daemon.join();
+        MatcherAssert.assertThat(
+            new String(log.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.startsWith("Failed request: java.io.EOFException")
+        );
+    }
+
+    /**
+     * Can throw exception when port file can't be written.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnUnwritablePortFile(@TempDir final Path temp) {
+        final LintDaemon daemon = new LintDaemon(
+            temp.resolve("missing").resolve("git-lint.port").toFile(),
+            Duration.ofSeconds(1),
+            new PrintStream(new ByteArrayOutputStream())
+        );
+        Assertions.assertThrows(IOException.class, daemon::run);
+    }
+
+    /**
+     * Runs lint by daemon, resolving relative paths against directory of
+     * port file.
+     *
+     * @param port port file
+     * @param output output
+     * @param args lint arguments
+     * @return exit code
+     * @throws IOException if fails
+     */
+    private static int lint(final File port,
+        final ByteArrayOutputStream output, final String... args)
+        throws IOException {
+        return new DaemonClient(
+            port,
+            Arrays.asList(args),
+            new PrintStream(output, true, StandardCharsets.UTF_8.name()),
+            port.getParentFile()
+        )
+            .getAsInt();
+    }
+
+}
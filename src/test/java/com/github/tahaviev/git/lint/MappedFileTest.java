@@ -0,0 +1,165 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link MappedFile} test.
+ */
+public final class MappedFileTest {
+
+    /**
+     * Segment size.
+     */
+    private static final int SEGMENT = 3;
+
+    /**
+     * Integer at offset one.
+     */
+    private static final int INT = 0x02030405;
+
+    /**
+     * Long at offset zero.
+     */
+    private static final long LONG = 0x01020304050607ffL;
+
+    /**
+     * Can read numbers across segments.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void readNumbers(@TempDir final Path temp) throws IOException {
+        final byte[] content = FakePackIndex.bytes("01020304050607ff");
+        final MappedFile file = new MappedFile(
+            MappedFileTest.file(temp, content), MappedFileTest.SEGMENT
+        );
+        MatcherAssert.assertThat(
+            file.size(), Matchers.equalTo((long) content.length)
+        );
+        MatcherAssert.assertThat(
+            file.get(content.length - 1),
+            Matchers.equalTo(Byte.toUnsignedInt(content[content.length - 1]))
+        );
+        MatcherAssert.assertThat(
+            file.getInt(1), Matchers.equalTo(MappedFileTest.INT)
+        );
+        MatcherAssert.assertThat(
+            file.getLong(0), Matchers.equalTo(MappedFileTest.LONG)
+        );
+    }
+
+    /**
+     * Can stream content across segments.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void streamContent(@TempDir final Path temp) throws IOException {
+        final byte[] content = FakePackIndex.bytes("0102030405");
+        try (
+            InputStream input = new MappedFile(
+                MappedFileTest.file(temp, content), 2
+            )
+                .stream(1)
+        ) {
+            MatcherAssert.assertThat(input.read(), Matchers.equalTo(2));
+            final byte[] bytes = new byte[MappedFileTest.SEGMENT];
+            MatcherAssert.assertThat(
+                input.read(bytes, 0, bytes.length), Matchers.equalTo(2)
+            );
+            MatcherAssert.assertThat(
+                input.read(bytes, 2, 1), Matchers.equalTo(1)
+            );
+            MatcherAssert.assertThat(
+                bytes,
+                Matchers.equalTo(Arrays.copyOfRange(content, 2, content.length))
+            );
+            MatcherAssert.assertThat(input.read(), Matchers.equalTo(-1));
+            MatcherAssert.assertThat(
+                input.read(bytes, 0, 1), Matchers.equalTo(-1)
+            );
+        }
+    }
+
+    /**
+     * Can delete mapped file keeping its content readable.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void deleteMappedFile(@TempDir final Path temp) throws IOException {
+        final File file = MappedFileTest.file(temp, new byte[]{1, 2});
+        final MappedFile mapped = new MappedFile(
+            file, StandardOpenOption.DELETE_ON_CLOSE
+        );
+        MatcherAssert.assertThat(
+            mapped.get(1) == 2 && !file.exists(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can throw I/O exception on missing file.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnMissingFile(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new MappedFile(temp.resolve("missing").toFile())
+        );
+    }
+
+    /**
+     * Creates file with content.
+     *
+     * @param temp temporary directory
+     * @param content file content
+     * @return file
+     * @throws IOException if fails
+     */
+    private static File file(final Path temp, final byte[] content)
+        throws IOException {
+        return Files.write(temp.resolve("file"), content).toFile();
+    }
+
+}
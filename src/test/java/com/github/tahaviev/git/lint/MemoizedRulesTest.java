@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MemoizedRules} test.
+ */
+public final class MemoizedRulesTest {
+
+    /**
+     * Can match identical messages once keeping all mismatches in order.
+     */
+    @Test
+    public void matchIdenticalMessagesOnce() {
+        final AtomicInteger matches = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new Mismatches<CharSequence>(
+                () -> Arrays.asList(
+                    "bump", "#1", "bump", new StringBuilder("#1")
+                ),
+                new MemoizedRules<>(
+                    message -> matches.incrementAndGet() > 0
+                        && message.toString().startsWith("#"),
+                    ContentKey::new,
+                    2
+                )
+            )
+                .get(),
+            Matchers.contains("bump", "bump")
+        );
+        MatcherAssert.assertThat(matches.get(), Matchers.is(2));
+    }
+
+    /**
+     * Can forget least recently used message.
+     */
+    @Test
+    public void forgetLeastRecentlyUsed() {
+        final AtomicInteger matches = new AtomicInteger();
+        final MemoizedRules<String> rules = new MemoizedRules<>(
+            message -> matches.incrementAndGet() > 0,
+            ContentKey::new,
+            1
+        );
+        for (final String message : Arrays.asList("a", "a", "b", "a")) {
+            rules.test(message);
+        }
+        MatcherAssert.assertThat(matches.get(), Matchers.is(2 + 1));
+    }
+
+    /**
+     * Can remember content of reused view.
+     */
+    @Test
+    public void rememberContentOfReusedView() {
+        final AtomicInteger matches = new AtomicInteger();
+        final MemoizedRules<CharSequence> rules = new MemoizedRules<>(
+            message -> matches.incrementAndGet() > 0,
+            ContentKey::new,
+            2
+        );
+        final StringBuilder view = new StringBuilder();
+        for (final String message : Arrays.asList("a", "b", "a", "b")) {
+            view.setLength(0);
+            rules.test(view.append(message));
+        }
+        MatcherAssert.assertThat(matches.get(), Matchers.is(2));
+    }
+
+}
@@ -0,0 +1,281 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link MessageRule} test.
+ */
+public final class MessageRuleTest {
+
+    /**
+     * Message with every part.
+     */
+    private static final CommitMessage MESSAGE = new CommitMessage(
+        "id", "feat: subject\n\nbody\n\nTicket: ABC-1"
+    );
+
+    /**
+     * Can match selected part of message.
+     */
+    @Test
+    public void matchSelectedPart() {
+        MatcherAssert.assertThat(
+            new MessageRule("body", "body", "body")
+                .compile(Rules::new)
+                .apply(MessageRuleTest.MESSAGE),
+            Matchers.equalTo(Optional.empty())
+        );
+        MatcherAssert.assertThat(
+            new MessageRule("ticket", "trailers", "Ticket: [A-Z]+-\\d+")
+                .compile(Rules::new)
+                .apply(MessageRuleTest.MESSAGE),
+            Matchers.equalTo(Optional.empty())
+        );
+        MatcherAssert.assertThat(
+            new MessageRule("whole", "message", "feat: subject")
+                .compile(Rules::new)
+                .apply(MessageRuleTest.MESSAGE),
+            Matchers.equalTo(Optional.of("whole"))
+        );
+    }
+
+    /**
+     * Can report banned token found in selected part of message.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void reportBannedToken(@TempDir final Path temp)
+        throws IOException {
+        final File tokens = temp.resolve("tokens").toFile();
+        Files.write(
+            tokens.toPath(),
+            "wip\n\nabc-\n".getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            new MessageRule("banned", "trailers", null, tokens, true)
+                .compile(Rules::new)
+                .apply(MessageRuleTest.MESSAGE),
+            Matchers.equalTo(Optional.of("banned \"abc-\""))
+        );
+        MatcherAssert.assertThat(
+            new MessageRule("banned", "subject", null, tokens, false)
+                .compile(Rules::new)
+                .apply(MessageRuleTest.MESSAGE),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    /**
+     * Can apply rule to commits changing paths matching globs only.
+     */
+    @Test
+    public void applyRuleToChangedPaths() {
+        final Function<CommitMessage, Optional<String>> rule =
+            new MessageRule(
+                "ticket", "trailers", "Ticket: \\d+", null, false,
+                Collections.singletonList("db/migrations/**")
+            )
+                .compile(Rules::new);
+        MatcherAssert.assertThat(
+            rule.apply(
+                new CommitMessage(
+                    "id", "feat: add table", Arrays.asList("README.md")
+                )
+            ),
+            Matchers.equalTo(Optional.empty())
+        );
+        MatcherAssert.assertThat(
+            rule.apply(
+                new CommitMessage(
+                    "id", "feat: add table",
+                    Arrays.asList("README.md", "db/migrations/v2.sql")
+                )
+            ),
+            Matchers.equalTo(Optional.of("ticket"))
+        );
+        MatcherAssert.assertThat(
+            rule.apply(
+                new CommitMessage(
+                    "id", "feat: add table\n\nTicket: 2",
+                    Collections.singletonList("db/migrations/v2.sql")
+                )
+            ),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    /**
+     * Can match signature of message.
+     */
+    @Test
+    public void matchSignature() {
+        final MessageRule rule = new MessageRule(
+            "signed", "signature", "G (0A1B|2C3D)"
+        );
+        MatcherAssert.assertThat(rule.signed(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            rule.compile(Rules::new).apply(
+                new CommitMessage(
+                    "id", "subject", Collections.emptyList(), "G 2C3D"
+                )
+            ),
+            Matchers.equalTo(Optional.empty())
+        );
+        MatcherAssert.assertThat(
+            rule.compile(Rules::new).apply(
+                new CommitMessage(
+                    "id", "subject", Collections.emptyList(), "U 4E5F"
+                )
+            ),
+            Matchers.equalTo(Optional.of("signed"))
+        );
+    }
+
+    /**
+     * Can define rule by content of banned tokens file.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void defineRuleByTokens(@TempDir final Path temp)
+        throws IOException {
+        final File tokens = temp.resolve("tokens").toFile();
+        Files.write(tokens.toPath(), "WIP\n".getBytes(StandardCharsets.UTF_8));
+        final MessageRule rule = new MessageRule(
+            "banned", "subject", null, tokens, false
+        );
+        final String before = rule.definition();
+        Files.write(tokens.toPath(), "TODO\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            rule.definition(),
+            Matchers.allOf(
+                Matchers.startsWith(
+                    String.format("banned subject %s false ", tokens)
+                ),
+                Matchers.not(Matchers.equalTo(before))
+            )
+        );
+        MatcherAssert.assertThat(
+            new MessageRule("length", "subject", ".{1,72}").definition(),
+            Matchers.equalTo("length subject .{1,72}")
+        );
+        MatcherAssert.assertThat(
+            new MessageRule(
+                "length", "subject", ".{1,50}", null, false,
+                Collections.singletonList("*.md")
+            )
+                .definition(),
+            Matchers.equalTo("length subject .{1,50} paths [*.md]")
+        );
+    }
+
+    /**
+     * Can throw exception on missing banned tokens file.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnMissingTokens(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            NoSuchFileException.class,
+            () -> new MessageRule(
+                "banned", "subject", null, temp.resolve("absent").toFile(),
+                false
+            )
+                .compile(Rules::new)
+        );
+    }
+
+    /**
+     * Can configure rule of subject by default.
+     */
+    @Test
+    public void configureSubjectByDefault() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new MessageRule().compile(Rules::new)
+            )
+                .getMessage(),
+            Matchers.equalTo(
+                "Rule null subject null needs id and either pattern or tokens"
+            )
+        );
+    }
+
+    /**
+     * Can throw exception on rule without id, or with both pattern and
+     * tokens.
+     */
+    @Test
+    public void throwExceptionOnIncompleteRule() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MessageRule(null, "subject", ".*").compile(Rules::new)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MessageRule("id", "subject", ".*", new File("t"), false)
+                .compile(Rules::new)
+        );
+    }
+
+    /**
+     * Can throw exception on unknown part.
+     */
+    @Test
+    public void throwExceptionOnUnknownPart() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new MessageRule("id", "footer", ".*")
+                    .compile(Rules::new)
+            )
+                .getMessage(),
+            Matchers.containsString("id footer .*")
+        );
+    }
+
+}
@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.function.Predicate;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MessageRules} test.
+ */
+public final class MessageRulesTest {
+
+    /**
+     * Can apply rule to each part of message.
+     */
+    @Test
+    public void applyRulePerPart() {
+        final Predicate<CommitMessage> rules = new MessageRules(
+            new Rules("#\\d+ .*"),
+            new Rules("(?s)|.{0,72}(?:\\n.{0,72})*"),
+            new Rules("(?s).*Signed-off-by: .*")
+        );
+        MatcherAssert.assertThat(
+            rules.test(
+                new CommitMessage(
+                    "id", "#1 subject\n\nbody\n\nSigned-off-by: user"
+                )
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            rules.test(
+                new CommitMessage("id", "subject\n\nSigned-off-by: user")
+            ),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rules.test(
+                new CommitMessage(
+                    "id",
+                    String.format(
+                        "#1 subject\n\n%0100d\n\nSigned-off-by: user", 0
+                    )
+                )
+            ),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            rules.test(new CommitMessage("id", "#1 subject\n\nbody")),
+            Matchers.is(false)
+        );
+    }
+
+}
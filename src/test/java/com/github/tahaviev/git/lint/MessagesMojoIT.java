@@ -27,7 +27,15 @@ package com.github.tahaviev.git.lint;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -48,7 +56,7 @@ public final class MessagesMojoIT {
      */
     @RegisterExtension
     public static final Extension EXTENSION = new GitCommitsExtension(
-        new String[]{"#123", "#test"}
+        new String[]{"#123", "#test", "#124\n\nlong body\n\nTicket: 1"}
     );
 
     /**
@@ -66,6 +74,8 @@ public final class MessagesMojoIT {
         this.mojo = new MessagesMojo();
         this.mojo.setDirectory(directory);
         this.mojo.setParent("master");
+        this.mojo.setEngine("java");
+        this.mojo.setReader("process");
     }
 
     /**
@@ -79,9 +89,11 @@ public final class MessagesMojoIT {
 
     /**
      * Can reject commits with wrong messages.
+     *
+     * @throws MojoExecutionException if fails
      */
     @Test
-    public void rejectWrongCommits() {
+    public void rejectWrongCommits() throws MojoExecutionException {
         this.mojo.setPattern("#(\\d)+");
         try {
             this.mojo.execute();
@@ -99,6 +111,786 @@ public final class MessagesMojoIT {
         }
     }
 
+    /**
+     * Can reject wrong commits read from git objects.
+     */
+    @Test
+    public void rejectWrongCommitsFromObjects() {
+        this.mojo.setPattern("#(\\d)+");
+        this.mojo.setReader("objects");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("#test"),
+                Matchers.not(Matchers.containsString("#123"))
+            )
+        );
+    }
+
+    /**
+     * Can reject commits with wrong message bodies.
+     */
+    @Test
+    public void rejectWrongBodies() {
+        this.mojo.setPattern(".*");
+        this.mojo.setBodyPattern("|\\w+");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.endsWith(" #124"),
+                Matchers.not(Matchers.containsString("#123"))
+            )
+        );
+    }
+
+    /**
+     * Can reject commits without trailers in parallel.
+     */
+    @Test
+    public void rejectMissingTrailersInParallel() {
+        this.mojo.setPattern(".*");
+        this.mojo.setTrailersPattern("(?s).*Ticket: .*");
+        this.mojo.setThreads(2);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString(" #123"),
+                Matchers.containsString(" #test"),
+                Matchers.not(Matchers.containsString("#124"))
+            )
+        );
+    }
+
+    /**
+     * Can reject wrong commits matched in parallel.
+     */
+    @Test
+    public void rejectWrongCommitsInParallel() {
+        this.mojo.setPattern("#(\\d)+");
+        this.mojo.setThreads(2);
+        this.mojo.setTimeout(1);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("#test"),
+                Matchers.not(Matchers.containsString("#123"))
+            )
+        );
+    }
+
+    /**
+     * Can reject wrong commits spilled to temporary file.
+     */
+    @Test
+    public void rejectWrongSpilledCommits() {
+        this.mojo.setPattern("#[0-9]+");
+        this.mojo.setReader("spill");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("#test"),
+                Matchers.not(Matchers.containsString("#123"))
+            )
+        );
+    }
+
+    /**
+     * Can report failures of several repositories grouped by repository.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void rejectWrongCommitsOfRepositories(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        final File missing = temp.resolve("missing").toFile();
+        this.mojo.setDirectories(Arrays.asList(directory, missing));
+        this.mojo.setPattern("#[0-9]+");
+        this.mojo.setJobs(2);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.startsWith(
+                    "Commit messages are not matched in 2 of 2 repositories"
+                ),
+                Matchers.containsString(
+                    String.format("Repository %s:", directory)
+                ),
+                Matchers.containsString(
+                    String.format("Repository %s:", missing)
+                ),
+                Matchers.containsString("#test")
+            )
+        );
+    }
+
+    /**
+     * Can lint submodules with watermark per repository.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void acceptCommitsOfSubmodules(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) throws IOException {
+        this.mojo.setDirectory(SubmodulesIT.superproject(directory, temp));
+        this.mojo.setSubmodules(true);
+        this.mojo.setJobs(1);
+        this.mojo.setParent("HEAD");
+        this.mojo.setPattern("#.+");
+        this.mojo.setIncremental(true);
+        final Path marks = temp.resolve("marks");
+        this.mojo.setWatermark(marks.resolve("git-lint.properties").toFile());
+        Assertions.assertDoesNotThrow(this.mojo::execute);
+        try (Stream<Path> files = Files.list(marks)) {
+            MatcherAssert.assertThat(files.count(), Matchers.is(2L));
+        }
+    }
+
+    /**
+     * Can reject wrong commits keeping their verdicts in git directory.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void rejectWrongCommitsWithVerdicts(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        this.mojo.setPattern("#[0-9]{3}");
+        this.mojo.setVerdicts(true);
+        this.mojo.setVerdictSlots(2);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString("#test")
+        );
+        MatcherAssert.assertThat(
+            new File(new File(directory, ".git"), "git-lint-verdicts").length(),
+            Matchers.greaterThan(0L)
+        );
+    }
+
+    /**
+     * Can reject unsigned commits keeping no verdicts of signatures.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void rejectUnsignedCommitsWithoutVerdicts(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule("signed", "signature", "G [0-9A-F]+")
+            )
+        );
+        this.mojo.setVerdicts(true);
+        this.mojo.setVerdictSlots(2);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString(" [signed]")
+        );
+        MatcherAssert.assertThat(
+            new File(new File(directory, ".git"), "git-lint-verdicts")
+                .exists(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Can reject wrong commits keeping only their passed verdicts when
+     * matching has time budget.
+     */
+    @Test
+    public void rejectWrongCommitsWithVerdictsInTime() {
+        this.mojo.setPattern("#[0-9]{2}");
+        this.mojo.setVerdicts(true);
+        this.mojo.setVerdictSlots(2);
+        this.mojo.setTimeout(TimeUnit.MINUTES.toMillis(1));
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString("#test")
+        );
+    }
+
+    /**
+     * Can throw exception on foreign verdicts file.
+     *
+     * @param directory git repository directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void throwExceptionOnForeignVerdicts(
+        @GitCommitsExtension.Directory final File directory
+    ) throws IOException {
+        final Path verdicts = directory.toPath()
+            .resolve(".git")
+            .resolve("git-lint-verdicts");
+        Files.write(verdicts, "foreign".getBytes(StandardCharsets.UTF_8));
+        this.mojo.setPattern("#[0-9]{1,3}");
+        this.mojo.setVerdicts(true);
+        this.mojo.setVerdictSlots(2);
+        try {
+            Assertions.assertThrows(IOException.class, this.mojo::execute);
+        } finally {
+            Files.delete(verdicts);
+        }
+    }
+
+    /**
+     * Can reject wrong commits remembering verdicts of distinct messages.
+     */
+    @Test
+    public void rejectWrongCommitsWithMemo() {
+        this.mojo.setMemo(2);
+        this.mojo.setPattern("#[0-9]{2,}");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString("#test")
+        );
+        this.mojo.setBodyPattern("(?s).*");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString("#test")
+        );
+    }
+
+    /**
+     * Can report the first violated rule of each commit.
+     */
+    @Test
+    public void rejectWrongCommitsWithRules() {
+        this.mojo.setRules(
+            Arrays.asList(
+                new MessageRule("ticket", "message", "(?s).*Ticket: \\d+.*"),
+                new MessageRule("number", "subject", "#\\d+")
+            )
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.startsWith(
+                    "Commit messages are not matches with rules [ticket,"
+                ),
+                Matchers.containsString(" #123 [ticket]"),
+                Matchers.containsString(" #test [ticket]"),
+                Matchers.not(Matchers.containsString("#124"))
+            )
+        );
+    }
+
+    /**
+     * Can report every violated rule of each commit, patterns included.
+     */
+    @Test
+    public void rejectWrongCommitsWithFullReport() {
+        this.mojo.setPattern("#\\d{3}");
+        this.mojo.setBodyPattern("(?s).*");
+        this.mojo.setTrailersPattern("|Ticket: \\d");
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule("ticket", "trailers", "Ticket: \\d")
+            )
+        );
+        this.mojo.setFullReport(true);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "[pattern, bodyPattern, trailersPattern, ticket]"
+                ),
+                Matchers.containsString(" #123 [ticket]"),
+                Matchers.containsString(" #test [pattern, ticket]"),
+                Matchers.not(Matchers.containsString("#124"))
+            )
+        );
+    }
+
+    /**
+     * Can reject commits with banned tokens.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectBannedTokens(@TempDir final Path temp)
+        throws IOException {
+        final File tokens = temp.resolve("banned").toFile();
+        Files.write(
+            tokens.toPath(), "WIP\nTEST\n".getBytes(StandardCharsets.UTF_8)
+        );
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule("banned", "message", null, tokens, true)
+            )
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString(" #test [banned \"TEST\"]"),
+                Matchers.not(Matchers.containsString("#123")),
+                Matchers.not(Matchers.containsString("#124"))
+            )
+        );
+    }
+
+    /**
+     * Can apply rules to commits changing paths matching globs only.
+     */
+    @Test
+    public void rejectWrongCommitsChangingPaths() {
+        this.mojo.setRules(
+            Arrays.asList(
+                new MessageRule(
+                    "text", "subject", "#\\d\\d\\d", null, false,
+                    Collections.singletonList("**/*.txt")
+                ),
+                new MessageRule(
+                    "migrations", "subject", "never", null, false,
+                    Collections.singletonList("db/migrations/**")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString(" #test [text]"),
+                Matchers.not(Matchers.containsString("#123")),
+                Matchers.not(Matchers.containsString("[migrations]"))
+            )
+        );
+    }
+
+    /**
+     * Can reject unsigned commits, reading signatures with messages or
+     * verifying them separately.
+     */
+    @Test
+    public void rejectUnsignedCommits() {
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule("signed", "signature", "G [0-9A-F]+")
+            )
+        );
+        for (final String read : new String[]{"process", "objects"}) {
+            this.mojo.setReader(read);
+            MatcherAssert.assertThat(
+                Assertions.assertThrows(
+                    MojoFailureException.class, this.mojo::execute
+                )
+                    .getMessage(),
+                Matchers.allOf(
+                    Matchers.containsString(" #123 [signed]"),
+                    Matchers.containsString(" #test [signed]"),
+                    Matchers.containsString(" #124 [signed]")
+                )
+            );
+        }
+    }
+
+    /**
+     * Can apply rules scoped by paths to commits with the same message but
+     * different changed paths.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectSameMessageChangingPaths(@TempDir final Path temp)
+        throws IOException {
+        final File directory = temp.toFile();
+        MessagesMojoIT.repository(directory);
+        Files.createDirectory(temp.resolve("db"));
+        Files.write(temp.resolve("db/table.sql"), new byte[]{1});
+        Files.write(temp.resolve("readme.txt"), new byte[]{1});
+        new Executions(
+            new String[][]{
+                {"git", "add", "db/table.sql"},
+                {"git", "commit", "-m", "same"},
+                {"git", "add", "readme.txt"},
+                {"git", "commit", "-m", "same"}
+            },
+            directory
+        )
+            .run();
+        this.mojo.setDirectory(directory);
+        this.mojo.setMemo(2);
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule(
+                    "scoped", "subject", "#\\d+", null, false,
+                    Collections.singletonList("db/**")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString(" same [scoped]")
+        );
+    }
+
+    /**
+     * Can reject unsigned commit sharing text with signed one when memoized.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectSameMessageWithoutSignature(@TempDir final Path temp)
+        throws IOException {
+        final File directory = temp.toFile();
+        MessagesMojoIT.repository(directory);
+        final Path key = temp.resolve("key");
+        new Executions(
+            new String[][]{
+                {"ssh-keygen", "-q", "-t", "ed25519", "-N", "", "-f", "key"},
+            },
+            directory
+        )
+            .run();
+        Files.write(
+            temp.resolve("signers"),
+            "user@example.com ".concat(
+                new String(
+                    Files.readAllBytes(temp.resolve("key.pub")),
+                    StandardCharsets.UTF_8
+                )
+            )
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        new Executions(
+            new String[][]{
+                {"git", "config", "gpg.format", "ssh"},
+                {"git", "config", "user.signingkey", key.toString()},
+                {
+                    "git", "config", "gpg.ssh.allowedSignersFile",
+                    temp.resolve("signers").toString(),
+                },
+                {"git", "commit", "--allow-empty", "-m", "same"},
+                {"git", "commit", "--allow-empty", "-S", "-m", "same"},
+            },
+            directory
+        )
+            .run();
+        this.mojo.setDirectory(directory);
+        this.mojo.setMemo(2);
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule("signed", "signature", "G .*")
+            )
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString(" same [signed]")
+        );
+    }
+
+    /**
+     * Can fail without pattern and rules.
+     */
+    @Test
+    public void failWithoutPatternOrRules() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.equalTo("Either pattern or rules are required")
+        );
+    }
+
+    /**
+     * Can fail with objects reader and rules scoped by paths.
+     */
+    @Test
+    public void failWithObjectsReaderAndScopedRules() {
+        this.mojo.setReader("objects");
+        this.mojo.setRules(
+            Collections.singletonList(
+                new MessageRule(
+                    "scoped", "subject", "#\\d+", null, false,
+                    Collections.singletonList("db/**")
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoExecutionException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("reader"),
+                Matchers.containsString("rules")
+            )
+        );
+    }
+
+    /**
+     * Can fail with unknown engine or reader.
+     */
+    @Test
+    public void failWithUnknownEngineOrReader() {
+        this.mojo.setPattern("#.+");
+        this.mojo.setEngine("fast");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoExecutionException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString("engine")
+        );
+        this.mojo.setEngine("linear");
+        this.mojo.setReader("mapped");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoExecutionException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.containsString("reader")
+        );
+    }
+
+    /**
+     * Can fail with verdicts table without slots.
+     */
+    @Test
+    public void failWithoutVerdictSlots() {
+        this.mojo.setPattern("#.+");
+        this.mojo.setVerdicts(true);
+        for (final int slots : new int[] {0, VerdictTable.LIMIT + 1}) {
+            this.mojo.setVerdictSlots(slots);
+            MatcherAssert.assertThat(
+                Assertions.assertThrows(
+                    MojoExecutionException.class, this.mojo::execute
+                )
+                    .getMessage(),
+                Matchers.containsString("verdictSlots")
+            );
+        }
+    }
+
+    /**
+     * Can fail clearly when merge base is missing in shallow clone.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void failOnShallowCloneWithoutMergeBase(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        this.mojo.setDirectory(ShallowCloneIT.clone(directory, temp));
+        this.mojo.setParent("origin/master");
+        this.mojo.setPattern("#.+");
+        this.mojo.setRemote("origin");
+        this.mojo.setDeepen(1);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.startsWith(
+                "Merge base of HEAD and origin/master is missing in shallow"
+            )
+        );
+    }
+
+    /**
+     * Can reject wrong commits matched by linear engine.
+     */
+    @Test
+    public void rejectWrongCommitsWithLinearEngine() {
+        this.mojo.setPattern("#\\d{3}");
+        this.mojo.setEngine("linear");
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                MojoFailureException.class, this.mojo::execute
+            )
+                .getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("#test"),
+                Matchers.not(Matchers.containsString("#123"))
+            )
+        );
+    }
+
+    /**
+     * Can reject pattern unsupported by linear engine before linting.
+     */
+    @Test
+    public void rejectPatternUnsupportedByLinearEngine() {
+        this.mojo.setPattern("(#)\\1");
+        this.mojo.setEngine("linear");
+        Assertions.assertThrows(
+            PatternSyntaxException.class, this.mojo::execute
+        );
+    }
+
+    /**
+     * Can write metrics of the run.
+     *
+     * @param temp temporary directory
+     * @throws Exception if fails
+     */
+    @Test
+    public void writeMetrics(@TempDir final Path temp) throws Exception {
+        final File metrics = temp.resolve("metrics.json").toFile();
+        this.mojo.setPattern("#\\w+");
+        this.mojo.setMetrics(metrics);
+        this.mojo.execute();
+        MatcherAssert.assertThat(
+            new String(
+                Files.readAllBytes(metrics.toPath()), StandardCharsets.UTF_8
+            ),
+            Matchers.allOf(
+                Matchers.containsString("\"commits\": 3,"),
+                Matchers.containsString("\"process.count\": "),
+                Matchers.containsString("\"wall.nanos\": ")
+            )
+        );
+    }
+
+    /**
+     * Can reuse result of module sharing repository, range and pattern.
+     *
+     * @param directory git repository directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void reuseResultOfAnotherModule(
+        @GitCommitsExtension.Directory final File directory
+    ) throws IOException {
+        this.mojo.setPattern("#(\\d)+");
+        final File module = new File(directory, "module");
+        MatcherAssert.assertThat(module.mkdir(), Matchers.is(true));
+        final MessagesMojo another = new MessagesMojo();
+        another.setDirectory(module);
+        another.setParent("master");
+        another.setPattern("#(\\d)+");
+        another.setEngine("java");
+        another.setReader("process");
+        try {
+            MatcherAssert.assertThat(
+                Assertions.assertThrows(
+                    MojoFailureException.class, another::execute
+                )
+                    .getMessage(),
+                Matchers.equalTo(
+                    Assertions.assertThrows(
+                        MojoFailureException.class, this.mojo::execute
+                    )
+                        .getMessage()
+                )
+            );
+        } finally {
+            Files.delete(module.toPath());
+        }
+    }
+
+    /**
+     * Can skip commits linted by previous run.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void skipLintedCommits(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        this.watermarked(directory, temp);
+        Assertions.assertDoesNotThrow(this.mojo::execute);
+    }
+
+    /**
+     * Can lint whole range again after change of time budget.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void relintAfterTimeoutChange(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        this.watermarked(directory, temp);
+        this.mojo.setTimeout(TimeUnit.MINUTES.toMillis(1));
+        Assertions.assertThrows(MojoFailureException.class, this.mojo::execute);
+    }
+
+    /**
+     * Can lint whole range again after change of pattern.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void relintAfterPatternChange(@TempDir final Path temp) {
+        final File file = temp.resolve("watermark.properties").toFile();
+        this.mojo.setIncremental(true);
+        this.mojo.setWatermark(file);
+        this.mojo.setPattern("#.+");
+        Assertions.assertDoesNotThrow(this.mojo::execute);
+        MatcherAssert.assertThat(file.isFile(), Matchers.is(true));
+        this.mojo.setPattern("#(\\d)+");
+        Assertions.assertThrows(MojoFailureException.class, this.mojo::execute);
+    }
+
     /**
      * Can throw exception on invalid input.
      *
@@ -107,10 +899,55 @@ public final class MessagesMojoIT {
     @Test
     public void throwExceptionOnInvalidInput(@TempDir final Path temp) {
         this.mojo.setDirectory(temp.resolve("nonexistent").toFile());
+        this.mojo.setPattern("#.+");
         Assertions.assertThrows(
             IOException.class,
             this.mojo::execute
         );
     }
 
+    /**
+     * Initializes git repository with commit on master and branch checked
+     * out.
+     *
+     * @param directory git repository directory
+     * @throws IOException if fails
+     */
+    private static void repository(final File directory) throws IOException {
+        Files.write(directory.toPath().resolve("base.txt"), new byte[]{0});
+        new Executions(
+            new String[][]{
+                {"git", "init"},
+                {"git", "config", "user.email", "user@example.com"},
+                {"git", "config", "user.name", "user"},
+                {"git", "symbolic-ref", "HEAD", "refs/heads/master"},
+                {"git", "add", "base.txt"},
+                {"git", "commit", "-m", "base"},
+                {"git", "checkout", "-b", "branch"}
+            },
+            directory
+        )
+            .run();
+    }
+
+    /**
+     * Sets up incremental lint with watermark of {@code HEAD} linted by
+     * subject pattern of numbers with {@code java} engine and no time budget.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    private void watermarked(final File directory, final Path temp) {
+        final File file = temp.resolve("watermark.properties").toFile();
+        final GitHistory history = new ProcessHistory(directory);
+        new Watermark(
+            file, history, String.join("\n", "#(\\d)+", "java", "0")
+        )
+            .save(history.revision("HEAD"), history.revision("master"));
+        this.mojo.setPattern("#(\\d)+");
+        this.mojo.setEngine("java");
+        this.mojo.setIncremental(true);
+        this.mojo.setWatermark(file);
+    }
+
 }
@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MeteredProcess} test.
+ */
+public final class MeteredProcessTest {
+
+    /**
+     * Can count bytes read from output.
+     *
+     * @throws IOException if fails
+     */
+    @Test
+    public void countBytesRead() throws IOException {
+        final Metrics metrics = new Metrics();
+        try (
+            InputStream input = new MeteredProcess(
+                new FakeSucceedProcess("ab"), metrics
+            )
+                .getInputStream()
+        ) {
+            final byte[] bytes = new byte[2];
+            while (input.read(bytes) >= 0) {
+                input.read();
+            }
+            input.read();
+        }
+        MatcherAssert.assertThat(
+            metrics.get("process.read.bytes"), Matchers.is(2L)
+        );
+    }
+
+    /**
+     * Can delegate to origin process.
+     *
+     * @throws Exception if fails
+     */
+    @Test
+    public void delegateToOrigin() throws Exception {
+        final Process process = new MeteredProcess(
+            new FakeFailedProcess(""), new Metrics()
+        );
+        process.destroy();
+        MatcherAssert.assertThat(
+            process.getOutputStream(), Matchers.notNullValue()
+        );
+        MatcherAssert.assertThat(
+            process.getErrorStream(), Matchers.notNullValue()
+        );
+        MatcherAssert.assertThat(
+            process.exitValue() + process.waitFor(), Matchers.equalTo(2)
+        );
+    }
+
+}
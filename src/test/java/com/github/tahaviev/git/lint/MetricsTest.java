@@ -0,0 +1,108 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link Metrics} test.
+ */
+public final class MetricsTest {
+
+    /**
+     * Can sum and raise measurements.
+     */
+    @Test
+    public void measure() {
+        final Metrics metrics = new Metrics();
+        metrics.add("bytes", 1);
+        metrics.add("bytes", 1);
+        metrics.max("peak", 2);
+        metrics.max("peak", 1);
+        MatcherAssert.assertThat(
+            metrics.toString(), Matchers.is("bytes=2, peak=2")
+        );
+    }
+
+    /**
+     * Can provide zero for missing measurement.
+     */
+    @Test
+    public void provideZeroForMissing() {
+        MatcherAssert.assertThat(
+            new Metrics().get("missing"), Matchers.is(0L)
+        );
+    }
+
+    /**
+     * Can write measurements as JSON.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void writeJson(@TempDir final Path temp) throws IOException {
+        final Metrics metrics = new Metrics();
+        metrics.add("b", 1);
+        metrics.add("a", 2);
+        final File file = temp.resolve("target/metrics.json").toFile();
+        metrics.save(file);
+        MatcherAssert.assertThat(
+            new String(
+                Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8
+            ),
+            Matchers.is(
+                String.format("{%n  \"a\": 2,%n  \"b\": 1%n}%n")
+            )
+        );
+    }
+
+    /**
+     * Can throw exception when file can't be written.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void throwExceptionOnUnwritableFile(@TempDir final Path temp)
+        throws IOException {
+        final Path parent = Files.createFile(temp.resolve("file"));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Metrics().save(parent.resolve("metrics.json").toFile())
+        );
+    }
+
+}
@@ -45,13 +45,29 @@ public final class MismatchesTest {
         final Collection<String> numbers = Arrays.asList("123", "456");
         final Collection<String> words = Arrays.asList("first", "second");
         MatcherAssert.assertThat(
-            new Mismatches(
+            new Mismatches<>(
                 () -> Stream.concat(numbers.stream(), words.stream())::iterator,
-                "(\\d)+"
+                new Rules("(\\d)+")
             )
                 .get(),
             Matchers.equalTo(words)
         );
     }
 
+    /**
+     * Can report mismatches.
+     */
+    @Test
+    public void reportMismatches() {
+        MatcherAssert.assertThat(
+            new Mismatches<>(
+                () -> Arrays.asList("123", "first"),
+                new Rules("(\\d)+"),
+                line -> String.format("%s [digits]", line)
+            )
+                .get(),
+            Matchers.contains("first [digits]")
+        );
+    }
+
 }
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.regex.PatternSyntaxException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link NfaProgram} test.
+ */
+public final class NfaProgramTest {
+
+    /**
+     * Instructions over size limit.
+     */
+    private static final int INSTRUCTIONS = 100_001;
+
+    /**
+     * Can match by following all alternatives.
+     */
+    @Test
+    public void matchAlternatives() {
+        final NfaProgram program = new NfaProgram("a*b");
+        final int split = program.split();
+        program.consume(new CharRanges('a', 'a'));
+        program.patch(program.jump(), split, -1);
+        program.patch(split, split + 1, program.size());
+        program.consume(new CharRanges('b', 'b'));
+        program.match();
+        MatcherAssert.assertThat(
+            program.matches("aaab") && program.matches("b")
+                && !program.matches("aaa") && !program.matches("bb"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can assert beginning and end of input.
+     */
+    @Test
+    public void assertBounds() {
+        final NfaProgram program = new NfaProgram("^a$\\s*");
+        program.begin();
+        program.consume(new CharRanges('a', 'a'));
+        program.end();
+        final int split = program.split();
+        program.consume(new CharRanges('\n', '\r'));
+        program.patch(program.jump(), split, -1);
+        program.patch(split, split + 1, program.size());
+        program.match();
+        MatcherAssert.assertThat(
+            program.matches("a") && program.matches("a\n")
+                && program.matches("a\r\n") && !program.matches("a\n\n")
+                && !program.matches("a\r\r"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can not assert end between carriage return and line feed.
+     */
+    @Test
+    public void notSplitLineTerminator() {
+        final NfaProgram program = new NfaProgram("a\\r$\\n");
+        program.consume(new CharRanges('a', 'a'));
+        program.consume(new CharRanges('\r', '\r'));
+        program.end();
+        program.consume(new CharRanges('\n', '\n'));
+        program.match();
+        MatcherAssert.assertThat(
+            program.matches("a\r\n"), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Can not assert beginning after it.
+     */
+    @Test
+    public void notBeginInside() {
+        final NfaProgram program = new NfaProgram("a^");
+        program.consume(new CharRanges('a', 'a'));
+        program.begin();
+        program.match();
+        MatcherAssert.assertThat(program.matches("a"), Matchers.is(false));
+    }
+
+    /**
+     * Can reject too large program.
+     */
+    @Test
+    public void rejectTooLargeProgram() {
+        final NfaProgram program = new NfaProgram("a{100001}");
+        Assertions.assertThrows(
+            PatternSyntaxException.class,
+            () -> {
+                for (int index = 0; index < NfaProgramTest.INSTRUCTIONS;
+                    ++index) {
+                    program.consume(new CharRanges('a', 'a'));
+                }
+            }
+        );
+    }
+
+}
@@ -0,0 +1,228 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * {@link ObjectsHistory} integration test.
+ */
+public final class ObjectsHistoryIT {
+
+    /**
+     * {@link GitCommitsExtension} extension.
+     */
+    @RegisterExtension
+    public static final Extension EXTENSION = new GitCommitsExtension(
+        new String[]{"1", "2\n\nbody", "3"}
+    );
+
+    /**
+     * Can extract same commit messages as git.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void extractCommitMessages(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        final GitHistory history = new ObjectsHistory(directory);
+        final List<String> messages = new ArrayList<>(0);
+        history.messages(
+            history.revision("HEAD"),
+            Collections.singletonList(history.revision("master"))
+        )
+            .get()
+            .forEach(message -> messages.add(message.toString()));
+        MatcherAssert.assertThat(
+            messages,
+            Matchers.equalTo(
+                new LinesFromProcess(
+                    new CommitMessagesProcess(directory, "master")
+                )
+                    .get()
+            )
+        );
+    }
+
+    /**
+     * Can extract same commit messages as git over commit-graph.
+     *
+     * @param directory git repository directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void extractCommitMessagesOverGraph(
+        @GitCommitsExtension.Directory final File directory
+    ) throws IOException {
+        new Executions(
+            new String[][]{{"git", "commit-graph", "write", "--reachable"}},
+            directory
+        )
+            .run();
+        try {
+            this.extractCommitMessages(directory);
+        } finally {
+            Files.delete(
+                directory.toPath().resolve(".git/objects/info/commit-graph")
+            );
+        }
+    }
+
+    /**
+     * Can extract same full commit messages as git.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void extractFullMessages(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        MatcherAssert.assertThat(
+            ObjectsHistoryIT.bodies(new ObjectsHistory(directory)),
+            Matchers.allOf(
+                Matchers.equalTo(
+                    ObjectsHistoryIT.bodies(new ProcessHistory(directory))
+                ),
+                Matchers.hasItem(Matchers.endsWith(" 2|body"))
+            )
+        );
+    }
+
+    /**
+     * Can extract same signatures as git.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void extractSignatures(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        MatcherAssert.assertThat(
+            ObjectsHistoryIT.signatures(new ObjectsHistory(directory)),
+            Matchers.allOf(
+                Matchers.equalTo(
+                    ObjectsHistoryIT.signatures(new ProcessHistory(directory))
+                ),
+                Matchers.hasItem(Matchers.endsWith(" 2|N "))
+            )
+        );
+    }
+
+    /**
+     * Can read full messages without changed paths, which are not read from
+     * objects.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void readMessagesWithoutChanges(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        final GitHistory history = new ObjectsHistory(directory);
+        MatcherAssert.assertThat(
+            history
+                .fullMessages(
+                    history.revision("HEAD"), Collections.emptyList(), true,
+                    false
+                )
+                .get()
+                .iterator()
+                .next()
+                .paths(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Can check ancestry like git.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void checkAncestry(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        new GitHistoryAncestry(new ObjectsHistory(directory)).run();
+    }
+
+    /**
+     * Full messages since master with their signatures.
+     *
+     * @param history git history
+     * @return commit ids and subjects with signatures
+     */
+    private static List<String> signatures(final GitHistory history) {
+        final List<String> messages = new ArrayList<>(0);
+        history.fullMessages(
+            history.revision("HEAD"),
+            Collections.singletonList(history.revision("master")),
+            false,
+            true
+        )
+            .get()
+            .forEach(
+                message -> messages.add(
+                    String.format("%s|%s", message, message.signature())
+                )
+            );
+        return messages;
+    }
+
+    /**
+     * Full messages since master with their bodies.
+     *
+     * @param history git history
+     * @return commit ids and subjects with bodies
+     */
+    private static List<String> bodies(final GitHistory history) {
+        final List<String> messages = new ArrayList<>(0);
+        history.fullMessages(
+            history.revision("HEAD"),
+            Collections.singletonList(history.revision("master")),
+            false,
+            false
+        )
+            .get()
+            .forEach(
+                message -> messages.add(
+                    String.format("%s|%s", message, message.body())
+                )
+            );
+        return messages;
+    }
+
+}
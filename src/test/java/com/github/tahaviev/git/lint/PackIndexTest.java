@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link PackIndex} test.
+ */
+public final class PackIndexTest {
+
+    /**
+     * Large pack offset.
+     */
+    private static final long LARGE = 3_000_000_000L;
+
+    /**
+     * Object id length.
+     */
+    private static final int LENGTH = 40;
+
+    /**
+     * Index header size.
+     */
+    private static final int HEADER = 1032;
+
+    /**
+     * Can find object offsets.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void findOffsets(@TempDir final Path temp) {
+        final SortedMap<String, Long> offsets = new TreeMap<>();
+        offsets.put(PackIndexTest.id("00"), 0L);
+        offsets.put(PackIndexTest.id("ab00"), 1L);
+        offsets.put(PackIndexTest.id("ab11"), PackIndexTest.LARGE);
+        offsets.put(PackIndexTest.id("ab22"), 2L);
+        final PackIndex index = new PackIndex(
+            new MappedFile(new FakePackIndex(offsets).write(temp.resolve("i")))
+        );
+        for (final String id : offsets.keySet()) {
+            MatcherAssert.assertThat(
+                index.offset(FakePackIndex.bytes(id)),
+                Matchers.equalTo(offsets.get(id))
+            );
+        }
+        MatcherAssert.assertThat(
+            index.offset(FakePackIndex.bytes(PackIndexTest.id("ab12"))),
+            Matchers.equalTo(-1L)
+        );
+    }
+
+    /**
+     * Can reject unsupported indexes.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectUnsupported(@TempDir final Path temp)
+        throws IOException {
+        final byte[] version = new byte[PackIndexTest.HEADER];
+        version[0] = -1;
+        version[1] = 't';
+        version[2] = 'O';
+        version[Integer.BYTES - 1] = 'c';
+        version[Integer.BYTES * 2 - 1] = 1;
+        for (final byte[] content : new byte[][]{
+            new byte[]{-1, 't', 'O', 'c', 0, 0, 0, 2},
+            new byte[PackIndexTest.HEADER],
+            version,
+        }) {
+            final Path file = Files.write(temp.resolve("index"), content);
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new PackIndex(new MappedFile(file.toFile()))
+            );
+        }
+    }
+
+    /**
+     * Object id with provided prefix.
+     *
+     * @param prefix hexadecimal prefix
+     * @return hexadecimal object id
+     */
+    private static String id(final String prefix) {
+        final StringBuilder result = new StringBuilder(prefix);
+        while (result.length() < PackIndexTest.LENGTH) {
+            result.append('0');
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,298 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link Pack} test.
+ */
+public final class PackTest {
+
+    /**
+     * Blob content.
+     */
+    private static final String BLOB = "hello world, this is blob";
+
+    /**
+     * Gap between entries, long enough for multi byte delta offsets.
+     */
+    private static final int GAP = 150;
+
+    /**
+     * Object id length.
+     */
+    private static final int ID = 20;
+
+    /**
+     * Number of pack entries.
+     */
+    private static final int ENTRIES = 4;
+
+    /**
+     * Offset delta distance bits per byte.
+     */
+    private static final int BITS = 7;
+
+    /**
+     * Offset delta distance continuation flag.
+     */
+    private static final int MORE = 0x80;
+
+    /**
+     * Offset delta distance mask.
+     */
+    private static final int VALUE = 0x7f;
+
+    /**
+     * Blob id.
+     */
+    private static final String BLOB_ID = PackTest.id("11");
+
+    /**
+     * Offset delta id.
+     */
+    private static final String OFS_ID = PackTest.id("22");
+
+    /**
+     * Reference delta id.
+     */
+    private static final String REF_ID = PackTest.id("33");
+
+    /**
+     * Unknown type object id.
+     */
+    private static final String UNKNOWN_ID = PackTest.id("44");
+
+    /**
+     * Pack file.
+     */
+    private MappedFile file;
+
+    /**
+     * Pack index.
+     */
+    private PackIndex index;
+
+    /**
+     * Pack to test.
+     */
+    private Pack pack;
+
+    /**
+     * Writes pack with blob, offset delta, reference delta with missing base
+     * and entry of unknown type.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @BeforeEach
+    public void setUp(@TempDir final Path temp) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        output.writeBytes("PACK");
+        output.writeInt(2);
+        output.writeInt(PackTest.ENTRIES);
+        final SortedMap<String, Long> offsets = new TreeMap<>();
+        offsets.put(PackTest.BLOB_ID, (long) output.size());
+        output.write(FakePackIndex.bytes("b901"));
+        output.write(
+            PackTest.deflated(PackTest.BLOB.getBytes(StandardCharsets.UTF_8))
+        );
+        output.write(new byte[PackTest.GAP]);
+        final byte[] delta = FakePackIndex.bytes("19059005");
+        final long distance = output.size() - offsets.get(PackTest.BLOB_ID);
+        offsets.put(PackTest.OFS_ID, (long) output.size());
+        output.write(FakePackIndex.bytes("64"));
+        output.write(
+            (int) (distance >> PackTest.BITS) - 1 | PackTest.MORE
+        );
+        output.write((int) distance & PackTest.VALUE);
+        output.write(PackTest.deflated(delta));
+        offsets.put(PackTest.REF_ID, (long) output.size());
+        output.write(FakePackIndex.bytes("74"));
+        output.write(FakePackIndex.bytes(PackTest.id("99")));
+        output.write(PackTest.deflated(delta));
+        offsets.put(PackTest.UNKNOWN_ID, (long) output.size());
+        output.write(FakePackIndex.bytes("51"));
+        output.write(PackTest.deflated(new byte[1]));
+        this.file = new MappedFile(
+            Files.write(temp.resolve("pack"), bytes.toByteArray()).toFile()
+        );
+        this.index = new PackIndex(
+            new MappedFile(
+                new FakePackIndex(offsets).write(temp.resolve("index"))
+            )
+        );
+        this.pack = new Pack(this.file, this.index);
+    }
+
+    /**
+     * Can read undeltified object.
+     */
+    @Test
+    public void readObject() {
+        final GitObject object = this.pack.object(
+            FakePackIndex.bytes(PackTest.BLOB_ID)
+        )
+            .get();
+        MatcherAssert.assertThat(object.type(), Matchers.equalTo("blob"));
+        MatcherAssert.assertThat(
+            new String(object.content(), StandardCharsets.UTF_8),
+            Matchers.equalTo(PackTest.BLOB)
+        );
+    }
+
+    /**
+     * Can resolve offset delta repeatedly.
+     */
+    @Test
+    public void resolveOffsetDelta() {
+        for (int attempt = 0; attempt < 2; ++attempt) {
+            MatcherAssert.assertThat(
+                new String(
+                    this.pack.object(FakePackIndex.bytes(PackTest.OFS_ID))
+                        .get()
+                        .content(),
+                    StandardCharsets.UTF_8
+                ),
+                Matchers.equalTo("hello")
+            );
+        }
+    }
+
+    /**
+     * Can resolve offset delta without caching bases.
+     */
+    @Test
+    public void resolveWithoutCache() {
+        final Pack uncached = new Pack(this.file, this.index, 0);
+        for (int attempt = 0; attempt < 2; ++attempt) {
+            MatcherAssert.assertThat(
+                uncached.object(FakePackIndex.bytes(PackTest.OFS_ID))
+                    .get()
+                    .type(),
+                Matchers.equalTo("blob")
+            );
+        }
+    }
+
+    /**
+     * Can reject delta with missing base.
+     */
+    @Test
+    public void rejectMissingBase() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> this.pack.object(FakePackIndex.bytes(PackTest.REF_ID))
+        );
+    }
+
+    /**
+     * Can reject object of unknown type.
+     */
+    @Test
+    public void rejectUnknownType() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> this.pack.object(FakePackIndex.bytes(PackTest.UNKNOWN_ID))
+        );
+    }
+
+    /**
+     * Can report absent object.
+     */
+    @Test
+    public void reportAbsentObject() {
+        MatcherAssert.assertThat(
+            this.pack.object(FakePackIndex.bytes(PackTest.id("55"))),
+            Matchers.equalTo(Optional.empty())
+        );
+    }
+
+    /**
+     * Can reject unsupported packs.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectUnsupported(@TempDir final Path temp)
+        throws IOException {
+        for (final int size : new int[]{2, Integer.BYTES}) {
+            final Path bad = Files.write(temp.resolve("bad"), new byte[size]);
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Pack(new MappedFile(bad.toFile()), null)
+            );
+        }
+    }
+
+    /**
+     * Object id made of provided byte.
+     *
+     * @param value hexadecimal id byte
+     * @return hexadecimal object id
+     */
+    private static String id(final String value) {
+        final StringBuilder result = new StringBuilder(PackTest.ID * 2);
+        for (int position = 0; position < PackTest.ID; ++position) {
+            result.append(value);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Deflates bytes.
+     *
+     * @param bytes bytes to deflate
+     * @return deflated bytes
+     * @throws IOException if fails
+     */
+    private static byte[] deflated(final byte[] bytes) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DeflaterOutputStream output = new DeflaterOutputStream(result)) {
+            output.write(bytes);
+        }
+        return result.toByteArray();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ParallelMismatches} test.
+ */
+public final class ParallelMismatchesTest {
+
+    /**
+     * Lines count.
+     */
+    private static final int LINES = 1000;
+
+    /**
+     * Lines per batch.
+     */
+    private static final int BATCH = 7;
+
+    /**
+     * Matcher threads.
+     */
+    private static final int THREADS = 3;
+
+    /**
+     * Can find mismatches in order of lines.
+     */
+    @Test
+    public void findMismatchesInOrder() {
+        final Collection<String> lines = IntStream
+            .range(0, ParallelMismatchesTest.LINES)
+            .mapToObj(index -> String.format(
+                    "%d%s", index, "#x".charAt(index % 2)
+                ))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            new ParallelMismatches<>(
+                () -> lines,
+                new Rules("\\d+#"),
+                ParallelMismatchesTest.THREADS,
+                ParallelMismatchesTest.BATCH
+            )
+                .get(),
+            Matchers.equalTo(
+                lines.stream()
+                    .filter(line -> line.endsWith("x"))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * Can find mismatches with default batch.
+     */
+    @Test
+    public void findMismatchesWithDefaultBatch() {
+        MatcherAssert.assertThat(
+            new ParallelMismatches<>(
+                () -> Arrays.asList("#1", "first", "#2", "second"),
+                new Rules("#\\d"),
+                ParallelMismatchesTest.THREADS
+            )
+                .get(),
+            Matchers.contains("first", "second")
+        );
+    }
+
+    /**
+     * Can report mismatches.
+     */
+    @Test
+    public void reportMismatches() {
+        MatcherAssert.assertThat(
+            new ParallelMismatches<>(
+                () -> Arrays.asList("#1", "first", "#2", "second"),
+                new Rules("#\\d"),
+                line -> line.toUpperCase(Locale.ROOT),
+                ParallelMismatchesTest.THREADS
+            )
+                .get(),
+            Matchers.contains("FIRST", "SECOND")
+        );
+    }
+
+    /**
+     * Can rethrow failure of matcher.
+     */
+    @Test
+    public void rethrowMatcherFailure() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            new ParallelMismatches<>(
+                () -> Collections.singletonList("line"),
+                line -> {
+                    throw new IllegalStateException("broken rule");
+                },
+                1
+            )::get
+        );
+    }
+
+}
@@ -0,0 +1,92 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link PathGlobs} test.
+ */
+public final class PathGlobsTest {
+
+    /**
+     * Can match paths by literal and wildcard segments.
+     */
+    @Test
+    public void matchSegments() {
+        final Predicate<String> globs = new PathGlobs(
+            Arrays.asList("/pom.xml", "src/*/java/Main.java", "docs/?.md")
+        );
+        MatcherAssert.assertThat(globs.test("pom.xml"), Matchers.is(true));
+        MatcherAssert.assertThat(
+            globs.test("src/main/java/Main.java"), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(globs.test("docs/a.md"), Matchers.is(true));
+        MatcherAssert.assertThat(globs.test("docs/ab.md"), Matchers.is(false));
+        MatcherAssert.assertThat(
+            globs.test("src/main/kotlin/Main.java"), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            globs.test("module/pom.xml"), Matchers.is(false)
+        );
+    }
+
+    /**
+     * Can match any number of segments.
+     */
+    @Test
+    public void matchDeepSegments() {
+        final Predicate<String> globs = new PathGlobs(
+            Arrays.asList(
+                "db/migrations/**", "**/*.sql", "**/*.xml",
+                "src/**/**/test/*Test.java"
+            )
+        );
+        MatcherAssert.assertThat(
+            globs.test("db/migrations/v1/create.py"), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            globs.test("a/b/c/drop.sql"), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            globs.test("src/test/MainTest.java"), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            globs.test("src/a/b/test/MainTest.java"), Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            globs.test("src/a/b/test/Main.java"), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            globs.test("db/seeds/data.py"), Matchers.is(false)
+        );
+    }
+
+}
@@ -0,0 +1,182 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * {@link ProcessHistory} integration test.
+ */
+public final class ProcessHistoryIT {
+
+    /**
+     * {@link GitCommitsExtension} extension.
+     */
+    @RegisterExtension
+    public static final Extension EXTENSION = new GitCommitsExtension(
+        new String[]{"1", "2", "3"}
+    );
+
+    /**
+     * Can extract commit messages excluding several revisions.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void extractCommitMessages(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        final GitHistory history = new ProcessHistory(directory);
+        final List<String> messages = new ArrayList<>(0);
+        history.messages(
+            history.revision("HEAD"),
+            Collections.singletonList(history.revision("HEAD~2"))
+        )
+            .get()
+            .forEach(message -> messages.add(message.toString()));
+        MatcherAssert.assertThat(
+            messages, Matchers.contains("3", "2")
+        );
+    }
+
+    /**
+     * Can extract full commit messages with changed paths and signatures.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void extractChanges(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        try (GitHistory history = new ProcessHistory(directory)) {
+            final List<String> messages = new ArrayList<>(0);
+            history.fullMessages(
+                history.revision("HEAD"),
+                Collections.singletonList(history.revision("HEAD~2")),
+                true,
+                true
+            )
+                .get()
+                .forEach(
+                    message -> messages.add(
+                        String.format(
+                            "%s %s %s",
+                            message.subject(),
+                            message.paths(),
+                            message.signature()
+                        )
+                    )
+                );
+            MatcherAssert.assertThat(
+                messages,
+                Matchers.contains("3 [test.txt] N ", "2 [test.txt] N ")
+            );
+        }
+    }
+
+    /**
+     * Can check ancestry.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void checkAncestry(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        new GitHistoryAncestry(new ProcessHistory(directory)).run();
+    }
+
+    /**
+     * Can throw exception on unknown revision.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void throwExceptionOnUnknownRevision(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        try (GitHistory history = new ProcessHistory(directory)) {
+            MatcherAssert.assertThat(
+                history.revision("HEAD~1"),
+                Matchers.not(Matchers.is(history.revision("HEAD")))
+            );
+            Assertions.assertThrows(
+                UncheckedIOException.class,
+                () -> history.revision("HEAD~100")
+            );
+        }
+    }
+
+    /**
+     * Can extract spilled commit messages several times.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void extractSpilledMessages(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        try (
+            GitHistory history = new ProcessHistory(
+                directory, new Metrics(), true
+            )
+        ) {
+            final String head = history.revision("HEAD");
+            final Collection<String> excluded = Collections.singletonList(
+                history.revision("HEAD~2")
+            );
+            final Iterable<CharSequence> subjects = history.messages(
+                head, excluded
+            )
+                .get();
+            final List<String> messages = new ArrayList<>(0);
+            subjects.forEach(message -> messages.add(message.toString()));
+            subjects.forEach(message -> messages.add(message.toString()));
+            history.fullMessages(head, excluded).get()
+                .forEach(message -> messages.add(message.subject().toString()));
+            history.fullMessages(head, excluded, true, false).get()
+                .forEach(message -> messages.add(message.paths().toString()));
+            MatcherAssert.assertThat(
+                messages,
+                Matchers.contains(
+                    "3", "2", "3", "2", "3", "2", "[test.txt]", "[test.txt]"
+                )
+            );
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RecordsIterator} test.
+ */
+public final class RecordsIteratorTest {
+
+    /**
+     * Repeats of long message line.
+     */
+    private static final int REPEATS = 10_000;
+
+    /**
+     * Can iterate over records keeping line feeds.
+     */
+    @Test
+    public void iterateRecords() {
+        final String body = String.join(
+            "", Collections.nCopies(RecordsIteratorTest.REPEATS, "é")
+        );
+        final List<String> records = new ArrayList<>(2);
+        new RecordsIterator(
+            RecordsIteratorTest.stream(
+                String.format("a\0first\n\n%s\n\0b\0\0c\0third", body)
+            )
+        )
+            .forEachRemaining(
+                message -> records.add(
+                    String.format("%s|%s", message, message.body())
+                )
+            );
+        MatcherAssert.assertThat(
+            records,
+            Matchers.contains(
+                String.format("a first|%s", body), "b |", "c third|"
+            )
+        );
+    }
+
+    /**
+     * Can iterate over records with changed paths.
+     */
+    @Test
+    public void iterateRecordsWithPaths() {
+        final List<String> records = new ArrayList<>(2);
+        new RecordsIterator(
+            RecordsIteratorTest.stream(
+                String.join(
+                    "\0", "", "a", "first\n", "\nx/1", "y", "", "b",
+                    "empty\n", "", "c", "last\n", "\nz", ""
+                )
+            ),
+            true,
+            false
+        )
+            .forEachRemaining(
+                message -> records.add(
+                    String.format("%s|%s", message, message.paths())
+                )
+            );
+        MatcherAssert.assertThat(
+            records,
+            Matchers.contains("a first|[x/1, y]", "b empty|[]", "c last|[z]")
+        );
+    }
+
+    /**
+     * Can iterate over records with signatures.
+     */
+    @Test
+    public void iterateRecordsWithSignatures() {
+        final List<String> records = new ArrayList<>(2);
+        new RecordsIterator(
+            RecordsIteratorTest.stream(
+                "a\0G 0A1B\0first\n\0b\0N \0second\n\0c"
+            ),
+            false,
+            true
+        )
+            .forEachRemaining(
+                message -> records.add(
+                    String.format("%s|%s", message, message.signature())
+                )
+            );
+        MatcherAssert.assertThat(
+            records,
+            Matchers.contains("a first|G 0A1B", "b second|N ", "c |")
+        );
+    }
+
+    /**
+     * Can read record without message.
+     */
+    @Test
+    public void readTruncatedRecord() {
+        MatcherAssert.assertThat(
+            new RecordsIterator(RecordsIteratorTest.stream("id")).next()
+                .toString(),
+            Matchers.equalTo("id ")
+        );
+        MatcherAssert.assertThat(
+            new RecordsIterator(
+                RecordsIteratorTest.stream("\0id\0msg"), true, false
+            )
+                .next()
+                .paths(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Can close stream when exhausted.
+     */
+    @Test
+    public void closeExhaustedStream() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Iterator<CommitMessage> iterator = new RecordsIterator(
+            new ByteArrayInputStream(
+                "id\0message\0".getBytes(StandardCharsets.UTF_8)
+            ) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            }
+        );
+        iterator.next();
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+        MatcherAssert.assertThat(iterator.hasNext(), Matchers.is(false));
+        MatcherAssert.assertThat(closed.get(), Matchers.is(true));
+        Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    /**
+     * Can throw I/O exception.
+     */
+    @Test
+    public void throwIoException() {
+        Assertions.assertThrows(
+            IOException.class,
+            new RecordsIterator(
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("broken stream");
+                    }
+                }
+            )::hasNext
+        );
+    }
+
+    /**
+     * Creates stream of text.
+     *
+     * @param text text
+     * @return UTF-8 stream
+     */
+    private static InputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.Arrays;
+import java.util.regex.PatternSyntaxException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RegexParser} test.
+ */
+public final class RegexParserTest {
+
+    /**
+     * Can compile pattern to program.
+     */
+    @Test
+    public void compilePattern() {
+        final NfaProgram program = new RegexParser("(?i)#\\d+ \\w[^\\d]*")
+            .get();
+        MatcherAssert.assertThat(
+            program.matches("#12 Fix bug") && !program.matches("#12 fix 1"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can reject constructs outside of supported subset.
+     */
+    @Test
+    public void rejectUnsupportedConstructs() {
+        for (final String pattern : Arrays.asList(
+            "(a)\\1", "\\ba", "\\p{L}", "\\Qa\\E", "(?=a)", "(?!a)",
+            "(?<=a)b", "(?<!a)b", "(?>a)", "a*+", "a{2}+", "(?x)a", "[[a]]",
+            "[a&&b]"
+        )) {
+            Assertions.assertThrows(
+                PatternSyntaxException.class,
+                () -> new RegexParser(pattern).get(),
+                pattern
+            );
+        }
+    }
+
+    /**
+     * Can reject malformed patterns.
+     */
+    @Test
+    public void rejectMalformedPatterns() {
+        for (final String pattern : Arrays.asList(
+            "a)", "a{2", "a{3,2}", "a{x}", "a{,3}", "{", "*", "a**", "+a",
+            "?", "(a", "(?i", "(?<>a)", "(?<n", "[a", "[a-", "[b-a]", "[a-\\d]",
+            "\\", "\\xg", "\\x1", "\\u12", "a{99999999}"
+        )) {
+            Assertions.assertThrows(
+                PatternSyntaxException.class,
+                () -> new RegexParser(pattern).get(),
+                pattern
+            );
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RepositoryFailures} test.
+ */
+public final class RepositoryFailuresTest {
+
+    /**
+     * Can group failures by repository.
+     */
+    @Test
+    public void groupFailures() {
+        MatcherAssert.assertThat(
+            new RepositoryFailures(
+                Arrays.asList(new File("b"), new File("a"), new File("c")),
+                repository -> () -> {
+                    if ("c".equals(repository.getName())) {
+                        throw new IOException("bad");
+                    }
+                    return repository;
+                },
+                2
+            )
+                .get(),
+            Matchers.allOf(
+                Matchers.aMapWithSize(1),
+                Matchers.hasEntry(new File("c"), "bad")
+            )
+        );
+    }
+
+    /**
+     * Can report failure without message.
+     */
+    @Test
+    public void reportFailureWithoutMessage() {
+        MatcherAssert.assertThat(
+            new RepositoryFailures(
+                Arrays.asList(new File("a")),
+                repository -> () -> {
+                    throw new IllegalStateException();
+                },
+                1
+            )
+                .get(),
+            Matchers.hasEntry(
+                new File("a"), "java.lang.IllegalStateException"
+            )
+        );
+    }
+
+    /**
+     * Can lint repositories at the same time.
+     */
+    @Test
+    public void lintConcurrently() {
+        final CountDownLatch started = new CountDownLatch(2);
+        MatcherAssert.assertThat(
+            new RepositoryFailures(
+                Arrays.asList(new File("a"), new File("b")),
+                repository -> () -> {
+                    started.countDown();
+                    started.await();
+                    return repository;
+                },
+                2
+            )
+                .get(),
+            Matchers.anEmptyMap()
+        );
+    }
+
+    /**
+     * Can throw exception when interrupted.
+     */
+    @Test
+    public void throwExceptionOnInterrupt() {
+        final RepositoryFailures failures = new RepositoryFailures(
+            Arrays.asList(new File("a")),
+            repository -> () -> {
+                new CountDownLatch(1).await();
+                return repository;
+            },
+            1
+        );
+        Thread.currentThread().interrupt();
+        Assertions.assertThrows(InterruptedException.class, failures::get);
+    }
+
+}
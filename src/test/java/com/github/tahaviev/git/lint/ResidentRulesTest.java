@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ResidentRules} test.
+ */
+public final class ResidentRulesTest {
+
+    /**
+     * Can compile pattern once.
+     */
+    @Test
+    public void compileOnce() {
+        final ResidentRules rules = new ResidentRules();
+        MatcherAssert.assertThat(
+            rules.apply("java", Duration.ZERO).apply("#.+"),
+            Matchers.sameInstance(
+                rules.apply("java", Duration.ZERO).apply("#.+")
+            )
+        );
+    }
+
+    /**
+     * Can compile pattern for each engine.
+     */
+    @Test
+    public void compileForEachEngine() {
+        final ResidentRules rules = new ResidentRules();
+        MatcherAssert.assertThat(
+            rules.apply("java", Duration.ZERO).apply("#.+"),
+            Matchers.not(
+                Matchers.sameInstance(
+                    rules.apply("linear", Duration.ZERO).apply("#.+")
+                )
+            )
+        );
+    }
+
+    /**
+     * Can compile evicted pattern again.
+     */
+    @Test
+    public void compileEvictedAgain() {
+        final ResidentRules rules = new ResidentRules(1);
+        final Object first = rules.apply("java", Duration.ZERO).apply("#.+");
+        rules.apply("java", Duration.ZERO).apply("#.*");
+        MatcherAssert.assertThat(
+            rules.apply("java", Duration.ZERO).apply("#.+"),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+    }
+
+}
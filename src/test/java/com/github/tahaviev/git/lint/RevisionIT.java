@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * {@link Revision} integration test.
+ */
+public final class RevisionIT {
+
+    /**
+     * {@link GitCommitsExtension} extension.
+     */
+    @RegisterExtension
+    public static final Extension EXTENSION = new GitCommitsExtension(
+        new String[]{"1"}
+    );
+
+    /**
+     * Creates tags.
+     *
+     * @param directory git repository directory
+     */
+    @BeforeAll
+    public static void tag(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        new Executions(
+            new String[][]{
+                {"git", "tag", "-a", "-m", "commit", "annotated"},
+                {"git", "tag", "-a", "-m", "tag", "nested", "annotated"},
+                {"git", "tag", "-a", "-m", "blob", "blob", "HEAD:test.txt"},
+            },
+            directory
+        )
+            .run();
+    }
+
+    /**
+     * Can peel annotated tags.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void peelTags(@GitCommitsExtension.Directory final File directory) {
+        final GitRepository repository = new GitRepository(directory);
+        MatcherAssert.assertThat(
+            new Revision(repository.refs(), repository.objects(), "nested")
+                .get(),
+            Matchers.equalTo(
+                new Revision(repository.refs(), repository.objects(), "HEAD")
+                    .get()
+            )
+        );
+    }
+
+    /**
+     * Can reject revision which is not a commit.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void rejectNonCommit(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        final GitRepository repository = new GitRepository(directory);
+        Assertions.assertThrows(
+            IOException.class,
+            new Revision(repository.refs(), repository.objects(), "blob")::get
+        );
+    }
+
+}
@@ -0,0 +1,121 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RuleSet} test.
+ */
+public final class RuleSetTest {
+
+    /**
+     * Message violating length and period rules.
+     */
+    private static final CommitMessage MESSAGE = new CommitMessage(
+        "id", "fix: very long subject."
+    );
+
+    /**
+     * Can stop evaluation at the first violated rule.
+     */
+    @Test
+    public void stopAtFirstViolation() {
+        final AtomicInteger evaluated = new AtomicInteger();
+        final List<Function<CommitMessage, Optional<String>>> rules =
+            new ArrayList<>(RuleSetTest.rules());
+        rules.add(
+            message -> Optional.of("counted")
+                .filter(name -> evaluated.incrementAndGet() < 0)
+        );
+        MatcherAssert.assertThat(
+            new RuleSet(rules, true).test(RuleSetTest.MESSAGE),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(evaluated.get(), Matchers.is(0));
+    }
+
+    /**
+     * Can match message matching every rule.
+     */
+    @Test
+    public void matchEveryRule() {
+        MatcherAssert.assertThat(
+            new RuleSet(RuleSetTest.rules(), false)
+                .test(new CommitMessage("id", "fix: subject")),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can report the first violation.
+     */
+    @Test
+    public void reportFirstViolation() {
+        MatcherAssert.assertThat(
+            new RuleSet(RuleSetTest.rules(), false)
+                .report(RuleSetTest.MESSAGE),
+            Matchers.equalTo("id fix: very long subject. [length]")
+        );
+    }
+
+    /**
+     * Can report every violation.
+     */
+    @Test
+    public void reportEveryViolation() {
+        MatcherAssert.assertThat(
+            new RuleSet(RuleSetTest.rules(), true)
+                .report(RuleSetTest.MESSAGE),
+            Matchers.equalTo("id fix: very long subject. [length, period]")
+        );
+    }
+
+    /**
+     * Rules of conventional subject.
+     *
+     * @return violations by rule
+     */
+    private static List<Function<CommitMessage, Optional<String>>> rules() {
+        return Arrays.asList(
+            new MessageRule("type", "subject", "(fix|feat): .+")
+                .compile(Rules::new),
+            new MessageRule("length", "subject", ".{1,16}")
+                .compile(Rules::new),
+            new MessageRule("period", "subject", ".*[^.]")
+                .compile(Rules::new)
+        );
+    }
+
+}
@@ -0,0 +1,120 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link Rules} test.
+ */
+public final class RulesTest {
+
+    /**
+     * Messages count.
+     */
+    private static final int MESSAGES = 1000;
+
+    /**
+     * Repeated characters of catastrophically backtracking message.
+     */
+    private static final int REPEATS = 64;
+
+    /**
+     * Can match whole message.
+     */
+    @Test
+    public void matchWholeMessage() {
+        final Rules rules = new Rules("#\\d+");
+        MatcherAssert.assertThat(
+            rules.test("#123") && !rules.test("#123 test"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can match within time budget.
+     */
+    @Test
+    public void matchWithinBudget() {
+        MatcherAssert.assertThat(
+            new Rules("#\\d+", Duration.ofMinutes(1)).test("#123"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can mismatch message exceeding time budget.
+     */
+    @Test
+    public void mismatchOnExceededBudget() {
+        MatcherAssert.assertThat(
+            new Rules("(a|aa)+b", Duration.ofMillis(1)).test(
+                String.join("", Collections.nCopies(RulesTest.REPEATS, "a"))
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Can be shared between threads.
+     */
+    @SneakyThrows
+    @Test
+    public void shareBetweenThreads() {
+        final Rules rules = new Rules("(\\d)+");
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors()
+        );
+        try {
+            final Collection<Callable<Boolean>> tasks = IntStream
+                .range(0, RulesTest.MESSAGES)
+                .mapToObj(
+                    index -> (Callable<Boolean>) () -> rules.test(
+                        String.valueOf(index)
+                    ) && !rules.test(String.format("#%d", index))
+                )
+                .collect(Collectors.toList());
+            for (final Future<Boolean> result : executor.invokeAll(tasks)) {
+                MatcherAssert.assertThat(result.get(), Matchers.is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link ShallowClone} integration test.
+ */
+public final class ShallowCloneIT {
+
+    /**
+     * {@link GitCommitsExtension} extension.
+     */
+    @RegisterExtension
+    public static final Extension EXTENSION = new GitCommitsExtension(
+        new String[]{"1", "2", "3"}
+    );
+
+    /**
+     * Commits to deepen by at most.
+     */
+    private static final int LIMIT = 1000;
+
+    /**
+     * Can deepen shallow clone until merge base is reachable.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void deepenToMergeBase(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        final File clone = ShallowCloneIT.clone(directory, temp);
+        MatcherAssert.assertThat(
+            new ShallowClone(clone, "origin", ShallowCloneIT.LIMIT)
+                .deepen("HEAD", "origin/master"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can give up deepening shallow clone at limit.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void stopDeepeningAtLimit(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        final File clone = ShallowCloneIT.clone(directory, temp);
+        MatcherAssert.assertThat(
+            new ShallowClone(clone, "origin", 1)
+                .deepen("HEAD", "origin/master"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new GitRepository(clone).shallow(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can leave shallow clone as is when merge base is reachable.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void leaveShallowCloneWithMergeBase(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        MatcherAssert.assertThat(
+            new ShallowClone(ShallowCloneIT.clone(directory, temp), "origin", 0)
+                .deepen("HEAD", "HEAD"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can stop deepening shallow clone once merge base is reachable.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void stopDeepeningAtMergeBase(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        new Executions(
+            new String[][]{{"git", "branch", "base", "HEAD~1"}}, directory
+        )
+            .run();
+        final File clone;
+        try {
+            clone = ShallowCloneIT.clone(directory, temp);
+        } finally {
+            new Executions(
+                new String[][]{{"git", "branch", "--delete", "base"}},
+                directory
+            )
+                .run();
+        }
+        MatcherAssert.assertThat(
+            new ShallowClone(clone, "origin", 1)
+                .deepen("HEAD", "origin/base"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new GitRepository(clone).shallow(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can throw exception on missing remote.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnMissingRemote(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        final ShallowClone clone = new ShallowClone(
+            ShallowCloneIT.clone(directory, temp), "missing", 1
+        );
+        Assertions.assertThrows(
+            IOException.class, () -> clone.deepen("HEAD", "origin/master")
+        );
+    }
+
+    /**
+     * Can throw exception on bad revision instead of deepening.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnBadRevision(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        final File clone = ShallowCloneIT.clone(directory, temp);
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new ShallowClone(clone, "origin", ShallowCloneIT.LIMIT)
+                    .deepen("HEAD", "origin/missing")
+            )
+                .getMessage(),
+            Matchers.containsString("origin/missing")
+        );
+        MatcherAssert.assertThat(
+            new GitRepository(clone).shallow(), Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can leave complete clone as is.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void leaveCompleteClone(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        MatcherAssert.assertThat(
+            new ShallowClone(directory, "missing", 0).deepen("HEAD", "master"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Clones repository with history of depth one.
+     *
+     * @param directory repository to clone
+     * @param temp temporary directory
+     * @return clone directory
+     */
+    public static File clone(final File directory, final Path temp) {
+        final File clone = temp.resolve("clone").toFile();
+        new Executions(
+            new String[][]{
+                {
+                    "git", "clone", "--quiet", "--depth=1",
+                    "--no-single-branch",
+                    String.format("file://%s", directory.getAbsolutePath()),
+                    clone.getAbsolutePath(),
+                },
+            },
+            temp.toFile()
+        )
+            .run();
+        return clone;
+    }
+
+}
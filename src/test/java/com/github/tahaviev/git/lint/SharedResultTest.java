@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SharedResult} test.
+ */
+public final class SharedResultTest {
+
+    /**
+     * Concurrent callers.
+     */
+    private static final int CALLERS = 8;
+
+    /**
+     * Can compute result once for concurrent callers.
+     *
+     * @throws Exception if fails
+     */
+    @Test
+    public void computeOnce() throws Exception {
+        final ConcurrentMap<String, Future<Integer>> cache =
+            new ConcurrentHashMap<>();
+        final AtomicInteger computations = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            SharedResultTest.CALLERS
+        );
+        try {
+            final Supplier<Integer> shared = new SharedResult<>(
+                cache, "key", computations::incrementAndGet
+            );
+            final Future<?>[] results = new Future<?>[SharedResultTest.CALLERS];
+            for (int index = 0; index < results.length; ++index) {
+                results[index] = executor.submit(
+                    () -> {
+                        SharedResultTest.await(start);
+                        return shared.get();
+                    }
+                );
+            }
+            start.countDown();
+            for (final Future<?> result : results) {
+                MatcherAssert.assertThat(result.get(), Matchers.equalTo(1));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        MatcherAssert.assertThat(computations.get(), Matchers.equalTo(1));
+    }
+
+    /**
+     * Can rethrow failure without caching it.
+     */
+    @Test
+    public void rethrowFailure() {
+        final ConcurrentMap<String, Future<String>> cache =
+            new ConcurrentHashMap<>();
+        Assertions.assertThrows(
+            IOException.class,
+            new SharedResult<>(cache, "key", SharedResultTest::fail)::get
+        );
+        MatcherAssert.assertThat(cache.isEmpty(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            new SharedResult<>(cache, "key", () -> "result").get(),
+            Matchers.equalTo("result")
+        );
+    }
+
+    /**
+     * Awaits latch.
+     *
+     * @param latch latch
+     */
+    @SneakyThrows
+    private static void await(final CountDownLatch latch) {
+        latch.await();
+    }
+
+    /**
+     * Fails with I/O exception.
+     *
+     * @return nothing
+     */
+    @SneakyThrows
+    private static String fail() {
+        throw new IOException("failure");
+    }
+
+}
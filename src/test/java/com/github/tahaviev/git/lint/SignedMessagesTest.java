@@ -0,0 +1,217 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SignedMessages} test.
+ */
+public final class SignedMessagesTest {
+
+    /**
+     * Messages count.
+     */
+    private static final int MESSAGES = 100;
+
+    /**
+     * Commits per batch.
+     */
+    private static final int BATCH = 10;
+
+    /**
+     * Verifier threads.
+     */
+    private static final int THREADS = 3;
+
+    /**
+     * Can verify signatures in batches keeping order of messages.
+     */
+    @Test
+    public void verifySignaturesInOrder() {
+        final List<CommitMessage> messages = IntStream
+            .range(0, SignedMessagesTest.MESSAGES)
+            .mapToObj(index -> new CommitMessage(String.valueOf(index), "s"))
+            .collect(Collectors.toList());
+        final List<String> signatures = new ArrayList<>(0);
+        new SignedMessages(
+            () -> messages,
+            SignedMessagesTest.verified(),
+            SignedMessagesTest.THREADS,
+            SignedMessagesTest.BATCH
+        )
+            .get()
+            .forEach(message -> signatures.add(message.signature().toString()));
+        MatcherAssert.assertThat(
+            signatures,
+            Matchers.equalTo(
+                messages.stream()
+                    .map(message -> String.format("G %s", message.id()))
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    /**
+     * Can verify signatures with default batch.
+     */
+    @Test
+    public void verifySignaturesWithDefaultBatch() {
+        MatcherAssert.assertThat(
+            new SignedMessages(
+                () -> Collections.singletonList(new CommitMessage("a", "s")),
+                SignedMessagesTest.verified()
+            )
+                .get()
+                .iterator()
+                .next()
+                .signature()
+                .toString(),
+            Matchers.equalTo("G a")
+        );
+    }
+
+    /**
+     * Can leave signature of unknown commit empty.
+     */
+    @Test
+    public void leaveUnknownSignatureEmpty() {
+        MatcherAssert.assertThat(
+            new SignedMessages(
+                () -> Collections.singletonList(new CommitMessage("a", "s")),
+                commits -> Collections.emptyMap()
+            )
+                .get()
+                .iterator()
+                .next()
+                .signature()
+                .length(),
+            Matchers.is(0)
+        );
+    }
+
+    /**
+     * Can rethrow failure of verifier.
+     */
+    @Test
+    public void rethrowVerifierFailure() {
+        final Iterator<CommitMessage> messages = new SignedMessages(
+            () -> Collections.singletonList(new CommitMessage("a", "s")),
+            commits -> {
+                throw new IllegalStateException("broken verifier");
+            }
+        )
+            .get()
+            .iterator();
+        Assertions.assertThrows(IllegalStateException.class, messages::next);
+    }
+
+    /**
+     * Can yield verified messages before the rest are read.
+     */
+    @Test
+    public void yieldMessagesLazily() {
+        MatcherAssert.assertThat(
+            new SignedMessages(
+                () -> () -> Stream.iterate(0, index -> index + 1)
+                    .map(index -> new CommitMessage(index.toString(), "s"))
+                    .iterator(),
+                SignedMessagesTest.verified(),
+                SignedMessagesTest.THREADS,
+                SignedMessagesTest.BATCH
+            )
+                .get()
+                .iterator()
+                .next()
+                .signature()
+                .toString(),
+            Matchers.equalTo("G 0")
+        );
+    }
+
+    /**
+     * Can verify signatures in daemon threads.
+     */
+    @Test
+    public void verifyInDaemonThreads() {
+        MatcherAssert.assertThat(
+            new SignedMessages(
+                () -> Collections.singletonList(new CommitMessage("a", "s")),
+                commits -> Collections.singletonMap(
+                    "a", String.valueOf(Thread.currentThread().isDaemon())
+                )
+            )
+                .get()
+                .iterator()
+                .next()
+                .signature()
+                .toString(),
+            Matchers.equalTo("true")
+        );
+    }
+
+    /**
+     * Can throw exception when messages are over.
+     */
+    @Test
+    public void throwExceptionWhenOver() {
+        final Iterator<CommitMessage> messages = new SignedMessages(
+            Collections::<CommitMessage>emptyList,
+            SignedMessagesTest.verified()
+        )
+            .get()
+            .iterator();
+        MatcherAssert.assertThat(messages.hasNext(), Matchers.is(false));
+        Assertions.assertThrows(NoSuchElementException.class, messages::next);
+    }
+
+    /**
+     * Verifier of good signatures with commit ids as keys.
+     *
+     * @return signatures by id of batch of commits
+     */
+    private static Function<List<String>, Map<String, String>> verified() {
+        return commits -> commits.stream().collect(
+            Collectors.toMap(
+                Function.identity(), id -> String.format("G %s", id)
+            )
+        );
+    }
+
+}
@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link SpilledOutput} test.
+ */
+public final class SpilledOutputTest {
+
+    /**
+     * Can map output written to file and delete the file.
+     */
+    @Test
+    public void mapOutput() {
+        final AtomicReference<File> spilled = new AtomicReference<>();
+        final MappedFile output = new SpilledOutput(
+            file -> () -> {
+                spilled.set(file);
+                return SpilledOutputTest.written(file);
+            }
+        )
+            .get();
+        MatcherAssert.assertThat(
+            output.size() == 2 && !spilled.get().exists(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Can throw exception if process fails.
+     */
+    @Test
+    public void throwExceptionOnFailure() {
+        Assertions.assertThrows(
+            IOException.class,
+            new SpilledOutput(
+                file -> new SucceedProcess(
+                    () -> new FakeFailedProcess("error")
+                )
+            )::get
+        );
+    }
+
+    /**
+     * Process which has written its output to file.
+     *
+     * @param file output file
+     * @return process
+     */
+    @SneakyThrows
+    private static Process written(final File file) {
+        Files.write(file.toPath(), new byte[]{1, 2});
+        return new FakeSucceedProcess("");
+    }
+
+}
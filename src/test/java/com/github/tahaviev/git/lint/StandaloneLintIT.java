@@ -0,0 +1,228 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link StandaloneLint} integration test.
+ */
+public final class StandaloneLintIT {
+
+    /**
+     * {@link GitCommitsExtension} extension.
+     */
+    @RegisterExtension
+    public static final Extension EXTENSION = new GitCommitsExtension(
+        new String[]{"#1 one", "two\n\nbody\n\nTicket: 1"}
+    );
+
+    /**
+     * Can accept good commit message file.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void acceptGoodFile(@TempDir final Path temp) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            StandaloneLintIT.lint(
+                output,
+                "--pattern", "#[0-9]+ .+", "--engine", "linear",
+                "--comment-char", ";",
+                StandaloneLintIT.file(temp, "; comment\n#1 good\n")
+            ),
+            Matchers.is(0)
+        );
+        MatcherAssert.assertThat(output.size(), Matchers.is(0));
+    }
+
+    /**
+     * Can reject wrong commit message file.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectWrongFile(@TempDir final Path temp) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            StandaloneLintIT.lint(
+                output,
+                "--pattern", "#[0-9]+ .+", "--timeout", "1000",
+                StandaloneLintIT.file(temp, "# comment\nwrong\n")
+            ),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.containsString("COMMIT_EDITMSG wrong")
+        );
+    }
+
+    /**
+     * Can reject wrong commit subjects since parent branch.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void rejectWrongSubjectsInRange(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            StandaloneLintIT.lint(
+                output,
+                "--pattern", "#[0-9]+ .+", "--range", "master",
+                "--directory", directory.getPath()
+            ),
+            Matchers.is(1)
+        );
+        MatcherAssert.assertThat(
+            new String(output.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("two"),
+                Matchers.not(Matchers.containsString("one"))
+            )
+        );
+    }
+
+    /**
+     * Can reject wrong full commit messages since parent branch.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void rejectWrongBodiesInRange(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        MatcherAssert.assertThat(
+            StandaloneLintIT.lint(
+                new ByteArrayOutputStream(),
+                "--pattern", ".+", "--body-pattern", "", "--range", "master",
+                "--directory", directory.getPath()
+            ),
+            Matchers.is(1)
+        );
+    }
+
+    /**
+     * Can accept good full commit messages since parent branch.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void acceptGoodTrailersInRange(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        MatcherAssert.assertThat(
+            StandaloneLintIT.lint(
+                new ByteArrayOutputStream(),
+                "--pattern", ".+", "--trailers-pattern", "(Ticket: 1)?",
+                "--range", "master", "--directory", directory.getPath()
+            ),
+            Matchers.is(0)
+        );
+    }
+
+    /**
+     * Can print usage on invalid arguments.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void printUsage(@TempDir final Path temp) {
+        final String[][] invalid = {
+            {"--pattern", "a", "--unknown", "b", "file"},
+            {"file"},
+            {"--pattern", "a"},
+            {"--pattern", "a", "file", "another"},
+            {"--pattern", "a", "--range", "master", "file"},
+            {"file", "--pattern"},
+            {"--pattern", "a", "--timeout", "soon", "file"},
+            {"--pattern", "a", "--engine", "fast", "file"},
+        };
+        for (final String[] args : invalid) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            MatcherAssert.assertThat(
+                Arrays.toString(args),
+                StandaloneLintIT.lint(output, args),
+                Matchers.is(2)
+            );
+            MatcherAssert.assertThat(
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                Matchers.startsWith("Usage: git-lint")
+            );
+        }
+    }
+
+    /**
+     * Runs lint.
+     *
+     * @param output output
+     * @param args command line arguments
+     * @return exit code
+     */
+    private static int lint(final ByteArrayOutputStream output,
+        final String... args) {
+        return new StandaloneLint(
+            Arrays.asList(args), new PrintStream(output, true)
+        )
+            .getAsInt();
+    }
+
+    /**
+     * Writes commit message file.
+     *
+     * @param temp temporary directory
+     * @param text message text
+     * @return file path
+     * @throws IOException if fails
+     */
+    private static String file(final Path temp, final String text)
+        throws IOException {
+        return Files.write(
+            temp.resolve("COMMIT_EDITMSG"),
+            text.getBytes(StandardCharsets.UTF_8)
+        )
+            .toString();
+    }
+
+}
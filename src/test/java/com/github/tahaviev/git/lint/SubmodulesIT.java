@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link Submodules} integration test.
+ */
+public final class SubmodulesIT {
+
+    /**
+     * {@link GitCommitsExtension} extension.
+     */
+    @RegisterExtension
+    public static final Extension EXTENSION = new GitCommitsExtension(
+        new String[]{"1"}
+    );
+
+    /**
+     * Can list submodules recursively.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     */
+    @Test
+    public void listSubmodules(
+        @GitCommitsExtension.Directory final File directory,
+        @TempDir final Path temp
+    ) {
+        final File outer = SubmodulesIT.superproject(directory, temp);
+        MatcherAssert.assertThat(
+            new Submodules(outer).get(),
+            Matchers.contains(
+                new File(outer, "module").getAbsoluteFile()
+            )
+        );
+    }
+
+    /**
+     * Can list no submodules.
+     *
+     * @param directory git repository directory
+     */
+    @Test
+    public void listNoSubmodules(
+        @GitCommitsExtension.Directory final File directory
+    ) {
+        MatcherAssert.assertThat(
+            new Submodules(directory).get(), Matchers.empty()
+        );
+    }
+
+    /**
+     * Can throw exception outside of git repository.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOutsideRepository(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            UncheckedIOException.class, new Submodules(temp.toFile())::get
+        );
+    }
+
+    /**
+     * Creates repository with provided one as submodule.
+     *
+     * @param directory git repository directory
+     * @param temp temporary directory
+     * @return superproject directory
+     */
+    public static File superproject(final File directory, final Path temp) {
+        final File result = temp.resolve("super").toFile();
+        new Executions(
+            new String[][]{
+                {"git", "init", "--quiet", result.getAbsolutePath()},
+            },
+            temp.toFile()
+        )
+            .run();
+        new Executions(
+            new String[][]{
+                {"git", "config", "user.email", "\"user.email\""},
+                {"git", "config", "user.name", "\"user.name\""},
+                {
+                    "git", "-c", "protocol.file.allow=always", "submodule",
+                    "--quiet", "add", directory.getAbsolutePath(), "module",
+                },
+                {"git", "commit", "--quiet", "-m", "module"},
+            },
+            result
+        )
+            .run();
+        return result;
+    }
+
+}
@@ -68,4 +68,18 @@ public final class SucceedProcessTest {
         );
     }
 
+    /**
+     * Can provide output while process is still running.
+     */
+    @Test
+    public void provideOutputOfRunningProcess() {
+        MatcherAssert.assertThat(
+            new LinesFromProcess(
+                new SucceedProcess(() -> new FakeBlockingProcess("line"))
+            )
+                .get(),
+            Matchers.contains("line")
+        );
+    }
+
 }
@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.util.concurrent.CancellationException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link TimedChars} test.
+ */
+public final class TimedCharsTest {
+
+    /**
+     * Reads enough to check clock.
+     */
+    private static final int READS = 1024;
+
+    /**
+     * Can read characters before deadline.
+     */
+    @Test
+    public void readBeforeDeadline() {
+        final CharSequence chars = new TimedChars(
+            "abc", System.nanoTime() + Long.MAX_VALUE / 2
+        );
+        int sum = 0;
+        for (int read = 0; read < TimedCharsTest.READS; ++read) {
+            sum += chars.charAt(0);
+        }
+        MatcherAssert.assertThat(
+            sum / TimedCharsTest.READS, Matchers.is((int) 'a')
+        );
+    }
+
+    /**
+     * Can cancel reading after deadline.
+     */
+    @Test
+    public void cancelAfterDeadline() {
+        final CharSequence chars = new TimedChars("abc", System.nanoTime());
+        Assertions.assertThrows(
+            CancellationException.class,
+            () -> {
+                for (int read = 0; read < TimedCharsTest.READS; ++read) {
+                    chars.charAt(1);
+                }
+            }
+        );
+    }
+
+    /**
+     * Can represent part of characters.
+     */
+    @Test
+    public void representPart() {
+        final CharSequence chars = new TimedChars("abcd", 0).subSequence(1, 2);
+        MatcherAssert.assertThat(
+            String.format("%d %s", chars.length(), chars),
+            Matchers.is("1 b")
+        );
+    }
+
+}
@@ -0,0 +1,291 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link VerdictTable} test.
+ */
+public final class VerdictTableTest {
+
+    /**
+     * Slots of test table.
+     */
+    private static final int SLOTS = 64;
+
+    /**
+     * Position of check of the only slot of single slot table.
+     */
+    private static final int CHECK = 56;
+
+    /**
+     * Rules digest.
+     */
+    private static final UUID RULES = UUID.nameUUIDFromBytes(new byte[] {1});
+
+    /**
+     * Digest of other rules with the same hash code.
+     */
+    private static final UUID OTHER = new UUID(
+        VerdictTableTest.RULES.getLeastSignificantBits(),
+        VerdictTableTest.RULES.getMostSignificantBits()
+    );
+
+    /**
+     * Commit id bytes.
+     */
+    private static final byte[] FIRST = new IdBytes(
+        "0123456789abcdef0123456789abcdef01234567"
+    )
+        .get();
+
+    /**
+     * Another commit id bytes.
+     */
+    private static final byte[] SECOND = new IdBytes(
+        "89abcdef0123456789abcdef0123456789abcdef"
+    )
+        .get();
+
+    /**
+     * Can remember verdicts of commits.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rememberVerdicts(@TempDir final Path temp) throws IOException {
+        try (
+            VerdictTable table = new VerdictTable(
+                temp.resolve("verdicts").toFile(), VerdictTableTest.SLOTS
+            )
+        ) {
+            table.put(VerdictTableTest.FIRST, VerdictTableTest.RULES, true);
+            table.put(VerdictTableTest.SECOND, VerdictTableTest.RULES, false);
+            MatcherAssert.assertThat(
+                new Object[] {
+                    table.verdict(
+                        VerdictTableTest.FIRST, VerdictTableTest.RULES
+                    ),
+                    table.verdict(
+                        VerdictTableTest.SECOND, VerdictTableTest.RULES
+                    ),
+                    table.verdict(
+                        VerdictTableTest.FIRST, VerdictTableTest.OTHER
+                    ),
+                    table.verdict(
+                        VerdictTableTest.FIRST,
+                        new UUID(
+                            VerdictTableTest.RULES.getMostSignificantBits(), 0
+                        )
+                    ),
+                },
+                Matchers.arrayContaining(
+                    Optional.of(true), Optional.of(false), Optional.empty(),
+                    Optional.empty()
+                )
+            );
+        }
+    }
+
+    /**
+     * Can replace verdict of commit.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void replaceVerdict(@TempDir final Path temp) throws IOException {
+        try (
+            VerdictTable table = new VerdictTable(
+                temp.resolve("verdicts").toFile(), VerdictTableTest.SLOTS
+            )
+        ) {
+            table.put(VerdictTableTest.FIRST, VerdictTableTest.RULES, true);
+            table.put(VerdictTableTest.FIRST, VerdictTableTest.RULES, false);
+            MatcherAssert.assertThat(
+                table.verdict(VerdictTableTest.FIRST, VerdictTableTest.RULES),
+                Matchers.equalTo(Optional.of(false))
+            );
+        }
+    }
+
+    /**
+     * Can keep verdicts in file with its slots count.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void keepVerdicts(@TempDir final Path temp) throws IOException {
+        final File file = temp.resolve("git").resolve("verdicts").toFile();
+        try (VerdictTable table = new VerdictTable(file, 1)) {
+            table.put(VerdictTableTest.FIRST, VerdictTableTest.RULES, true);
+        }
+        try (VerdictTable table = new VerdictTable(file, 2)) {
+            MatcherAssert.assertThat(
+                table.verdict(VerdictTableTest.FIRST, VerdictTableTest.RULES),
+                Matchers.equalTo(Optional.of(true))
+            );
+        }
+    }
+
+    /**
+     * Can evict the oldest verdict when full.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void evictOldest(@TempDir final Path temp) throws IOException {
+        try (
+            VerdictTable table = new VerdictTable(
+                temp.resolve("verdicts").toFile(), 1
+            )
+        ) {
+            table.put(VerdictTableTest.FIRST, VerdictTableTest.RULES, true);
+            table.put(VerdictTableTest.SECOND, VerdictTableTest.RULES, true);
+            MatcherAssert.assertThat(
+                new Object[] {
+                    table.verdict(
+                        VerdictTableTest.FIRST, VerdictTableTest.RULES
+                    ),
+                    table.verdict(
+                        VerdictTableTest.SECOND, VerdictTableTest.RULES
+                    ),
+                },
+                Matchers.arrayContaining(Optional.empty(), Optional.of(true))
+            );
+        }
+    }
+
+    /**
+     * Can read torn slot as unknown.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void ignoreTornSlot(@TempDir final Path temp) throws IOException {
+        final File file = temp.resolve("verdicts").toFile();
+        try (VerdictTable table = new VerdictTable(file, 1)) {
+            table.put(VerdictTableTest.FIRST, VerdictTableTest.RULES, true);
+        }
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.seek(VerdictTableTest.CHECK);
+            raw.writeInt(0);
+        }
+        try (VerdictTable table = new VerdictTable(file, 1)) {
+            MatcherAssert.assertThat(
+                table.verdict(VerdictTableTest.FIRST, VerdictTableTest.RULES),
+                Matchers.equalTo(Optional.empty())
+            );
+        }
+    }
+
+    /**
+     * Can reject foreign file.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectForeignFile(@TempDir final Path temp) throws IOException {
+        final File file = Files.write(
+            temp.resolve("verdicts"), "foreign".getBytes(StandardCharsets.UTF_8)
+        )
+            .toFile();
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IOException.class, () -> new VerdictTable(file, 1)
+            )
+                .getMessage(),
+            Matchers.endsWith("is not a verdicts table, delete it")
+        );
+    }
+
+    /**
+     * Can reject truncated table.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void rejectTruncatedTable(@TempDir final Path temp)
+        throws IOException {
+        final File file = temp.resolve("verdicts").toFile();
+        new VerdictTable(file, 2).close();
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.setLength(VerdictTableTest.CHECK);
+        }
+        Assertions.assertThrows(
+            IOException.class, () -> new VerdictTable(file, 2)
+        );
+    }
+
+    /**
+     * Can throw exception when file can't be opened.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void throwExceptionOnDirectory(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IOException.class, () -> new VerdictTable(temp.toFile(), 1)
+        );
+    }
+
+    /**
+     * Can reject slots count of table exceeding one mapping.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void rejectExcessiveSlots(@TempDir final Path temp) {
+        final File file = temp.resolve("verdicts").toFile();
+        for (final int slots : new int[] {0, VerdictTable.LIMIT + 1}) {
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new VerdictTable(file, slots)
+            );
+        }
+        MatcherAssert.assertThat(file.exists(), Matchers.is(false));
+    }
+
+}
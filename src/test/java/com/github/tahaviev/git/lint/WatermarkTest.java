@@ -0,0 +1,159 @@
+/*-
+ * #%L
+ * Git Lint Maven Plugin
+ * %%
+ * Copyright (C) 2019 tahaviev
+ * %%
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ * #L%
+ */
+package com.github.tahaviev.git.lint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@link Watermark} test.
+ */
+public final class WatermarkTest {
+
+    /**
+     * Commit message pattern.
+     */
+    private static final String PATTERN = "#.+";
+
+    /**
+     * Can exclude parent only without watermark.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void excludeParentOnly(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            new Watermark(
+                temp.resolve("absent").toFile(),
+                new FakeGitHistory((ancestor, descendant) -> true),
+                WatermarkTest.PATTERN
+            )
+                .excluded("head", "parent"),
+            Matchers.contains("parent")
+        );
+    }
+
+    /**
+     * Can exclude saved watermark.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void excludeWatermark(@TempDir final Path temp) {
+        final Watermark watermark = new Watermark(
+            temp.resolve("build/watermark").toFile(),
+            new FakeGitHistory(
+                (ancestor, descendant) -> ancestor.startsWith("old")
+            ),
+            WatermarkTest.PATTERN
+        );
+        watermark.save("old-head", "old-parent");
+        MatcherAssert.assertThat(
+            watermark.excluded("head", "parent"),
+            Matchers.contains("parent", "old-head")
+        );
+    }
+
+    /**
+     * Can ignore watermark of another pattern.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void ignoreChangedPattern(@TempDir final Path temp) {
+        final File file = temp.resolve("watermark").toFile();
+        final GitHistory history = new FakeGitHistory(
+            (ancestor, descendant) -> true
+        );
+        new Watermark(file, history, WatermarkTest.PATTERN)
+            .save("old-head", "old-parent");
+        MatcherAssert.assertThat(
+            new Watermark(file, history, "#\\d+").excluded("head", "parent"),
+            Matchers.contains("parent")
+        );
+    }
+
+    /**
+     * Can ignore watermark after rewritten parent or head.
+     *
+     * @param temp temporary directory
+     */
+    @Test
+    public void ignoreRewrittenHistory(@TempDir final Path temp) {
+        final File file = temp.resolve("watermark").toFile();
+        for (final String rewritten : new String[]{"old-parent", "old-head"}) {
+            final Watermark watermark = new Watermark(
+                file,
+                new FakeGitHistory(
+                    (ancestor, descendant) -> !ancestor.equals(rewritten)
+                ),
+                WatermarkTest.PATTERN
+            );
+            watermark.save("old-head", "old-parent");
+            MatcherAssert.assertThat(
+                watermark.excluded("head", "parent"),
+                Matchers.contains("parent")
+            );
+        }
+    }
+
+    /**
+     * Can throw exception on unreadable and unwritable watermark.
+     *
+     * @param temp temporary directory
+     * @throws IOException if fails
+     */
+    @Test
+    public void throwExceptionOnInvalidFile(@TempDir final Path temp)
+        throws IOException {
+        final Path file = Files.write(
+            temp.resolve("watermark"), new byte[]{-1}
+        );
+        final GitHistory history = new FakeGitHistory(
+            (ancestor, descendant) -> true
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Watermark(file.toFile(), history, WatermarkTest.PATTERN)
+                .excluded("head", "parent")
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Watermark(
+                file.resolve("nested").toFile(), history, WatermarkTest.PATTERN
+            )
+                .save("head", "parent")
+        );
+    }
+
+}